@@ -0,0 +1,73 @@
+package com.its.application.cli;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.its.business.interfaces.IBulkRegistrationService;
+import com.its.business.interfaces.IUserManagementService;
+import com.its.business.interfaces.IUserManagementService.ImportFormat;
+import com.its.domain.dto.UserImportReportDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Command-line bulk registration: java -jar its-backend.jar --bulk-register=students.csv
+ * Imports the file (.csv, otherwise NDJSON) once the application has started,
+ * prints the report as JSON and exits with 0 on completion or 1 if the import could not run
+ */
+@Component
+public class BulkRegistrationRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkRegistrationRunner.class);
+    static final String OPTION = "bulk-register";
+
+    private final IUserManagementService userManagementService;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext context;
+
+    @Autowired
+    public BulkRegistrationRunner(IUserManagementService userManagementService,
+                                  ObjectMapper objectMapper,
+                                  ConfigurableApplicationContext context) {
+        this.userManagementService = userManagementService;
+        this.objectMapper = objectMapper;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+        int exitCode = importFile(args.getOptionValues(OPTION));
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+
+    private int importFile(List<String> values) {
+        if (values.isEmpty() || values.get(0).isBlank()) {
+            log.error("--{} needs a file, e.g. --{}=students.csv", OPTION, OPTION);
+            return 1;
+        }
+        Path file = Path.of(values.get(0));
+        ImportFormat format = file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv")
+                ? ImportFormat.CSV : ImportFormat.NDJSON;
+        try (InputStream input = Files.newInputStream(file)) {
+            UserImportReportDto report = userManagementService.importUsers(input, format, IBulkRegistrationService.Origin.COMMAND_LINE);
+            System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+            return 0;
+        } catch (Exception e) {
+            log.error("Bulk registration from {} failed: {}", file, e.getMessage(), e);
+            return 1;
+        }
+    }
+}
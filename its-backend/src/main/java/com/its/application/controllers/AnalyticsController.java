@@ -0,0 +1,75 @@
+package com.its.application.controllers;
+
+import com.its.business.interfaces.IAnalyticsService;
+import com.its.business.interfaces.IContentManagementService;
+import com.its.domain.dto.AnalyticsSeriesDto;
+import com.its.domain.entities.AnalyticsMetric;
+import com.its.domain.entities.BucketGranularity;
+import com.its.domain.exceptions.PermissionDeniedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+
+/**
+ * Analytics Controller following Single Responsibility Principle
+ * Serves time-bucketed counters for instructor dashboards; from and to are ISO-8601 instants and default to
+ * the latest buckets ending now
+ */
+@RestController
+@RequestMapping("/analytics")
+@CrossOrigin(origins = "http://localhost:3000")
+@PreAuthorize("hasRole('INSTRUCTOR') or hasRole('ADMIN')")
+public class AnalyticsController {
+
+    private final IAnalyticsService analyticsService;
+    private final IContentManagementService contentService;
+
+    @Autowired
+    public AnalyticsController(IAnalyticsService analyticsService, IContentManagementService contentService) {
+        this.analyticsService = analyticsService;
+        this.contentService = contentService;
+    }
+
+    @GetMapping("/materials/{id}/views")
+    public ResponseEntity<AnalyticsSeriesDto> getMaterialViews(@PathVariable String id,
+                                                               @RequestParam(defaultValue = "DAY") BucketGranularity granularity,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                                               @AuthenticationPrincipal UserDetails userDetails) {
+        if (!contentService.canUserModifyContent(id, userDetails.getUsername(), roleOf(userDetails))) {
+            throw new PermissionDeniedException("Access denied");
+        }
+        return ResponseEntity.ok(analyticsService.getSeries(AnalyticsMetric.MATERIAL_VIEWS, id, granularity, from, to));
+    }
+
+    @GetMapping("/me/views")
+    public ResponseEntity<AnalyticsSeriesDto> getMyMaterialViews(@RequestParam(defaultValue = "DAY") BucketGranularity granularity,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                                                 @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(analyticsService.getSeries(AnalyticsMetric.AUTHOR_MATERIAL_VIEWS,
+                userDetails.getUsername(), granularity, from, to));
+    }
+
+    @GetMapping("/me/materials-created")
+    public ResponseEntity<AnalyticsSeriesDto> getMyMaterialsCreated(@RequestParam(defaultValue = "WEEK") BucketGranularity granularity,
+                                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                                                    @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(analyticsService.getSeries(AnalyticsMetric.MATERIALS_CREATED,
+                userDetails.getUsername(), granularity, from, to));
+    }
+
+    private static String roleOf(UserDetails userDetails) {
+        return userDetails.getAuthorities().stream()
+                .map(authority -> authority.getAuthority().replaceFirst("^ROLE_", ""))
+                .findFirst()
+                .orElse("");
+    }
+}
@@ -7,9 +7,13 @@ import com.its.domain.dto.JwtAuthenticationResponse;
 import com.its.domain.dto.UserResponseDto;
 import com.its.domain.dto.UserProfileUpdateDto;
 import com.its.domain.entities.User;
+import com.its.domain.exceptions.AuthenticationFailedException;
+import com.its.domain.exceptions.ResourceNotFoundException;
 import com.its.infrastructure.security.JwtTokenProvider;
 import com.its.persistence.repositories.UserRepository;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -26,6 +30,8 @@ import org.springframework.web.bind.annotation.RestController;
 @CrossOrigin(origins = "http://localhost:3000")
 public class AuthController {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
     private final IAuthenticationService authenticationService;
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
@@ -41,29 +47,18 @@ public class AuthController {
 
     @PostMapping("/register")
     public ResponseEntity<?> register(@Valid @RequestBody UserRegistrationDto registrationDto) {
-        try {
-            System.out.println("Registration request received for: " + registrationDto.getEmail());
-            JwtAuthenticationResponse response = authenticationService.register(registrationDto);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            System.err.println("Registration error: " + e.getMessage());
-            e.printStackTrace();
-            return ResponseEntity.badRequest().body(e.getMessage());
-        }
+        // Expected failures (duplicate email) are mapped to status codes by GlobalExceptionHandler
+        log.debug("Registration request received for {}", registrationDto.getEmail());
+        JwtAuthenticationResponse response = authenticationService.register(registrationDto);
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody UserLoginDto loginDto) {
-        try {
-            System.out.println("Login request received for: " + loginDto.getEmail());
-            JwtAuthenticationResponse response = authenticationService.login(loginDto);
-            System.out.println("Login successful for: " + loginDto.getEmail());
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            System.err.println("Login error for " + loginDto.getEmail() + ": " + e.getMessage());
-            e.printStackTrace();
-            return ResponseEntity.badRequest().body(e.getMessage());
-        }
+        log.debug("Login request received for {}", loginDto.getEmail());
+        JwtAuthenticationResponse response = authenticationService.login(loginDto);
+        log.debug("Login successful for {}", loginDto.getEmail());
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/me")
@@ -83,42 +78,31 @@ public class AuthController {
     public ResponseEntity<?> updateProfile(
             @Valid @RequestBody UserProfileUpdateDto profileDto,
             @RequestHeader("Authorization") String token) {
-        try {
-            // Extract token from "Bearer <token>"
-            String jwtToken = token.substring(7);
-            String email = jwtTokenProvider.getEmailFromToken(jwtToken);
-            
-            System.out.println("Profile update request for: " + email);
-            
-            // Find user by email
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-            
-            // Update user profile
-            user.getProfile().setFirstName(profileDto.getFirstName());
-            user.getProfile().setLastName(profileDto.getLastName());
-            user.getProfile().setExpertise(profileDto.getExpertise());
-            user.getProfile().setBio(profileDto.getBio());
-            
-            // Save updated user
-            User updatedUser = userRepository.save(user);
-            
-            // Convert to response DTO
-            UserResponseDto responseDto = new UserResponseDto();
-            responseDto.setId(updatedUser.getId());
-            responseDto.setEmail(updatedUser.getEmail());
-            responseDto.setRole(updatedUser.getRole().name());
-            responseDto.setFirstName(updatedUser.getProfile().getFirstName());
-            responseDto.setLastName(updatedUser.getProfile().getLastName());
-            responseDto.setExpertise(updatedUser.getProfile().getExpertise());
-            responseDto.setBio(updatedUser.getProfile().getBio());
-            
-            System.out.println("Profile updated successfully for: " + email);
-            return ResponseEntity.ok(responseDto);
-        } catch (Exception e) {
-            System.err.println("Profile update error: " + e.getMessage());
-            e.printStackTrace();
-            return ResponseEntity.badRequest().body("Failed to update profile: " + e.getMessage());
+        // Extract token from "Bearer <token>"
+        if (!token.startsWith("Bearer ") || !jwtTokenProvider.validateToken(token.substring(7))) {
+            throw new AuthenticationFailedException("Invalid token");
         }
+        String email = jwtTokenProvider.getEmailFromToken(token.substring(7));
+        
+        log.debug("Profile update request for {}", email);
+        
+        // Find user by email
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        
+        // Update user profile
+        user.getProfile().setFirstName(profileDto.getFirstName());
+        user.getProfile().setLastName(profileDto.getLastName());
+        user.getProfile().setExpertise(profileDto.getExpertise());
+        user.getProfile().setBio(profileDto.getBio());
+        
+        // Save updated user
+        User updatedUser = userRepository.save(user);
+        
+        // Convert to response DTO
+        UserResponseDto responseDto = UserResponseDto.fromUser(updatedUser);
+        
+        log.debug("Profile updated successfully for {}", email);
+        return ResponseEntity.ok(responseDto);
     }
 }
\ No newline at end of file
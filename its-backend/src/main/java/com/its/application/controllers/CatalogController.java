@@ -0,0 +1,46 @@
+package com.its.application.controllers;
+
+import com.its.business.interfaces.ICatalogService;
+import com.its.domain.dto.CatalogPageDto;
+import com.its.domain.entities.Course;
+import com.its.domain.entities.LearningMaterial;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Catalog Controller following Single Responsibility Principle
+ * Serves paged, filtered browsing of published materials and courses with facet counts
+ */
+@RestController
+@RequestMapping("/catalog")
+@CrossOrigin(origins = "http://localhost:3000")
+public class CatalogController {
+
+    private final ICatalogService catalogService;
+
+    @Autowired
+    public CatalogController(ICatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @GetMapping("/materials")
+    public ResponseEntity<CatalogPageDto<LearningMaterial>> browseMaterials(@RequestParam(required = false) String difficulty,
+                                                                            @RequestParam(required = false) String type,
+                                                                            @RequestParam(required = false) String format,
+                                                                            @RequestParam(required = false) String tag,
+                                                                            @RequestParam(defaultValue = "0") @Min(0) int page,
+                                                                            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(catalogService.browseMaterials(difficulty, type, format, tag, page, size));
+    }
+
+    @GetMapping("/courses")
+    public ResponseEntity<CatalogPageDto<Course>> browseCourses(@RequestParam(required = false) String subject,
+                                                                @RequestParam(required = false) String difficulty,
+                                                                @RequestParam(defaultValue = "0") @Min(0) int page,
+                                                                @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(catalogService.browseCourses(subject, difficulty, page, size));
+    }
+}
@@ -37,8 +37,9 @@ public class ContentController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<LearningMaterial> getContentById(@PathVariable String id) {
-        return contentService.getContentById(id)
+    public ResponseEntity<LearningMaterial> getContentById(@PathVariable String id,
+                                                           @AuthenticationPrincipal UserDetails userDetails) {
+        return contentService.getContentById(id, userDetails.getUsername(), roleOf(userDetails))
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -59,14 +60,10 @@ public class ContentController {
     @PreAuthorize("hasRole('INSTRUCTOR') or hasRole('ADMIN')")
     public ResponseEntity<?> createContent(@Valid @RequestBody LearningMaterialDto contentDto,
                                          @AuthenticationPrincipal UserDetails userDetails) {
-        try {
-            // In a real implementation, extract user ID from JWT token
-            String createdBy = userDetails.getUsername(); // This would be user ID
-            LearningMaterial material = contentService.createContent(contentDto, createdBy);
-            return ResponseEntity.ok(material);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        }
+        // In a real implementation, extract user ID from JWT token
+        String createdBy = userDetails.getUsername(); // This would be user ID
+        LearningMaterial material = contentService.createContent(contentDto, createdBy);
+        return ResponseEntity.ok(material);
     }
 
     @PutMapping("/{id}")
@@ -74,26 +71,18 @@ public class ContentController {
     public ResponseEntity<?> updateContent(@PathVariable String id,
                                          @Valid @RequestBody LearningMaterialDto contentDto,
                                          @AuthenticationPrincipal UserDetails userDetails) {
-        try {
-            String userId = userDetails.getUsername(); // This would be user ID
-            LearningMaterial material = contentService.updateContent(id, contentDto, userId);
-            return ResponseEntity.ok(material);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        }
+        String userId = userDetails.getUsername(); // This would be user ID
+        LearningMaterial material = contentService.updateContent(id, contentDto, userId);
+        return ResponseEntity.ok(material);
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('INSTRUCTOR') or hasRole('ADMIN')")
     public ResponseEntity<?> deleteContent(@PathVariable String id,
                                          @AuthenticationPrincipal UserDetails userDetails) {
-        try {
-            String userId = userDetails.getUsername(); // This would be user ID
-            boolean deleted = contentService.deleteContent(id, userId);
-            return deleted ? ResponseEntity.ok().build() : ResponseEntity.badRequest().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        }
+        String userId = userDetails.getUsername(); // This would be user ID
+        boolean deleted = contentService.deleteContent(id, userId);
+        return deleted ? ResponseEntity.ok().build() : ResponseEntity.badRequest().build();
     }
 
     @PostMapping("/upload")
@@ -115,4 +104,11 @@ public class ContentController {
         String[] categories = {"TEXT", "VIDEO", "INTERACTIVE_EXERCISE"};
         return ResponseEntity.ok(categories);
     }
-}
\ No newline at end of file
+
+    private static String roleOf(UserDetails userDetails) {
+        return userDetails.getAuthorities().stream()
+                .map(authority -> authority.getAuthority().replaceFirst("^ROLE_", ""))
+                .findFirst()
+                .orElse("");
+    }
+}
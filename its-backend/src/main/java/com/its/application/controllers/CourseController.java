@@ -1,9 +1,18 @@
 package com.its.application.controllers;
 
+import com.its.business.catalog.FacetSnapshot;
+import com.its.business.interfaces.ICascadeDeleteService;
+import com.its.business.interfaces.ICatalogService;
+import com.its.business.interfaces.IInstructorDashboardService;
+import com.its.business.publishing.PublishedContentIndex;
+import com.its.domain.entities.CascadeDeleteJob;
 import com.its.domain.entities.Course;
 import com.its.domain.entities.DifficultyLevel;
+import com.its.domain.entities.InstructorDashboard;
+import com.its.infrastructure.cache.CacheInvalidationBus;
 import com.its.persistence.repositories.CourseRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -11,6 +20,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 /**
  * Course Controller for managing courses
@@ -21,15 +33,30 @@ import java.util.List;
 public class CourseController {
 
     private final CourseRepository courseRepository;
+    private final ICascadeDeleteService cascadeDeleteService;
+    private final ICatalogService catalogService;
+    private final IInstructorDashboardService dashboardService;
+    private final PublishedContentIndex publishedIndex;
+    private final CacheInvalidationBus invalidationBus;
 
     @Autowired
-    public CourseController(CourseRepository courseRepository) {
+    public CourseController(CourseRepository courseRepository,
+                            ICascadeDeleteService cascadeDeleteService,
+                            ICatalogService catalogService,
+                            IInstructorDashboardService dashboardService,
+                            PublishedContentIndex publishedIndex,
+                            CacheInvalidationBus invalidationBus) {
         this.courseRepository = courseRepository;
+        this.cascadeDeleteService = cascadeDeleteService;
+        this.catalogService = catalogService;
+        this.dashboardService = dashboardService;
+        this.publishedIndex = publishedIndex;
+        this.invalidationBus = invalidationBus;
     }
 
     @GetMapping
     public ResponseEntity<List<Course>> getAllCourses() {
-        List<Course> courses = courseRepository.findAll();
+        List<Course> courses = courseRepository.findForListing(new Criteria());
         return ResponseEntity.ok(courses);
     }
 
@@ -42,7 +69,7 @@ public class CourseController {
 
     @GetMapping("/published")
     public ResponseEntity<List<Course>> getPublishedCourses() {
-        List<Course> courses = courseRepository.findByPublished(true);
+        List<Course> courses = publishedIndex.publishedCourses();
         return ResponseEntity.ok(courses);
     }
 
@@ -50,7 +77,7 @@ public class CourseController {
     public ResponseEntity<List<Course>> getCoursesByDifficulty(@PathVariable String level) {
         try {
             DifficultyLevel difficulty = DifficultyLevel.valueOf(level.toUpperCase());
-            List<Course> courses = courseRepository.findByDifficulty(difficulty);
+            List<Course> courses = courseRepository.findForListing(where("difficulty").is(difficulty));
             return ResponseEntity.ok(courses);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -59,27 +86,27 @@ public class CourseController {
 
     @GetMapping("/subject/{subject}")
     public ResponseEntity<List<Course>> getCoursesBySubject(@PathVariable String subject) {
-        List<Course> courses = courseRepository.findBySubject(subject);
+        List<Course> courses = courseRepository.findForListing(where("subject").is(subject));
         return ResponseEntity.ok(courses);
     }
 
     @GetMapping("/search")
     public ResponseEntity<List<Course>> searchCourses(@RequestParam String query) {
-        List<Course> courses = courseRepository.findByTitleContainingIgnoreCase(query);
+        List<Course> courses = courseRepository.findForListing(where("title").regex(Pattern.quote(query), "i"));
         return ResponseEntity.ok(courses);
     }
 
     @PostMapping
     @PreAuthorize("hasRole('INSTRUCTOR') or hasRole('ADMIN')")
-    public ResponseEntity<?> createCourse(@RequestBody Course course,
-                                         @AuthenticationPrincipal UserDetails userDetails) {
-        try {
-            course.setCreatedBy(userDetails.getUsername());
-            Course savedCourse = courseRepository.save(course);
-            return ResponseEntity.ok(savedCourse);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        }
+    public ResponseEntity<Course> createCourse(@RequestBody Course course,
+                                               @AuthenticationPrincipal UserDetails userDetails) {
+        course.setCreatedBy(userDetails.getUsername());
+        Course savedCourse = courseRepository.save(course);
+        catalogService.recordChange(FacetSnapshot.none(FacetSnapshot.COURSES), FacetSnapshot.of(savedCourse));
+        invalidationBus.invalidateAll(CacheInvalidationBus.PUBLISHED_COURSES);
+        dashboardService.recordChange(savedCourse.getCreatedBy(), InstructorDashboard.COURSES, null,
+                InstructorDashboard.Item.of(savedCourse));
+        return ResponseEntity.ok(savedCourse);
     }
 
     @PutMapping("/{id}")
@@ -94,7 +121,9 @@ public class CourseController {
                     if (!course.getCreatedBy().equals(userId)) {
                         return ResponseEntity.status(403).body("Unauthorized to update this course");
                     }
-                    
+
+                    FacetSnapshot before = FacetSnapshot.of(course);
+                    InstructorDashboard.Item dashboardBefore = InstructorDashboard.Item.of(course);
                     course.setTitle(courseUpdate.getTitle());
                     course.setDescription(courseUpdate.getDescription());
                     course.setSubject(courseUpdate.getSubject());
@@ -102,6 +131,10 @@ public class CourseController {
                     course.setPublished(courseUpdate.isPublished());
                     
                     Course savedCourse = courseRepository.save(course);
+                    catalogService.recordChange(before, FacetSnapshot.of(savedCourse));
+                    invalidationBus.invalidateAll(CacheInvalidationBus.PUBLISHED_COURSES);
+                    dashboardService.recordChange(savedCourse.getCreatedBy(), InstructorDashboard.COURSES,
+                            dashboardBefore, InstructorDashboard.Item.of(savedCourse));
                     return ResponseEntity.ok(savedCourse);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -119,7 +152,13 @@ public class CourseController {
                     }
                     
                     courseRepository.delete(course);
-                    return ResponseEntity.ok().build();
+                    catalogService.recordChange(FacetSnapshot.of(course), FacetSnapshot.none(FacetSnapshot.COURSES));
+                    invalidationBus.invalidateAll(CacheInvalidationBus.PUBLISHED_COURSES);
+                    dashboardService.recordChange(course.getCreatedBy(), InstructorDashboard.COURSES,
+                            InstructorDashboard.Item.of(course), null);
+                    // Topics, materials, history and files are removed by a background job
+                    CascadeDeleteJob job = cascadeDeleteService.scheduleCourseDeletion(id, userId);
+                    return ResponseEntity.accepted().body(job);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
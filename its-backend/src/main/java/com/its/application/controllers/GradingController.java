@@ -0,0 +1,57 @@
+package com.its.application.controllers;
+
+import com.its.business.interfaces.IGradingService;
+import com.its.domain.dto.BatchGradingResultDto;
+import com.its.domain.dto.GradingResultDto;
+import com.its.domain.dto.QuizSubmissionDto;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Grading Controller following Single Responsibility Principle
+ * Handles quiz submission and whole-class batch grading requests
+ */
+@RestController
+@RequestMapping("/grading")
+@CrossOrigin(origins = "http://localhost:3000")
+public class GradingController {
+
+    private final IGradingService gradingService;
+
+    @Autowired
+    public GradingController(IGradingService gradingService) {
+        this.gradingService = gradingService;
+    }
+
+    @PostMapping("/{materialId}/submit")
+    public ResponseEntity<GradingResultDto> submit(@PathVariable String materialId,
+                                                   @Valid @RequestBody QuizSubmissionDto submission,
+                                                   @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(gradingService.grade(materialId, submission, userDetails.getUsername()));
+    }
+
+    @PostMapping("/{materialId}/batch")
+    @PreAuthorize("hasRole('INSTRUCTOR') or hasRole('ADMIN')")
+    public ResponseEntity<BatchGradingResultDto> gradeBatch(@PathVariable String materialId,
+                                                            @RequestBody @NotEmpty @Size(max = 1000) List<@Valid QuizSubmissionDto> submissions,
+                                                            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(gradingService.gradeBatch(materialId, submissions,
+                userDetails.getUsername(), roleOf(userDetails)));
+    }
+
+    private static String roleOf(UserDetails userDetails) {
+        return userDetails.getAuthorities().stream()
+                .map(authority -> authority.getAuthority().replaceFirst("^ROLE_", ""))
+                .findFirst()
+                .orElse("");
+    }
+}
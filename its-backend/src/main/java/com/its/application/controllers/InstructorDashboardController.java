@@ -0,0 +1,33 @@
+package com.its.application.controllers;
+
+import com.its.business.interfaces.IInstructorDashboardService;
+import com.its.domain.entities.InstructorDashboard;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Instructor Dashboard Controller following Single Responsibility Principle
+ * Serves the current instructor's course and material counts and recent items in one read
+ */
+@RestController
+@RequestMapping("/dashboard")
+@CrossOrigin(origins = "http://localhost:3000")
+public class InstructorDashboardController {
+
+    private final IInstructorDashboardService dashboardService;
+
+    @Autowired
+    public InstructorDashboardController(IInstructorDashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping("/me")
+    @PreAuthorize("hasRole('INSTRUCTOR') or hasRole('ADMIN')")
+    public ResponseEntity<InstructorDashboard> getMyDashboard(@AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(dashboardService.getDashboard(userDetails.getUsername()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.its.application.controllers;
+
+import com.its.business.interfaces.ILearnerProgressService;
+import com.its.domain.dto.LearningEventDto;
+import com.its.domain.entities.TopicProgress;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Progress Controller following Single Responsibility Principle
+ * Accepts learner interaction events and serves rolled-up progress for the current user
+ */
+@RestController
+@RequestMapping("/progress")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ProgressController {
+
+    private final ILearnerProgressService progressService;
+
+    @Autowired
+    public ProgressController(ILearnerProgressService progressService) {
+        this.progressService = progressService;
+    }
+
+    @PostMapping("/events")
+    public ResponseEntity<Map<String, Integer>> recordEvent(@Valid @RequestBody LearningEventDto event,
+                                                            @AuthenticationPrincipal UserDetails userDetails) {
+        int accepted = progressService.recordEvents(userDetails.getUsername(), List.of(event));
+        return ResponseEntity.accepted().body(Map.of("accepted", accepted));
+    }
+
+    @PostMapping("/events/batch")
+    public ResponseEntity<Map<String, Integer>> recordEvents(@RequestBody @NotEmpty @Size(max = 1000) List<@Valid LearningEventDto> events,
+                                                             @AuthenticationPrincipal UserDetails userDetails) {
+        int accepted = progressService.recordEvents(userDetails.getUsername(), events);
+        return ResponseEntity.accepted().body(Map.of("accepted", accepted));
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<List<TopicProgress>> getMyProgress(@AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(progressService.getProgress(userDetails.getUsername()));
+    }
+
+    @GetMapping("/me/topics/{topicId}")
+    public ResponseEntity<TopicProgress> getMyTopicProgress(@PathVariable String topicId,
+                                                            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(progressService.getTopicProgress(userDetails.getUsername(), topicId));
+    }
+
+    /**
+     * Recomputes a learner's progress from their stored events, for repairing drift
+     */
+    @PostMapping("/users/{userId}/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> rebuildProgress(@PathVariable String userId) {
+        return ResponseEntity.ok(Map.of("topics", progressService.rebuildProgress(userId)));
+    }
+}
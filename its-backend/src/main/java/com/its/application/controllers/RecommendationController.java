@@ -0,0 +1,37 @@
+package com.its.application.controllers;
+
+import com.its.business.interfaces.IRecommendationService;
+import com.its.domain.dto.RecommendationDto;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Recommendation Controller following Single Responsibility Principle
+ * Serves next-material suggestions for the current user
+ */
+@RestController
+@RequestMapping("/recommendations")
+@CrossOrigin(origins = "http://localhost:3000")
+public class RecommendationController {
+
+    private final IRecommendationService recommendationService;
+
+    @Autowired
+    public RecommendationController(IRecommendationService recommendationService) {
+        this.recommendationService = recommendationService;
+    }
+
+    @GetMapping("/next")
+    public ResponseEntity<List<RecommendationDto>> getNext(@RequestParam(required = false) String topicId,
+                                                           @RequestParam(defaultValue = "5") @Min(1) @Max(20) int limit,
+                                                           @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(recommendationService.recommendNext(userDetails.getUsername(), topicId, limit));
+    }
+}
@@ -1,13 +1,22 @@
 package com.its.application.controllers;
 
+import com.its.business.interfaces.ICascadeDeleteService;
+import com.its.domain.entities.CascadeDeleteJob;
 import com.its.domain.entities.Topic;
+import com.its.infrastructure.cache.CacheInvalidationBus;
 import com.its.persistence.repositories.TopicRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 /**
  * Topic Controller for managing topics within courses
@@ -18,15 +27,21 @@ import java.util.List;
 public class TopicController {
 
     private final TopicRepository topicRepository;
+    private final ICascadeDeleteService cascadeDeleteService;
+    private final CacheInvalidationBus invalidationBus;
 
     @Autowired
-    public TopicController(TopicRepository topicRepository) {
+    public TopicController(TopicRepository topicRepository,
+                           ICascadeDeleteService cascadeDeleteService,
+                           CacheInvalidationBus invalidationBus) {
         this.topicRepository = topicRepository;
+        this.cascadeDeleteService = cascadeDeleteService;
+        this.invalidationBus = invalidationBus;
     }
 
     @GetMapping
     public ResponseEntity<List<Topic>> getAllTopics() {
-        List<Topic> topics = topicRepository.findAll();
+        List<Topic> topics = topicRepository.findForListing(new Criteria());
         return ResponseEntity.ok(topics);
     }
 
@@ -39,25 +54,21 @@ public class TopicController {
 
     @GetMapping("/course/{courseId}")
     public ResponseEntity<List<Topic>> getTopicsByCourse(@PathVariable String courseId) {
-        List<Topic> topics = topicRepository.findByCourseId(courseId);
+        List<Topic> topics = topicRepository.findForListing(where("courseId").is(courseId));
         return ResponseEntity.ok(topics);
     }
 
     @GetMapping("/search")
     public ResponseEntity<List<Topic>> searchTopics(@RequestParam String query) {
-        List<Topic> topics = topicRepository.findByNameContainingIgnoreCase(query);
+        List<Topic> topics = topicRepository.findForListing(where("name").regex(Pattern.quote(query), "i"));
         return ResponseEntity.ok(topics);
     }
 
     @PostMapping
     @PreAuthorize("hasRole('INSTRUCTOR') or hasRole('ADMIN')")
-    public ResponseEntity<?> createTopic(@RequestBody Topic topic) {
-        try {
-            Topic savedTopic = topicRepository.save(topic);
-            return ResponseEntity.ok(savedTopic);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        }
+    public ResponseEntity<Topic> createTopic(@RequestBody Topic topic) {
+        Topic savedTopic = topicRepository.save(topic);
+        return ResponseEntity.ok(savedTopic);
     }
 
     @PutMapping("/{id}")
@@ -71,6 +82,8 @@ public class TopicController {
                     topic.setCourseId(topicUpdate.getCourseId());
                     
                     Topic savedTopic = topicRepository.save(topic);
+                    // The topic may have moved to another course
+                    invalidationBus.invalidate(CacheInvalidationBus.RECOMMENDATIONS, List.of(id));
                     return ResponseEntity.ok(savedTopic);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -78,11 +91,15 @@ public class TopicController {
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('INSTRUCTOR') or hasRole('ADMIN')")
-    public ResponseEntity<?> deleteTopic(@PathVariable String id) {
+    public ResponseEntity<?> deleteTopic(@PathVariable String id,
+                                        @AuthenticationPrincipal UserDetails userDetails) {
         return topicRepository.findById(id)
                 .map(topic -> {
                     topicRepository.delete(topic);
-                    return ResponseEntity.ok().build();
+                    invalidationBus.invalidate(CacheInvalidationBus.RECOMMENDATIONS, List.of(id));
+                    // Materials, history and files are removed by a background job
+                    CascadeDeleteJob job = cascadeDeleteService.scheduleTopicDeletion(id, userDetails.getUsername());
+                    return ResponseEntity.accepted().body(job);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
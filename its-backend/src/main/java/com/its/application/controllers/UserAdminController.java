@@ -0,0 +1,122 @@
+package com.its.application.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.its.business.interfaces.IBulkRegistrationService;
+import com.its.business.interfaces.IUserManagementService;
+import com.its.business.interfaces.IUserManagementService.ImportFormat;
+import com.its.domain.dto.UserImportReportDto;
+import com.its.domain.dto.UserPageDto;
+import com.its.domain.dto.UserRegistrationDto;
+import com.its.domain.dto.UserResponseDto;
+import com.its.domain.entities.UserRole;
+import com.its.domain.exceptions.ResourceNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User Administration Controller following Single Responsibility Principle
+ * Paged and streamed user listings, bulk activation changes and bulk imports for administrators
+ */
+@RestController
+@RequestMapping("/admin/users")
+@CrossOrigin(origins = "http://localhost:3000")
+@PreAuthorize("hasRole('ADMIN')")
+public class UserAdminController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final IUserManagementService userManagementService;
+    private final IBulkRegistrationService bulkRegistrationService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public UserAdminController(IUserManagementService userManagementService,
+                               IBulkRegistrationService bulkRegistrationService,
+                               ObjectMapper objectMapper) {
+        this.userManagementService = userManagementService;
+        this.bulkRegistrationService = bulkRegistrationService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping
+    public ResponseEntity<UserPageDto> getUsers(@RequestParam(required = false) UserRole role,
+                                                @RequestParam(required = false) String after,
+                                                @RequestParam(defaultValue = "100") @Min(1) @Max(1000) int size) {
+        return ResponseEntity.ok(userManagementService.getUsersPage(role, after, size));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<UserResponseDto> getUser(@PathVariable String id) {
+        return userManagementService.findUserById(id)
+                .map(UserResponseDto::fromUser)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    /**
+     * Writes every matching user as one JSON object per line straight from the cursor,
+     * so exporting a whole institution never holds the result set in memory
+     */
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void exportUsers(@RequestParam(required = false) UserRole role,
+                            HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        OutputStream out = response.getOutputStream();
+        userManagementService.streamUsers(role, user -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(UserResponseDto.fromUser(user)));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
+
+    @PostMapping("/deactivate")
+    public ResponseEntity<Map<String, Long>> deactivateUsers(@RequestBody @NotEmpty @Size(max = 10000) List<String> userIds) {
+        return ResponseEntity.ok(Map.of("updated", userManagementService.setActive(userIds, false)));
+    }
+
+    @PostMapping("/activate")
+    public ResponseEntity<Map<String, Long>> activateUsers(@RequestBody @NotEmpty @Size(max = 10000) List<String> userIds) {
+        return ResponseEntity.ok(Map.of("updated", userManagementService.setActive(userIds, true)));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<UserImportReportDto> importCsv(InputStream body) {
+        return ResponseEntity.ok(userManagementService.importUsers(body, ImportFormat.CSV, IBulkRegistrationService.Origin.REQUEST));
+    }
+
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<UserImportReportDto> importNdjson(InputStream body) {
+        return ResponseEntity.ok(userManagementService.importUsers(body, ImportFormat.NDJSON, IBulkRegistrationService.Origin.REQUEST));
+    }
+
+    /**
+     * Rows are validated individually so one bad entry does not reject the whole request
+     */
+    @PostMapping("/bulk-register")
+    public ResponseEntity<UserImportReportDto> bulkRegister(@RequestBody @NotEmpty List<UserRegistrationDto> registrations) {
+        List<IBulkRegistrationService.Row> rows = new ArrayList<>(registrations.size());
+        for (int i = 0; i < registrations.size(); i++) {
+            rows.add(new IBulkRegistrationService.Row(i + 1, registrations.get(i)));
+        }
+        return ResponseEntity.ok(bulkRegistrationService.register(rows, IBulkRegistrationService.Origin.REQUEST));
+    }
+}
@@ -0,0 +1,61 @@
+package com.its.business.catalog;
+
+import com.its.domain.entities.Course;
+import com.its.domain.entities.LearningMaterial;
+
+import java.util.*;
+
+/**
+ * The facet values an item contributes to its catalogue scope at one point in time
+ * Unpublished items contribute nothing; every published item counts once under TOTAL
+ */
+public record FacetSnapshot(String scope, Map<String, Set<String>> values) {
+
+    public static final String MATERIALS = "materials";
+    public static final String COURSES = "courses";
+    public static final String TOTAL = "total";
+    static final String TOTAL_VALUE = "all";
+
+    public static final List<String> MATERIAL_DIMENSIONS = List.of("difficulty", "type", "format", "tag");
+    public static final List<String> COURSE_DIMENSIONS = List.of("subject", "difficulty");
+
+    public static FacetSnapshot none(String scope) {
+        return new FacetSnapshot(scope, Map.of());
+    }
+
+    public static FacetSnapshot of(LearningMaterial material) {
+        if (material == null || !material.isPublished()) {
+            return none(MATERIALS);
+        }
+        Map<String, Set<String>> values = new HashMap<>();
+        values.put(TOTAL, Set.of(TOTAL_VALUE));
+        put(values, "difficulty", material.getDifficulty());
+        put(values, "type", material.getType());
+        put(values, "format", material.getFormat());
+        if (material.getTags() != null) {
+            for (String tag : material.getTags()) {
+                put(values, "tag", tag);
+            }
+        }
+        return new FacetSnapshot(MATERIALS, values);
+    }
+
+    public static FacetSnapshot of(Course course) {
+        if (course == null || !course.isPublished()) {
+            return none(COURSES);
+        }
+        Map<String, Set<String>> values = new HashMap<>();
+        values.put(TOTAL, Set.of(TOTAL_VALUE));
+        put(values, "subject", course.getSubject());
+        put(values, "difficulty", course.getDifficulty());
+        return new FacetSnapshot(COURSES, values);
+    }
+
+    private static void put(Map<String, Set<String>> values, String dimension, Object value) {
+        if (value == null || value.toString().isBlank()) {
+            return;
+        }
+        String text = value instanceof Enum<?> constant ? constant.name() : value.toString();
+        values.computeIfAbsent(dimension, key -> new HashSet<>()).add(text);
+    }
+}
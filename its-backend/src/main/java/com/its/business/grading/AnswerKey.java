@@ -0,0 +1,86 @@
+package com.its.business.grading;
+
+import com.its.domain.dto.GradingResultDto;
+import com.its.domain.dto.QuestionResultDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable, compiled answer key of one material version
+ * Built once by AnswerKeyCompiler and shared by all concurrent gradings of that version
+ */
+public final class AnswerKey {
+
+    private final String materialId;
+    private final int contentVersion;
+    private final LocalDateTime lastModifiedDate;
+    private final double passingScore;
+    private final double maxScore;
+    private final CompiledQuestion[] questions;
+
+    AnswerKey(String materialId, int contentVersion, LocalDateTime lastModifiedDate,
+              double passingScore, List<CompiledQuestion> questions) {
+        this.materialId = materialId;
+        this.contentVersion = contentVersion;
+        this.lastModifiedDate = lastModifiedDate;
+        this.passingScore = passingScore;
+        this.questions = questions.toArray(new CompiledQuestion[0]);
+        double total = 0;
+        for (CompiledQuestion question : this.questions) {
+            total += question.points();
+        }
+        this.maxScore = total;
+    }
+
+    /**
+     * True when this key was compiled from the given version of the material
+     */
+    public boolean isVersion(int contentVersion, LocalDateTime lastModifiedDate) {
+        return this.contentVersion == contentVersion && Objects.equals(this.lastModifiedDate, lastModifiedDate);
+    }
+
+    public GradingResultDto grade(String studentId, Map<String, Object> answers) {
+        List<QuestionResultDto> results = new ArrayList<>(questions.length);
+        double score = 0;
+        for (CompiledQuestion question : questions) {
+            double awarded = question.score(answers.get(question.id()));
+            score += awarded;
+            results.add(new QuestionResultDto(question.id(), awarded, question.points()));
+        }
+
+        GradingResultDto result = new GradingResultDto();
+        result.setMaterialId(materialId);
+        result.setContentVersion(contentVersion);
+        result.setStudentId(studentId);
+        result.setScore(score);
+        result.setMaxScore(maxScore);
+        result.setPercentage(maxScore == 0 ? 0 : score * 100 / maxScore);
+        result.setPassed(maxScore > 0 && score / maxScore >= passingScore);
+        result.setQuestions(results);
+        return result;
+    }
+
+    public String getMaterialId() {
+        return materialId;
+    }
+
+    public int getContentVersion() {
+        return contentVersion;
+    }
+
+    public double getPassingScore() {
+        return passingScore;
+    }
+
+    public double getMaxScore() {
+        return maxScore;
+    }
+
+    public int getQuestionCount() {
+        return questions.length;
+    }
+}
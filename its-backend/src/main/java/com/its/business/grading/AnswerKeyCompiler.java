@@ -0,0 +1,131 @@
+package com.its.business.grading;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.its.domain.entities.LearningMaterial;
+import com.its.domain.exceptions.GradingException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Compiles the quiz JSON stored in LearningMaterial.content into an AnswerKey
+ *
+ * Expected format:
+ * { "passingScore": 0.6,
+ *   "questions": [
+ *     { "id": "q1", "type": "SINGLE_CHOICE", "points": 1, "answer": "b" },
+ *     { "id": "q2", "type": "TRUE_FALSE", "answer": true },
+ *     { "id": "q3", "type": "MULTIPLE_CHOICE", "answers": ["a", "c"], "partialCredit": true },
+ *     { "id": "q4", "type": "SHORT_ANSWER", "accepted": ["Paris"], "caseSensitive": false },
+ *     { "id": "q5", "type": "NUMERIC", "answer": 3.14, "tolerance": 0.01 } ] }
+ * Other fields such as "prompt" or "options" are for display and ignored here. Only the owner and admins
+ * read the document as stored; everyone else gets the AnswerRedactor view without the answer fields.
+ */
+@Component
+public class AnswerKeyCompiler {
+
+    private static final double DEFAULT_PASSING_SCORE = 0.6;
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public AnswerKeyCompiler(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public AnswerKey compile(LearningMaterial material) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(material.getContent() == null ? "" : material.getContent());
+        } catch (JsonProcessingException e) {
+            throw new GradingException("Answer key is not valid JSON: " + e.getOriginalMessage());
+        }
+        if (root == null || !root.path("questions").isArray() || root.path("questions").isEmpty()) {
+            throw new GradingException("Answer key must contain a non-empty questions array");
+        }
+
+        double passingScore = root.path("passingScore").asDouble(DEFAULT_PASSING_SCORE);
+        if (passingScore < 0 || passingScore > 1) {
+            throw new GradingException("passingScore must be between 0 and 1");
+        }
+
+        List<CompiledQuestion> questions = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        for (JsonNode node : root.path("questions")) {
+            CompiledQuestion question = compileQuestion(node);
+            if (!ids.add(question.id())) {
+                throw new GradingException("Duplicate question id: " + question.id());
+            }
+            questions.add(question);
+        }
+        return new AnswerKey(material.getId(), material.getContentVersion(), material.getLastModifiedDate(),
+                passingScore, questions);
+    }
+
+    private CompiledQuestion compileQuestion(JsonNode node) {
+        String id = node.path("id").asText("");
+        if (id.isBlank()) {
+            throw new GradingException("Every question needs an id");
+        }
+        double points = node.path("points").asDouble(1);
+        if (points <= 0) {
+            throw new GradingException("Question " + id + " must be worth more than 0 points");
+        }
+
+        String type = node.path("type").asText("").toUpperCase(Locale.ROOT);
+        switch (type) {
+            case "SINGLE_CHOICE", "TRUE_FALSE" -> {
+                return new CompiledQuestion.SingleChoice(id, points,
+                        CompiledQuestion.normalize(required(node, "answer", id).asText()));
+            }
+            case "MULTIPLE_CHOICE" -> {
+                Set<String> answers = new HashSet<>();
+                for (JsonNode answer : requiredArray(node, "answers", id)) {
+                    answers.add(CompiledQuestion.normalize(answer.asText()));
+                }
+                return new CompiledQuestion.MultipleChoice(id, points, Set.copyOf(answers),
+                        node.path("partialCredit").asBoolean(false));
+            }
+            case "SHORT_ANSWER" -> {
+                boolean caseSensitive = node.path("caseSensitive").asBoolean(false);
+                Set<String> accepted = new HashSet<>();
+                for (JsonNode answer : requiredArray(node, "accepted", id)) {
+                    String text = answer.asText().trim();
+                    accepted.add(caseSensitive ? text : text.toLowerCase(Locale.ROOT));
+                }
+                return new CompiledQuestion.ShortAnswer(id, points, Set.copyOf(accepted), caseSensitive);
+            }
+            case "NUMERIC" -> {
+                JsonNode answer = required(node, "answer", id);
+                if (!answer.isNumber()) {
+                    throw new GradingException("Question " + id + " needs a numeric answer");
+                }
+                double tolerance = node.path("tolerance").asDouble(0);
+                if (tolerance < 0) {
+                    throw new GradingException("Question " + id + " has a negative tolerance");
+                }
+                return new CompiledQuestion.Numeric(id, points, answer.doubleValue(), tolerance);
+            }
+            default -> throw new GradingException("Question " + id + " has unsupported type: " + type);
+        }
+    }
+
+    private JsonNode required(JsonNode node, String field, String id) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull() || value.isContainerNode()) {
+            throw new GradingException("Question " + id + " is missing " + field);
+        }
+        return value;
+    }
+
+    private JsonNode requiredArray(JsonNode node, String field, String id) {
+        JsonNode value = node.get(field);
+        if (value == null || !value.isArray() || value.isEmpty()) {
+            throw new GradingException("Question " + id + " needs a non-empty " + field + " array");
+        }
+        return value;
+    }
+}
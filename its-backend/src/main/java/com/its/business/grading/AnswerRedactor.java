@@ -0,0 +1,53 @@
+package com.its.business.grading;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Produces the student view of quiz JSON in the format read by AnswerKeyCompiler
+ * The answer fields are removed from every question; display fields such as "prompt" and "options" are kept.
+ * Content that is not a quiz document is returned unchanged.
+ */
+@Component
+public class AnswerRedactor {
+
+    private static final List<String> ANSWER_FIELDS = List.of("answer", "answers", "accepted", "tolerance");
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public AnswerRedactor(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String redact(String content) {
+        if (content == null || content.isBlank()) {
+            return content;
+        }
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(content);
+        } catch (JsonProcessingException e) {
+            return content;
+        }
+        if (root == null || !root.path("questions").isArray()) {
+            return content;
+        }
+        for (JsonNode question : root.path("questions")) {
+            if (question instanceof ObjectNode fields) {
+                fields.remove(ANSWER_FIELDS);
+            }
+        }
+        try {
+            return objectMapper.writeValueAsString(root);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write redacted quiz", e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.its.business.grading;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * One question of a compiled answer key
+ * Expected answers are normalized at compile time so scoring a response only compares values
+ */
+public sealed interface CompiledQuestion {
+
+    String id();
+
+    double points();
+
+    /**
+     * Points awarded for a response as bound from JSON (String, Number, Boolean or List), null when unanswered
+     */
+    double score(Object response);
+
+    record SingleChoice(String id, double points, String answer) implements CompiledQuestion {
+        @Override
+        public double score(Object response) {
+            return response != null && answer.equals(normalize(response)) ? points : 0;
+        }
+    }
+
+    record MultipleChoice(String id, double points, Set<String> answers, boolean partialCredit)
+            implements CompiledQuestion {
+        @Override
+        public double score(Object response) {
+            if (!(response instanceof Collection<?> selected)) {
+                return 0;
+            }
+            Set<String> chosen = new HashSet<>(selected.size() * 2);
+            for (Object option : selected) {
+                chosen.add(normalize(option));
+            }
+            if (!partialCredit) {
+                return chosen.equals(answers) ? points : 0;
+            }
+            int correct = 0;
+            for (String option : chosen) {
+                if (answers.contains(option)) {
+                    correct++;
+                }
+            }
+            int wrong = chosen.size() - correct;
+            return points * Math.max(0, correct - wrong) / answers.size();
+        }
+    }
+
+    record ShortAnswer(String id, double points, Set<String> accepted, boolean caseSensitive)
+            implements CompiledQuestion {
+        @Override
+        public double score(Object response) {
+            if (response == null) {
+                return 0;
+            }
+            String text = response.toString().trim();
+            return accepted.contains(caseSensitive ? text : text.toLowerCase(Locale.ROOT)) ? points : 0;
+        }
+    }
+
+    record Numeric(String id, double points, double answer, double tolerance) implements CompiledQuestion {
+        @Override
+        public double score(Object response) {
+            double value;
+            if (response instanceof Number number) {
+                value = number.doubleValue();
+            } else if (response instanceof String text) {
+                try {
+                    value = Double.parseDouble(text.trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            } else {
+                return 0;
+            }
+            return Math.abs(value - answer) <= tolerance ? points : 0;
+        }
+    }
+
+    /**
+     * Choice answers compare case-insensitively, so "B", "b" and true/"true" match
+     */
+    static String normalize(Object value) {
+        return value.toString().trim().toLowerCase(Locale.ROOT);
+    }
+}
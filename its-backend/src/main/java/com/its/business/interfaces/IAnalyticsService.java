@@ -0,0 +1,24 @@
+package com.its.business.interfaces;
+
+import com.its.domain.dto.AnalyticsSeriesDto;
+import com.its.domain.entities.AnalyticsMetric;
+import com.its.domain.entities.BucketGranularity;
+
+import java.time.Instant;
+
+/**
+ * Analytics Service Interface following Interface Segregation Principle
+ * Counts are accumulated in memory and flushed periodically, so series lag recording by up to one flush interval
+ */
+public interface IAnalyticsService {
+
+    void record(AnalyticsMetric metric, String scope);
+
+    /**
+     * Null bounds default to the latest analytics.default-points buckets ending now
+     */
+    AnalyticsSeriesDto getSeries(AnalyticsMetric metric, String scope, BucketGranularity granularity,
+                                 Instant from, Instant to);
+
+    void flush();
+}
@@ -0,0 +1,26 @@
+package com.its.business.interfaces;
+
+import com.its.domain.dto.UserImportReportDto;
+import com.its.domain.dto.UserRegistrationDto;
+
+import java.util.List;
+
+/**
+ * Bulk Registration Service Interface following Interface Segregation Principle
+ */
+public interface IBulkRegistrationService {
+
+    /**
+     * One registration with its 1-based position in the input, used to report failures
+     */
+    record Row(long line, UserRegistrationDto registration) {}
+
+    /**
+     * Where an import runs; HTTP requests get a lower row cap and a smaller hashing pool than the command line
+     */
+    enum Origin { REQUEST, COMMAND_LINE }
+
+    UserImportReportDto register(List<Row> rows, Origin origin);
+
+    int maxRows(Origin origin);
+}
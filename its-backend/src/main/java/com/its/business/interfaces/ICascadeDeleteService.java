@@ -0,0 +1,20 @@
+package com.its.business.interfaces;
+
+import com.its.domain.entities.CascadeDeleteJob;
+
+import java.util.Optional;
+
+/**
+ * Cascade Delete Service Interface following Interface Segregation Principle
+ * Removes documents and files that belong to a deleted course or topic
+ */
+public interface ICascadeDeleteService {
+    
+    CascadeDeleteJob scheduleCourseDeletion(String courseId, String requestedBy);
+    
+    CascadeDeleteJob scheduleTopicDeletion(String topicId, String requestedBy);
+    
+    Optional<CascadeDeleteJob> getJob(String jobId);
+    
+    void runPendingJobs();
+}
@@ -0,0 +1,32 @@
+package com.its.business.interfaces;
+
+import com.its.business.catalog.FacetSnapshot;
+import com.its.domain.dto.CatalogPageDto;
+import com.its.domain.entities.Course;
+import com.its.domain.entities.LearningMaterial;
+
+import java.util.List;
+
+/**
+ * Catalog Service Interface following Interface Segregation Principle
+ * Faceted browsing of published materials and courses backed by maintained facet counts
+ */
+public interface ICatalogService {
+
+    CatalogPageDto<LearningMaterial> browseMaterials(String difficulty, String type, String format, String tag,
+                                                     int page, int size);
+
+    CatalogPageDto<Course> browseCourses(String subject, String difficulty, int page, int size);
+
+    /**
+     * Applies the facet count difference between two states of the same item.
+     */
+    void recordChange(FacetSnapshot before, FacetSnapshot after);
+
+    /**
+     * Removes the facet counts of many deleted items in one write.
+     */
+    void recordRemovals(String scope, List<FacetSnapshot> removed);
+
+    void reconcile();
+}
@@ -0,0 +1,29 @@
+package com.its.business.interfaces;
+
+import com.its.domain.entities.LearningMaterial;
+
+import java.util.Collection;
+
+/**
+ * Content Body Service Interface following Interface Segregation Principle
+ * Stores material bodies apart from the listing metadata
+ */
+public interface IContentBodyService {
+
+    /**
+     * Stores or replaces the body of a material; a null body removes it.
+     */
+    void saveBody(String materialId, String content);
+
+    /**
+     * Returns the stored body, or the inline body of a material that has not been migrated yet.
+     */
+    String loadBody(LearningMaterial material);
+
+    void deleteBodies(Collection<String> materialIds);
+
+    /**
+     * Moves one batch of inline bodies to the body collection and returns how many were moved.
+     */
+    int migrateInlineBodies();
+}
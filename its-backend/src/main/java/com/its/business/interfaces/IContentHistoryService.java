@@ -0,0 +1,23 @@
+package com.its.business.interfaces;
+
+import com.its.domain.entities.LearningMaterial;
+
+import java.util.List;
+
+/**
+ * Content History Service Interface following Interface Segregation Principle
+ * Records content versions without blocking the content write path
+ */
+public interface IContentHistoryService {
+
+    void recordChange(LearningMaterial material, String changeDescription, String changedBy, int version);
+
+    /**
+     * Stores one deletion record per material before returning; repeating it for the same materials adds nothing
+     */
+    void recordDeletions(List<LearningMaterial> materials, String deletedBy);
+
+    int nextVersion(String materialId);
+
+    void flush();
+}
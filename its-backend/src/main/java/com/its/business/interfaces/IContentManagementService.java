@@ -18,7 +18,7 @@ public interface IContentManagementService {
     
     boolean deleteContent(String id, String userId);
     
-    Optional<LearningMaterial> getContentById(String id);
+    Optional<LearningMaterial> getContentById(String id, String userId, String userRole);
     
     List<LearningMaterial> getAllContent();
     
@@ -0,0 +1,15 @@
+package com.its.business.interfaces;
+
+import java.util.Collection;
+
+/**
+ * Email Lookup Service Interface following Interface Segregation Principle
+ */
+public interface IEmailLookupService {
+
+    boolean isEmailRegistered(String email);
+
+    void recordRegistered(Collection<String> emails);
+
+    void rebuild();
+}
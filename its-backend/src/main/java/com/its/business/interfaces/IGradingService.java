@@ -0,0 +1,19 @@
+package com.its.business.interfaces;
+
+import com.its.domain.dto.BatchGradingResultDto;
+import com.its.domain.dto.GradingResultDto;
+import com.its.domain.dto.QuizSubmissionDto;
+
+import java.util.List;
+
+/**
+ * Grading Service Interface following Interface Segregation Principle
+ * Grades quiz, exercise and assignment submissions against compiled answer keys
+ */
+public interface IGradingService {
+
+    GradingResultDto grade(String materialId, QuizSubmissionDto submission, String userId);
+
+    BatchGradingResultDto gradeBatch(String materialId, List<QuizSubmissionDto> submissions, String userId,
+                                     String userRole);
+}
@@ -0,0 +1,24 @@
+package com.its.business.interfaces;
+
+import com.its.domain.entities.InstructorDashboard;
+
+import java.util.Collection;
+
+/**
+ * Instructor Dashboard Service Interface following Interface Segregation Principle
+ * Writers report each course or material change; readers get the materialized dashboard in one lookup
+ */
+public interface IInstructorDashboardService {
+
+    InstructorDashboard getDashboard(String instructor);
+
+    /**
+     * Before is null for a created item and after is null for a deleted one
+     */
+    void recordChange(String instructor, String section, InstructorDashboard.Item before, InstructorDashboard.Item after);
+
+    /**
+     * For bulk changes such as cascade deletes: the dashboards are rebuilt on their next read
+     */
+    void invalidate(Collection<String> instructors);
+}
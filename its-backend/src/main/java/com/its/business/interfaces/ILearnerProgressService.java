@@ -0,0 +1,23 @@
+package com.its.business.interfaces;
+
+import com.its.domain.dto.LearningEventDto;
+import com.its.domain.entities.TopicProgress;
+
+import java.util.List;
+
+/**
+ * Learner Progress Service Interface following Interface Segregation Principle
+ * Events are buffered and applied in bulk, so reads lag ingestion by up to one flush interval
+ */
+public interface ILearnerProgressService {
+
+    int recordEvents(String userId, List<LearningEventDto> events);
+
+    TopicProgress getTopicProgress(String userId, String topicId);
+
+    List<TopicProgress> getProgress(String userId);
+
+    int rebuildProgress(String userId);
+
+    void flush();
+}
@@ -0,0 +1,19 @@
+package com.its.business.interfaces;
+
+import com.its.domain.entities.LearningMaterial;
+
+/**
+ * Publishing Service Interface following Interface Segregation Principle
+ * Applies the scheduled publish and unpublish times of learning materials
+ */
+public interface IPublishingService {
+
+    /**
+     * Called after a material and its pending times were stored
+     */
+    void scheduleTransitions(LearningMaterial material);
+
+    void cancelTransitions(String materialId);
+
+    void scanUpcoming();
+}
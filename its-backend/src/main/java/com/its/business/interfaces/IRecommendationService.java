@@ -0,0 +1,16 @@
+package com.its.business.interfaces;
+
+import com.its.domain.dto.RecommendationDto;
+
+import java.util.List;
+
+/**
+ * Recommendation Service Interface following Interface Segregation Principle
+ * Suggests the next learning materials for a learner from precomputed candidates
+ */
+public interface IRecommendationService {
+
+    List<RecommendationDto> recommendNext(String userId, String topicId, int limit);
+
+    void refresh();
+}
@@ -1,16 +1,23 @@
 package com.its.business.interfaces;
 
+import com.its.domain.dto.UserImportReportDto;
+import com.its.domain.dto.UserPageDto;
 import com.its.domain.entities.User;
 import com.its.domain.entities.UserRole;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * User Management Service Interface following Interface Segregation Principle
  */
 public interface IUserManagementService {
     
+    enum ImportFormat { CSV, NDJSON }
+    
     Optional<User> findUserById(String id);
     
     Optional<User> findUserByEmail(String email);
@@ -19,9 +26,17 @@ public interface IUserManagementService {
     
     List<User> getUsersByRole(UserRole role);
     
+    UserPageDto getUsersPage(UserRole role, String after, int size);
+    
+    void streamUsers(UserRole role, Consumer<User> consumer);
+    
     User updateUserProfile(String userId, User user);
     
     boolean deactivateUser(String userId);
     
     boolean activateUser(String userId);
+    
+    long setActive(Collection<String> userIds, boolean active);
+    
+    UserImportReportDto importUsers(InputStream input, ImportFormat format, IBulkRegistrationService.Origin origin);
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.its.business.publishing;
+
+import com.its.domain.dto.LearningMaterialDto;
+import com.its.domain.exceptions.InvalidRequestException;
+
+import java.time.Instant;
+
+/**
+ * The published flag and pending publish/unpublish instants a write stores
+ * Times already reached are applied at once instead of being stored, so a stored time is always in the future
+ * and the flag is always what students may see right now
+ */
+public record PublicationSchedule(boolean published, Instant publishAt, Instant unpublishAt) {
+
+    public static PublicationSchedule of(LearningMaterialDto dto, Instant now) {
+        Instant publishAt = dto.getPublishAt();
+        Instant unpublishAt = dto.getUnpublishAt();
+        if (publishAt != null && unpublishAt != null && !unpublishAt.isAfter(publishAt)) {
+            throw new InvalidRequestException("unpublishAt must be after publishAt");
+        }
+
+        boolean published = dto.isPublished();
+        if (publishAt != null) {
+            published = !publishAt.isAfter(now);
+            if (published) {
+                publishAt = null;
+            }
+        }
+        if (unpublishAt != null && !unpublishAt.isAfter(now)) {
+            published = false;
+            unpublishAt = null;
+        }
+        if (unpublishAt != null && !published && publishAt == null) {
+            // Nothing to take down
+            unpublishAt = null;
+        }
+        return new PublicationSchedule(published, publishAt, unpublishAt);
+    }
+
+    /**
+     * The earliest pending transition, or null when nothing is scheduled
+     */
+    public Instant nextTransition() {
+        return next(publishAt, unpublishAt);
+    }
+
+    public static Instant next(Instant publishAt, Instant unpublishAt) {
+        if (publishAt == null) {
+            return unpublishAt;
+        }
+        return unpublishAt == null || publishAt.isBefore(unpublishAt) ? publishAt : unpublishAt;
+    }
+}
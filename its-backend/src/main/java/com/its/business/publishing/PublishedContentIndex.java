@@ -0,0 +1,70 @@
+package com.its.business.publishing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.its.domain.entities.Course;
+import com.its.domain.entities.LearningMaterial;
+import com.its.infrastructure.cache.CacheInvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Published index serving student listings from memory
+ * Holds the published materials of each recently read topic and the published courses as immutable lists.
+ * Writes and scheduled transitions evict through the cache invalidation bus; a miss reloads from the primary,
+ * since a lagging secondary would put data the eviction was meant to replace back into the index.
+ */
+@Component
+public class PublishedContentIndex {
+
+    private static final String ALL_COURSES = "all";
+
+    private final MongoTemplate mongoTemplate;
+    private final Cache<String, List<LearningMaterial>> topicMaterials;
+    private final Cache<String, List<Course>> courses;
+
+    @Autowired
+    public PublishedContentIndex(MongoTemplate mongoTemplate,
+                                 MeterRegistry meterRegistry,
+                                 CacheInvalidationBus invalidationBus,
+                                 @Value("${published-index.max-topics}") long maxTopics,
+                                 @Value("${published-index.expire-after-write-seconds}") long expireSeconds) {
+        this.mongoTemplate = mongoTemplate;
+        this.topicMaterials = Caffeine.newBuilder()
+                .maximumSize(maxTopics)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        this.courses = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, topicMaterials, "published-index.topics");
+        CaffeineCacheMetrics.monitor(meterRegistry, courses, "published-index.courses");
+        invalidationBus.register(CacheInvalidationBus.PUBLISHED_MATERIALS, topicMaterials::invalidateAll,
+                topicMaterials::invalidateAll);
+        invalidationBus.register(CacheInvalidationBus.PUBLISHED_COURSES, keys -> courses.invalidateAll(),
+                courses::invalidateAll);
+    }
+
+    public List<LearningMaterial> materialsOfTopic(String topicId) {
+        return topicMaterials.get(topicId, id -> List.copyOf(
+                mongoTemplate.find(new Query(where("topicId").is(id).and("published").is(true)), LearningMaterial.class)));
+    }
+
+    public List<Course> publishedCourses() {
+        return courses.get(ALL_COURSES, key -> List.copyOf(
+                mongoTemplate.find(new Query(where("published").is(true)), Course.class)));
+    }
+}
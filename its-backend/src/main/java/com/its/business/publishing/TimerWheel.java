@@ -0,0 +1,143 @@
+package com.its.business.publishing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel firing one callback per key at roughly its deadline
+ *
+ * Deadlines are hashed into a ring of slots by tick; a slot holds every timer due on that tick in any
+ * rotation, with the rotations still to wait. Scheduling and cancelling are O(1) and only one thread walks
+ * the wheel, one slot per tick, so thousands of pending timers cost no more than a handful. Timers fire up to
+ * one tick late, and deadlines already passed fire on the next tick. Scheduling a key again replaces its timer.
+ */
+public class TimerWheel<K> {
+
+    private static final Logger log = LoggerFactory.getLogger(TimerWheel.class);
+
+    private final long tickMillis;
+    private final Queue<Timer<K>>[] slots;
+    private final Consumer<K> onExpire;
+    private final Queue<Timer<K>> added = new ConcurrentLinkedQueue<>();
+    private final Map<K, Timer<K>> timers = new ConcurrentHashMap<>();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    // Worker thread only
+    private final long startMillis;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public TimerWheel(String name, long tickMillis, int slotCount, Consumer<K> onExpire) {
+        this.tickMillis = tickMillis;
+        this.slots = new Queue[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+        this.onExpire = onExpire;
+        this.startMillis = System.currentTimeMillis();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public void schedule(K key, long deadlineMillis) {
+        Timer<K> timer = new Timer<>(key, deadlineMillis);
+        Timer<K> previous = timers.put(key, timer);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        added.add(timer);
+    }
+
+    public void cancel(K key) {
+        Timer<K> timer = timers.remove(key);
+        if (timer != null) {
+            timer.cancelled = true;
+        }
+    }
+
+    public int size() {
+        return timers.size();
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long tickDeadline = startMillis + (tick + 1) * tickMillis;
+            long sleep = tickDeadline - System.currentTimeMillis();
+            if (sleep > 0) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            transferAdded();
+            expire(slots[(int) (tick % slots.length)]);
+            tick++;
+        }
+    }
+
+    private void transferAdded() {
+        Timer<K> timer;
+        while ((timer = added.poll()) != null) {
+            if (timer.cancelled) {
+                continue;
+            }
+            // Never into a slot already passed: an overdue timer goes into the slot expired next
+            long dueTick = Math.max(tick, (timer.deadlineMillis - startMillis) / tickMillis);
+            timer.rounds = (dueTick - tick) / slots.length;
+            slots[(int) (dueTick % slots.length)].add(timer);
+        }
+    }
+
+    private void expire(Queue<Timer<K>> slot) {
+        Iterator<Timer<K>> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            Timer<K> timer = iterator.next();
+            if (timer.cancelled) {
+                iterator.remove();
+            } else if (timer.rounds > 0) {
+                timer.rounds--;
+            } else {
+                iterator.remove();
+                if (timers.remove(timer.key, timer)) {
+                    fire(timer.key);
+                }
+            }
+        }
+    }
+
+    private void fire(K key) {
+        try {
+            onExpire.accept(key);
+        } catch (RuntimeException e) {
+            log.warn("Timer for {} failed: {}", key, e.getMessage());
+        }
+    }
+
+    private static final class Timer<K> {
+        private final K key;
+        private final long deadlineMillis;
+        private long rounds;
+        private volatile boolean cancelled;
+
+        private Timer(K key, long deadlineMillis) {
+            this.key = key;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.its.business.recommendation;
+
+import com.its.domain.entities.ContentType;
+import com.its.domain.entities.DifficultyLevel;
+import com.its.domain.entities.LearningMaterial;
+
+import java.util.*;
+
+/**
+ * Immutable, precomputed recommendation candidates stored column-wise in primitive arrays
+ * Slot i describes one published material; difficulty is the DifficultyLevel ordinal or
+ * UNKNOWN_DIFFICULTY, and tags holds sorted TagDictionary ids
+ */
+public final class CandidateSet {
+
+    public static final byte UNKNOWN_DIFFICULTY = -1;
+    public static final CandidateSet EMPTY = new CandidateSet(new String[0], new String[0], new String[0],
+            new ContentType[0], new byte[0], new int[0][]);
+
+    private static final int DEFAULT_LEVEL = DifficultyLevel.INTERMEDIATE.ordinal();
+    private static final Comparator<LearningMaterial> ORDER = Comparator
+            .comparingInt((LearningMaterial material) -> material.getDifficulty() == null
+                    ? DEFAULT_LEVEL : material.getDifficulty().ordinal())
+            .thenComparing(LearningMaterial::getId);
+
+    final String[] materialIds;
+    final String[] titles;
+    final String[] topicIds;
+    final ContentType[] types;
+    final byte[] difficulty;
+    final int[][] tags;
+    private final Map<String, Integer> slots;
+
+    private CandidateSet(String[] materialIds, String[] titles, String[] topicIds,
+                         ContentType[] types, byte[] difficulty, int[][] tags) {
+        this.materialIds = materialIds;
+        this.titles = titles;
+        this.topicIds = topicIds;
+        this.types = types;
+        this.difficulty = difficulty;
+        this.tags = tags;
+        this.slots = new HashMap<>(materialIds.length * 2);
+        for (int i = 0; i < materialIds.length; i++) {
+            slots.put(materialIds[i], i);
+        }
+    }
+
+    /**
+     * Builds a set from materials loaded with at least id, title, type, topicId, difficulty and tags.
+     */
+    public static CandidateSet of(Collection<LearningMaterial> materials, TagDictionary dictionary) {
+        List<LearningMaterial> sorted = new ArrayList<>(materials);
+        sorted.sort(ORDER);
+
+        int size = sorted.size();
+        String[] materialIds = new String[size];
+        String[] titles = new String[size];
+        String[] topicIds = new String[size];
+        ContentType[] types = new ContentType[size];
+        byte[] difficulty = new byte[size];
+        int[][] tags = new int[size][];
+        for (int i = 0; i < size; i++) {
+            LearningMaterial material = sorted.get(i);
+            materialIds[i] = material.getId();
+            titles[i] = material.getTitle();
+            topicIds[i] = material.getTopicId();
+            types[i] = material.getType();
+            difficulty[i] = material.getDifficulty() == null
+                    ? UNKNOWN_DIFFICULTY : (byte) material.getDifficulty().ordinal();
+            tags[i] = tagIds(material.getTags(), dictionary);
+        }
+        return new CandidateSet(materialIds, titles, topicIds, types, difficulty, tags);
+    }
+
+    /**
+     * Picks up to limit candidates across sets, easiest first; used when a learner has no history.
+     */
+    public static CandidateSet easiest(Collection<CandidateSet> sets, int limit) {
+        List<CandidateSet> owners = new ArrayList<>();
+        int[] picked = new int[limit];
+        for (int level = 0; level < DifficultyLevel.values().length && owners.size() < limit; level++) {
+            for (CandidateSet set : sets) {
+                for (int i = 0; i < set.size() && owners.size() < limit; i++) {
+                    if (set.levelOf(i) == level) {
+                        picked[owners.size()] = i;
+                        owners.add(set);
+                    }
+                }
+            }
+        }
+
+        int size = owners.size();
+        String[] materialIds = new String[size];
+        String[] titles = new String[size];
+        String[] topicIds = new String[size];
+        ContentType[] types = new ContentType[size];
+        byte[] difficulty = new byte[size];
+        int[][] tags = new int[size][];
+        for (int n = 0; n < size; n++) {
+            CandidateSet set = owners.get(n);
+            int i = picked[n];
+            materialIds[n] = set.materialIds[i];
+            titles[n] = set.titles[i];
+            topicIds[n] = set.topicIds[i];
+            types[n] = set.types[i];
+            difficulty[n] = set.difficulty[i];
+            tags[n] = set.tags[i];
+        }
+        return new CandidateSet(materialIds, titles, topicIds, types, difficulty, tags);
+    }
+
+    public int size() {
+        return materialIds.length;
+    }
+
+    /**
+     * Difficulty ordinal used for scoring; materials without a difficulty count as intermediate.
+     */
+    int levelOf(int slot) {
+        return difficulty[slot] == UNKNOWN_DIFFICULTY ? DEFAULT_LEVEL : difficulty[slot];
+    }
+
+    /**
+     * Returns the slot of the material, or -1 when it is not a candidate.
+     */
+    public int slotOf(String materialId) {
+        Integer slot = slots.get(materialId);
+        return slot == null ? -1 : slot;
+    }
+
+    private static int[] tagIds(List<String> tags, TagDictionary dictionary) {
+        if (tags == null || tags.isEmpty()) {
+            return new int[0];
+        }
+        return tags.stream()
+                .filter(tag -> tag != null && !tag.isBlank())
+                .mapToInt(dictionary::idOf)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+}
@@ -0,0 +1,110 @@
+package com.its.business.recommendation;
+
+import com.its.domain.entities.DifficultyLevel;
+import com.its.domain.entities.TopicProgress;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Learner feature vector derived from rolled-up topic progress
+ * Tag affinity is indexed by TagDictionary id and scaled so the strongest tag is 1;
+ * the target level is the mean difficulty of completed materials plus one progression step
+ */
+public final class LearnerProfile {
+
+    private static final double RECENCY_HALF_LIFE_DAYS = 7;
+
+    final Set<String> completed;
+    final float[] tagAffinity;
+    final double targetLevel;
+    private final Map<String, Double> topicWeights;
+
+    private LearnerProfile(Set<String> completed, float[] tagAffinity, double targetLevel,
+                           Map<String, Double> topicWeights) {
+        this.completed = completed;
+        this.tagAffinity = tagAffinity;
+        this.targetLevel = targetLevel;
+        this.topicWeights = topicWeights;
+    }
+
+    public static LearnerProfile build(List<TopicProgress> progress, Function<String, CandidateSet> topics,
+                                       int tagCount, double difficultyStep, LocalDateTime now) {
+        Set<String> completed = new HashSet<>();
+        float[] tagAffinity = new float[tagCount];
+        Map<String, Double> topicWeights = new HashMap<>();
+        double levelSum = 0;
+        int levelCount = 0;
+
+        for (TopicProgress topicProgress : progress) {
+            completed.addAll(topicProgress.getCompletedMaterialIds());
+            CandidateSet candidates = topics.apply(topicProgress.getTopicId());
+            if (candidates == null || candidates.size() == 0) {
+                continue;
+            }
+
+            int completedHere = 0;
+            for (String materialId : topicProgress.getCompletedMaterialIds()) {
+                int slot = candidates.slotOf(materialId);
+                if (slot < 0) {
+                    continue;
+                }
+                completedHere++;
+                levelSum += candidates.levelOf(slot);
+                levelCount++;
+                for (int tag : candidates.tags[slot]) {
+                    if (tag < tagCount) {
+                        tagAffinity[tag]++;
+                    }
+                }
+            }
+
+            // Unfinished topics the learner touched recently weigh most
+            double remaining = 1 - (double) completedHere / candidates.size();
+            topicWeights.put(topicProgress.getTopicId(), remaining * recency(topicProgress.getLastActivityAt(), now));
+        }
+
+        float strongest = 0;
+        for (float affinity : tagAffinity) {
+            strongest = Math.max(strongest, affinity);
+        }
+        if (strongest > 0) {
+            for (int tag = 0; tag < tagCount; tag++) {
+                tagAffinity[tag] /= strongest;
+            }
+        }
+
+        int maxLevel = DifficultyLevel.values().length - 1;
+        double targetLevel = levelCount == 0 ? 0 : Math.min(maxLevel, levelSum / levelCount + difficultyStep);
+        return new LearnerProfile(completed, tagAffinity, targetLevel, topicWeights);
+    }
+
+    public boolean hasHistory() {
+        return !topicWeights.isEmpty();
+    }
+
+    public Set<String> getActiveTopicIds() {
+        return topicWeights.keySet();
+    }
+
+    /**
+     * History weight of a topic in [0, 1]; topics without progress get the given default.
+     */
+    public double topicWeight(String topicId, double defaultWeight) {
+        return topicWeights.getOrDefault(topicId, defaultWeight);
+    }
+
+    public double getTargetLevel() {
+        return targetLevel;
+    }
+
+    private static double recency(LocalDateTime lastActivityAt, LocalDateTime now) {
+        if (lastActivityAt == null) {
+            return 0.5;
+        }
+        double days = Math.max(0, Duration.between(lastActivityAt, now).toHours() / 24.0);
+        return Math.pow(0.5, days / RECENCY_HALF_LIFE_DAYS);
+    }
+}
@@ -0,0 +1,91 @@
+package com.its.business.recommendation;
+
+import com.its.domain.dto.RecommendationDto;
+import com.its.domain.entities.DifficultyLevel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scores candidates for a learner as a weighted sum of difficulty fit, tag affinity and
+ * topic history, keeping the best few in fixed-size arrays
+ */
+public final class RecommendationScorer {
+
+    private static final DifficultyLevel[] LEVELS = DifficultyLevel.values();
+    private static final double LEVEL_RANGE = LEVELS.length - 1;
+
+    private final double difficultyWeight;
+    private final double tagWeight;
+    private final double historyWeight;
+
+    public RecommendationScorer(double difficultyWeight, double tagWeight, double historyWeight) {
+        this.difficultyWeight = difficultyWeight;
+        this.tagWeight = tagWeight;
+        this.historyWeight = historyWeight;
+    }
+
+    /**
+     * Returns up to limit uncompleted candidates, best first.
+     * setWeights[s] is the history weight applied to every candidate in sets.get(s).
+     */
+    public List<RecommendationDto> topK(List<CandidateSet> sets, double[] setWeights, LearnerProfile profile, int limit) {
+        double[] bestScores = new double[limit];
+        int[] bestSets = new int[limit];
+        int[] bestSlots = new int[limit];
+        int found = 0;
+
+        for (int s = 0; s < sets.size(); s++) {
+            CandidateSet set = sets.get(s);
+            double history = historyWeight * setWeights[s];
+            for (int i = 0; i < set.size(); i++) {
+                double score = history + difficultyWeight * difficultyFit(set, i, profile)
+                        + tagWeight * tagFit(set.tags[i], profile.tagAffinity);
+                if (found == limit && score <= bestScores[limit - 1]) {
+                    continue;
+                }
+                if (profile.completed.contains(set.materialIds[i])) {
+                    continue;
+                }
+
+                int position = found < limit ? found++ : limit - 1;
+                while (position > 0 && bestScores[position - 1] < score) {
+                    bestScores[position] = bestScores[position - 1];
+                    bestSets[position] = bestSets[position - 1];
+                    bestSlots[position] = bestSlots[position - 1];
+                    position--;
+                }
+                bestScores[position] = score;
+                bestSets[position] = s;
+                bestSlots[position] = i;
+            }
+        }
+
+        List<RecommendationDto> recommendations = new ArrayList<>(found);
+        for (int n = 0; n < found; n++) {
+            CandidateSet set = sets.get(bestSets[n]);
+            int i = bestSlots[n];
+            recommendations.add(new RecommendationDto(set.materialIds[i], set.titles[i], set.topicIds[i], set.types[i],
+                    set.difficulty[i] == CandidateSet.UNKNOWN_DIFFICULTY ? null : LEVELS[set.difficulty[i]],
+                    Math.round(bestScores[n] * 1000) / 1000.0));
+        }
+        return recommendations;
+    }
+
+    private static double difficultyFit(CandidateSet set, int slot, LearnerProfile profile) {
+        return 1 - Math.min(1, Math.abs(set.levelOf(slot) - profile.targetLevel) / LEVEL_RANGE);
+    }
+
+    private static double tagFit(int[] tags, float[] affinity) {
+        if (tags.length == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int tag : tags) {
+            if (tag < affinity.length) {
+                sum += affinity[tag];
+            }
+        }
+        return sum / tags.length;
+    }
+}
@@ -0,0 +1,28 @@
+package com.its.business.recommendation;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns a dense int id to every tag so tag features can be stored in primitive arrays
+ * Tags are compared case-insensitively; ids are never reused within one dictionary
+ */
+public class TagDictionary {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public int idOf(String tag) {
+        return ids.computeIfAbsent(normalize(tag), key -> nextId.getAndIncrement());
+    }
+
+    public int size() {
+        return nextId.get();
+    }
+
+    private static String normalize(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+}
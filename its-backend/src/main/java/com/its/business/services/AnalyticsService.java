@@ -0,0 +1,245 @@
+package com.its.business.services;
+
+import com.its.business.interfaces.IAnalyticsService;
+import com.its.domain.dto.AnalyticsSeriesDto;
+import com.its.domain.entities.AnalyticsBucket;
+import com.its.domain.entities.AnalyticsMetric;
+import com.its.domain.entities.BucketGranularity;
+import com.its.domain.exceptions.InvalidRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Analytics Service Implementation keeping time-bucketed counters
+ * Recording increments a striped per-minute accumulator in memory. Each flush rolls the accumulated minutes
+ * up into their minute, hour, day and week buckets and applies them as one unordered bulk of upserted $inc,
+ * so several instances add to the same buckets and a dashboard series is a single range read.
+ */
+@Service
+public class AnalyticsService implements IAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration minuteRetention;
+    private final int defaultPoints;
+    private final int maxPoints;
+    private final int maxUnflushedBuckets;
+
+    private final Map<PendingKey, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // Guarded by flushLock: bucket increments whose write failed, retried first on the next flush
+    private final Object flushLock = new Object();
+    private final Map<String, BucketDelta> unflushed = new HashMap<>();
+
+    private final Counter writtenBuckets;
+    private final Counter retriedBuckets;
+    private final Counter droppedBuckets;
+
+    @Autowired
+    public AnalyticsService(MongoTemplate mongoTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${analytics.minute-retention-hours}") long minuteRetentionHours,
+                            @Value("${analytics.default-points}") int defaultPoints,
+                            @Value("${analytics.max-points}") int maxPoints,
+                            @Value("${analytics.max-unflushed-buckets}") int maxUnflushedBuckets) {
+        this.mongoTemplate = mongoTemplate;
+        this.minuteRetention = Duration.ofHours(minuteRetentionHours);
+        this.defaultPoints = defaultPoints;
+        this.maxPoints = maxPoints;
+        this.maxUnflushedBuckets = maxUnflushedBuckets;
+
+        Gauge.builder("its.analytics.pending", pending, Map::size)
+                .description("Metric, scope and minute accumulators waiting to be flushed")
+                .register(meterRegistry);
+        this.writtenBuckets = bucketCounter(meterRegistry, "written");
+        this.retriedBuckets = bucketCounter(meterRegistry, "retried");
+        this.droppedBuckets = bucketCounter(meterRegistry, "dropped");
+    }
+
+    @Override
+    public void record(AnalyticsMetric metric, String scope) {
+        if (scope == null) {
+            return;
+        }
+        PendingKey key = new PendingKey(metric, scope, BucketGranularity.MINUTE.bucketStart(Instant.now()));
+        LongAdder adder = pending.get(key);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    @Override
+    public AnalyticsSeriesDto getSeries(AnalyticsMetric metric, String scope, BucketGranularity granularity,
+                                        Instant from, Instant to) {
+        Instant end = to != null ? to : Instant.now();
+        Instant first = from != null
+                ? granularity.bucketStart(from)
+                : granularity.plus(granularity.bucketStart(end), 1 - defaultPoints);
+        if (!first.isBefore(end)) {
+            throw new InvalidRequestException("from must be before to");
+        }
+        long buckets = granularity.bucketsBetween(first, end);
+        if (buckets > maxPoints) {
+            throw new InvalidRequestException("At most " + maxPoints + " " + granularity.name().toLowerCase(Locale.ROOT)
+                    + " buckets can be requested at once");
+        }
+
+        Query query = new Query(where("metric").is(metric).and("scope").is(scope)
+                .and("granularity").is(granularity).and("start").gte(first).lt(end))
+                .with(Sort.by("start"));
+        query.fields().include("start").include("count");
+        Map<Instant, Long> counts = new HashMap<>();
+        for (AnalyticsBucket bucket : mongoTemplate.find(query, AnalyticsBucket.class)) {
+            counts.put(bucket.getStart(), bucket.getCount());
+        }
+
+        AnalyticsSeriesDto series = new AnalyticsSeriesDto();
+        series.setMetric(metric);
+        series.setScope(scope);
+        series.setGranularity(granularity);
+        series.setFrom(first);
+        series.setTo(end);
+        for (long i = 0; i < buckets; i++) {
+            Instant start = granularity.plus(first, i);
+            long count = counts.getOrDefault(start, 0L);
+            series.getPoints().add(new AnalyticsSeriesDto.Point(start, count));
+            series.setTotal(series.getTotal() + count);
+        }
+        return series;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${analytics.flush-interval-ms}")
+    public void flush() {
+        synchronized (flushLock) {
+            Map<String, BucketDelta> deltas = new HashMap<>(unflushed);
+            unflushed.clear();
+            drainPending(deltas);
+            if (!deltas.isEmpty()) {
+                write(new ArrayList<>(deltas.values()));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void drainPending(Map<String, BucketDelta> deltas) {
+        Instant closedBefore = BucketGranularity.MINUTE.plus(BucketGranularity.MINUTE.bucketStart(Instant.now()), -1);
+        pending.forEach((key, adder) -> {
+            long count;
+            if (key.minute().isBefore(closedBefore)) {
+                // Recording only targets the current minute, so nothing should increment this adder any more
+                pending.remove(key, adder);
+                count = adder.sum();
+            } else {
+                count = adder.sumThenReset();
+            }
+            if (count == 0) {
+                return;
+            }
+            for (BucketGranularity granularity : BucketGranularity.values()) {
+                Instant start = granularity.bucketStart(key.minute());
+                deltas.computeIfAbsent(AnalyticsBucket.idFor(key.metric(), key.scope(), granularity, start),
+                                id -> new BucketDelta(id, key.metric(), key.scope(), granularity, start))
+                        .count += count;
+            }
+        });
+    }
+
+    private void write(List<BucketDelta> batch) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AnalyticsBucket.class);
+        for (BucketDelta delta : batch) {
+            Update update = new Update()
+                    .setOnInsert("metric", delta.metric)
+                    .setOnInsert("scope", delta.scope)
+                    .setOnInsert("granularity", delta.granularity)
+                    .setOnInsert("start", delta.start)
+                    .inc("count", delta.count);
+            if (delta.granularity == BucketGranularity.MINUTE) {
+                update.setOnInsert("expiresAt", delta.start.plus(minuteRetention));
+            }
+            operations.upsert(new Query(where("_id").is(delta.id)), update);
+        }
+
+        try {
+            operations.execute();
+            writtenBuckets.increment(batch.size());
+        } catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> retry(batch.get(error.getIndex())));
+            writtenBuckets.increment(batch.size() - e.getErrors().size());
+            log.warn("Analytics flush failed for {} of {} buckets, will retry", e.getErrors().size(), batch.size());
+        } catch (DataAccessException e) {
+            // Usually nothing reached the server; increments it applied before failing are counted twice
+            batch.forEach(this::retry);
+            log.warn("Analytics flush of {} buckets failed, will retry: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void retry(BucketDelta delta) {
+        BucketDelta existing = unflushed.get(delta.id);
+        if (existing != null) {
+            existing.count += delta.count;
+        } else if (unflushed.size() < maxUnflushedBuckets) {
+            unflushed.put(delta.id, delta);
+        } else {
+            droppedBuckets.increment();
+            return;
+        }
+        retriedBuckets.increment();
+    }
+
+    private static Counter bucketCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("its.analytics.buckets")
+                .description("Analytics bucket increments by flush outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record PendingKey(AnalyticsMetric metric, String scope, Instant minute) {}
+
+    private static final class BucketDelta {
+        private final String id;
+        private final AnalyticsMetric metric;
+        private final String scope;
+        private final BucketGranularity granularity;
+        private final Instant start;
+        private long count;
+
+        private BucketDelta(String id, AnalyticsMetric metric, String scope, BucketGranularity granularity,
+                            Instant start) {
+            this.id = id;
+            this.metric = metric;
+            this.scope = scope;
+            this.granularity = granularity;
+            this.start = start;
+        }
+    }
+}
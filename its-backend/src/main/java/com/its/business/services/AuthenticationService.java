@@ -1,15 +1,22 @@
 package com.its.business.services;
 
 import com.its.business.interfaces.IAuthenticationService;
+import com.its.business.interfaces.IEmailLookupService;
 import com.its.domain.dto.*;
 import com.its.domain.entities.User;
 import com.its.domain.entities.UserProfile;
+import com.its.domain.exceptions.AuthenticationFailedException;
+import com.its.domain.exceptions.ResourceConflictException;
+import com.its.domain.exceptions.ResourceNotFoundException;
 import com.its.persistence.repositories.UserRepository;
 import com.its.infrastructure.security.JwtTokenProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Authentication Service Implementation following Single Responsibility Principle
  * Handles user registration, login, and authentication
@@ -20,20 +27,23 @@ public class AuthenticationService implements IAuthenticationService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final IEmailLookupService emailLookupService;
 
     @Autowired
     public AuthenticationService(UserRepository userRepository, 
                                PasswordEncoder passwordEncoder,
-                               JwtTokenProvider jwtTokenProvider) {
+                               JwtTokenProvider jwtTokenProvider,
+                               IEmailLookupService emailLookupService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.emailLookupService = emailLookupService;
     }
 
     @Override
     public JwtAuthenticationResponse register(UserRegistrationDto registrationDto) {
         if (isEmailExists(registrationDto.getEmail())) {
-            throw new RuntimeException("Email already exists");
+            throw new ResourceConflictException("Email already exists");
         }
 
         User user = new User();
@@ -47,52 +57,41 @@ public class AuthenticationService implements IAuthenticationService {
         profile.setInstitution(registrationDto.getInstitution());
         user.setProfile(profile);
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DuplicateKeyException e) {
+            // Registered concurrently or on another instance since the check above
+            throw new ResourceConflictException("Email already exists");
+        }
+        emailLookupService.recordRegistered(List.of(savedUser.getEmail()));
         String token = jwtTokenProvider.generateToken(savedUser.getEmail());
         
-        return new JwtAuthenticationResponse(token, convertToUserResponse(savedUser));
+        return new JwtAuthenticationResponse(token, UserResponseDto.fromUser(savedUser));
     }
 
     @Override
     public JwtAuthenticationResponse login(UserLoginDto loginDto) {
         User user = userRepository.findActiveUserByEmail(loginDto.getEmail())
-                .orElseThrow(() -> new RuntimeException("Invalid credentials"));
+                .orElseThrow(() -> new AuthenticationFailedException("Invalid credentials"));
 
         if (!passwordEncoder.matches(loginDto.getPassword(), user.getPassword())) {
-            throw new RuntimeException("Invalid credentials");
+            throw new AuthenticationFailedException("Invalid credentials");
         }
 
         String token = jwtTokenProvider.generateToken(user.getEmail());
-        return new JwtAuthenticationResponse(token, convertToUserResponse(user));
+        return new JwtAuthenticationResponse(token, UserResponseDto.fromUser(user));
     }
 
     @Override
     public UserResponseDto getCurrentUser(String userId) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return convertToUserResponse(user);
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return UserResponseDto.fromUser(user);
     }
 
     @Override
     public boolean isEmailExists(String email) {
-        return userRepository.existsByEmail(email);
-    }
-
-    private UserResponseDto convertToUserResponse(User user) {
-        UserResponseDto response = new UserResponseDto();
-        response.setId(user.getId());
-        response.setEmail(user.getEmail());
-        response.setRole(user.getRole().name());
-        
-        if (user.getProfile() != null) {
-            response.setFirstName(user.getProfile().getFirstName());
-            response.setLastName(user.getProfile().getLastName());
-            response.setInstitution(user.getProfile().getInstitution());
-            response.setAvatar(user.getProfile().getAvatar());
-            response.setExpertise(user.getProfile().getExpertise());
-            response.setBio(user.getProfile().getBio());
-        }
-        
-        return response;
+        return emailLookupService.isEmailRegistered(email);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,241 @@
+package com.its.business.services;
+
+import com.its.business.interfaces.IBulkRegistrationService;
+import com.its.business.interfaces.IEmailLookupService;
+import com.its.domain.dto.UserImportReportDto;
+import com.its.domain.dto.UserRegistrationDto;
+import com.its.domain.entities.User;
+import com.its.domain.entities.UserProfile;
+import com.its.domain.entities.UserRole;
+import com.its.domain.exceptions.InvalidRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Bulk Registration Service Implementation for semester onboarding
+ * A request is validated and deduplicated in memory, checked against existing accounts with one $in query,
+ * hashed in parallel on a dedicated fork-join pool and written with a single unordered bulk insert.
+ * HTTP requests are capped well below command-line imports and hash on their own small pool, so an import
+ * cannot hold a request thread for minutes or take every core from other traffic
+ */
+@Service
+public class BulkRegistrationService implements IBulkRegistrationService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkRegistrationService.class);
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final MeterRegistry meterRegistry;
+    private final IEmailLookupService emailLookupService;
+    private final int maxRows;
+    private final int requestMaxRows;
+
+    // Separate from the common pool so a large import cannot starve parallel streams elsewhere
+    private final ForkJoinPool hashPool;
+    private final ForkJoinPool requestHashPool;
+
+    private final Counter createdUsers;
+    private final Counter failedUsers;
+
+    @Autowired
+    public BulkRegistrationService(MongoTemplate mongoTemplate,
+                                   PasswordEncoder passwordEncoder,
+                                   Validator validator,
+                                   MeterRegistry meterRegistry,
+                                   IEmailLookupService emailLookupService,
+                                   @Value("${bulk-registration.max-rows}") int maxRows,
+                                   @Value("${bulk-registration.parallelism}") int parallelism,
+                                   @Value("${bulk-registration.request.max-rows}") int requestMaxRows,
+                                   @Value("${bulk-registration.request.parallelism}") int requestParallelism) {
+        this.mongoTemplate = mongoTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.meterRegistry = meterRegistry;
+        this.emailLookupService = emailLookupService;
+        this.maxRows = maxRows;
+        this.requestMaxRows = requestMaxRows;
+        this.hashPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.requestHashPool = new ForkJoinPool(requestParallelism);
+        this.createdUsers = usersCounter(meterRegistry, "created");
+        this.failedUsers = usersCounter(meterRegistry, "failed");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdownNow();
+        requestHashPool.shutdownNow();
+    }
+
+    @Override
+    public UserImportReportDto register(List<Row> rows, Origin origin) {
+        int limit = maxRows(origin);
+        if (rows.size() > limit) {
+            throw new InvalidRequestException(origin == Origin.REQUEST
+                    ? "At most " + limit + " users can be registered per request; use the command-line import for larger files"
+                    : "At most " + limit + " users can be registered at once");
+        }
+        ForkJoinPool pool = origin == Origin.REQUEST ? requestHashPool : hashPool;
+        long started = System.nanoTime();
+        UserImportReportDto report = new UserImportReportDto();
+        report.setReceivedCount(rows.size());
+
+        List<Row> accepted = timed("validate", () -> validate(rows, report));
+        List<Row> fresh = timed("lookup", () -> withoutExistingEmails(accepted, report));
+        List<User> users = timed("hash", () -> hash(fresh, pool));
+        int created = timed("insert", () -> insert(fresh, users, report));
+
+        long elapsedNanos = System.nanoTime() - started;
+        report.setCreatedCount(created);
+        report.setDurationMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        report.setUsersPerSecond(elapsedNanos == 0 ? 0 : created * 1e9 / elapsedNanos);
+        // Stages fail rows out of line order, so everything is collected before the listed failures are cut
+        List<UserImportReportDto.RowFailure> failures = report.getFailures();
+        failures.sort(Comparator.comparingLong(UserImportReportDto.RowFailure::getLine));
+        report.setFailures(new ArrayList<>(failures.subList(0,
+                Math.min(failures.size(), UserImportReportDto.MAX_LISTED_FAILURES))));
+        createdUsers.increment(created);
+        failedUsers.increment(report.getFailedCount());
+        log.info("Registered {} of {} users in {} ms ({} users/s)", created, rows.size(), report.getDurationMs(),
+                Math.round(report.getUsersPerSecond()));
+        return report;
+    }
+
+    private List<Row> validate(List<Row> rows, UserImportReportDto report) {
+        Set<String> seenEmails = new HashSet<>(rows.size() * 2);
+        List<Row> accepted = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            UserRegistrationDto registration = row.registration();
+            Set<ConstraintViolation<UserRegistrationDto>> violations = validator.validate(registration);
+            if (!violations.isEmpty()) {
+                fail(report, row, violations.iterator().next().getMessage());
+            } else if (Arrays.stream(UserRole.values()).noneMatch(role -> role.name().equalsIgnoreCase(registration.getRole()))) {
+                // Registration falls back to STUDENT for unknown roles; a bulk import should not silently do that
+                fail(report, row, "Unknown role: " + registration.getRole());
+            } else if (!seenEmails.add(registration.getEmail())) {
+                fail(report, row, "Duplicate email in import");
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    private List<Row> withoutExistingEmails(List<Row> rows, UserImportReportDto report) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Query query = new Query(where("email").in(rows.stream().map(row -> row.registration().getEmail()).toList()));
+        query.fields().include("email");
+        Set<String> existing = new HashSet<>();
+        mongoTemplate.find(query, User.class).forEach(user -> existing.add(user.getEmail()));
+
+        List<Row> fresh = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (existing.contains(row.registration().getEmail())) {
+                fail(report, row, "Email already exists");
+            } else {
+                fresh.add(row);
+            }
+        }
+        return fresh;
+    }
+
+    @Override
+    public int maxRows(Origin origin) {
+        return origin == Origin.REQUEST ? requestMaxRows : maxRows;
+    }
+
+    private List<User> hash(List<Row> rows, ForkJoinPool pool) {
+        try {
+            return pool.submit(() -> rows.parallelStream()
+                            .map(row -> toUser(row.registration(), passwordEncoder.encode(row.registration().getPassword())))
+                            .toList())
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk registration interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private int insert(List<Row> rows, List<User> users, UserImportReportDto report) {
+        if (users.isEmpty()) {
+            return 0;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class)
+                    .insert(users)
+                    .execute();
+            return users.size();
+        } catch (BulkOperationException e) {
+            // Typically an email registered concurrently between the lookup and the insert
+            for (var error : e.getErrors()) {
+                fail(report, rows.get(error.getIndex()),
+                        error.getCode() == DUPLICATE_KEY ? "Email already exists" : error.getMessage());
+            }
+            return users.size() - e.getErrors().size();
+        } finally {
+            // Recording an email whose insert failed only costs one extra query on a later check
+            emailLookupService.recordRegistered(users.stream().map(User::getEmail).toList());
+        }
+    }
+
+    private User toUser(UserRegistrationDto registration, String passwordHash) {
+        User user = new User();
+        user.setEmail(registration.getEmail());
+        user.setPassword(passwordHash);
+        user.setRole(registration.getRoleEnum());
+
+        UserProfile profile = new UserProfile();
+        profile.setFirstName(registration.getFirstName());
+        profile.setLastName(registration.getLastName());
+        profile.setInstitution(registration.getInstitution());
+        user.setProfile(profile);
+        return user;
+    }
+
+    private void fail(UserImportReportDto report, Row row, String reason) {
+        report.setFailedCount(report.getFailedCount() + 1);
+        report.getFailures().add(new UserImportReportDto.RowFailure(row.line(), row.registration().getEmail(), reason));
+    }
+
+    private <T> T timed(String stage, Supplier<T> work) {
+        return Timer.builder("its.registration.bulk.stage")
+                .description("Bulk registration duration by pipeline stage")
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(work);
+    }
+
+    private static Counter usersCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("its.registration.bulk.users")
+                .description("Users processed by bulk registration by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,208 @@
+package com.its.business.services;
+
+import com.its.business.catalog.FacetSnapshot;
+import com.its.business.interfaces.ICascadeDeleteService;
+import com.its.business.interfaces.ICatalogService;
+import com.its.business.interfaces.IContentBodyService;
+import com.its.business.interfaces.IContentHistoryService;
+import com.its.business.interfaces.IInstructorDashboardService;
+import com.its.domain.entities.CascadeDeleteJob;
+import com.its.domain.entities.CascadeDeleteTarget;
+import com.its.domain.entities.JobStatus;
+import com.its.domain.entities.LearningMaterial;
+import com.its.domain.entities.Topic;
+import com.its.infrastructure.cache.CacheInvalidationBus;
+import com.its.persistence.repositories.CascadeDeleteJobRepository;
+import com.its.persistence.repositories.LearningMaterialRepository;
+import com.its.persistence.repositories.TopicRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cascade Delete Service Implementation following Single Responsibility Principle
+ * Runs persisted, throttled, batch-wise deletes of course and topic descendants
+ */
+@Service
+public class CascadeDeleteService implements ICascadeDeleteService {
+
+    private static final Logger log = LoggerFactory.getLogger(CascadeDeleteService.class);
+    private static final List<JobStatus> UNFINISHED = List.of(JobStatus.PENDING, JobStatus.RUNNING);
+
+    private final CascadeDeleteJobRepository jobRepository;
+    private final TopicRepository topicRepository;
+    private final LearningMaterialRepository materialRepository;
+    private final IContentHistoryService historyService;
+    private final ICatalogService catalogService;
+    private final IContentBodyService bodyService;
+    private final CacheInvalidationBus invalidationBus;
+    private final IInstructorDashboardService dashboardService;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Value("${cascade-delete.batch-size}")
+    private int batchSize;
+
+    @Value("${cascade-delete.batch-pause-ms}")
+    private long batchPauseMs;
+
+    @Value("${cascade-delete.lease-seconds}")
+    private long leaseSeconds;
+
+    @Value("${cascade-delete.max-attempts}")
+    private int maxAttempts;
+
+    @Autowired
+    public CascadeDeleteService(CascadeDeleteJobRepository jobRepository,
+                                TopicRepository topicRepository,
+                                LearningMaterialRepository materialRepository,
+                                IContentHistoryService historyService,
+                                ICatalogService catalogService,
+                                IContentBodyService bodyService,
+                                CacheInvalidationBus invalidationBus,
+                                IInstructorDashboardService dashboardService) {
+        this.jobRepository = jobRepository;
+        this.topicRepository = topicRepository;
+        this.materialRepository = materialRepository;
+        this.historyService = historyService;
+        this.catalogService = catalogService;
+        this.bodyService = bodyService;
+        this.invalidationBus = invalidationBus;
+        this.dashboardService = dashboardService;
+    }
+
+    @Override
+    public CascadeDeleteJob scheduleCourseDeletion(String courseId, String requestedBy) {
+        return schedule(CascadeDeleteTarget.COURSE, courseId, requestedBy);
+    }
+
+    @Override
+    public CascadeDeleteJob scheduleTopicDeletion(String topicId, String requestedBy) {
+        return schedule(CascadeDeleteTarget.TOPIC, topicId, requestedBy);
+    }
+
+    @Override
+    public Optional<CascadeDeleteJob> getJob(String jobId) {
+        return jobRepository.findById(jobId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${cascade-delete.poll-interval-ms}")
+    public void runPendingJobs() {
+        Optional<CascadeDeleteJob> claimed;
+        while ((claimed = jobRepository.claimNext(lease())).isPresent()) {
+            run(claimed.get());
+        }
+    }
+
+    private CascadeDeleteJob schedule(CascadeDeleteTarget targetType, String targetId, String requestedBy) {
+        return jobRepository.findFirstByTargetTypeAndTargetIdAndStatusIn(targetType, targetId, UNFINISHED)
+                .orElseGet(() -> jobRepository.save(new CascadeDeleteJob(targetType, targetId, requestedBy)));
+    }
+
+    private void run(CascadeDeleteJob job) {
+        try {
+            if (job.getTargetType() == CascadeDeleteTarget.COURSE) {
+                purgeCourse(job, job.getTargetId());
+            } else {
+                purgeTopic(job, job.getTargetId());
+            }
+            job.setStatus(JobStatus.COMPLETED);
+            job.setLeaseExpiresAt(null);
+            log.info("Cascade delete of {} {} completed: {} topics, {} materials, {} files",
+                    job.getTargetType(), job.getTargetId(), job.getDeletedTopics(), job.getDeletedMaterials(),
+                    job.getDeletedFiles());
+        } catch (RuntimeException e) {
+            job.setLastError(e.getMessage());
+            if (job.getAttempts() >= maxAttempts) {
+                job.setStatus(JobStatus.FAILED);
+                job.setLeaseExpiresAt(null);
+            }
+            // Otherwise the lease is left to expire and the job is picked up again from where it stopped
+            log.warn("Cascade delete of {} {} failed on attempt {}: {}",
+                    job.getTargetType(), job.getTargetId(), job.getAttempts(), e.getMessage());
+        }
+        jobRepository.save(job);
+    }
+
+    private void purgeCourse(CascadeDeleteJob job, String courseId) {
+        List<Topic> topics;
+        while (!(topics = topicRepository.findByCourseId(courseId, PageRequest.of(0, batchSize))).isEmpty()) {
+            List<String> topicIds = topics.stream().map(Topic::getId).toList();
+            for (String topicId : topicIds) {
+                purgeTopic(job, topicId);
+            }
+            topicRepository.deleteAllById(topicIds);
+            job.setDeletedTopics(job.getDeletedTopics() + topicIds.size());
+            checkpoint(job);
+        }
+    }
+
+    private void purgeTopic(CascadeDeleteJob job, String topicId) {
+        List<LearningMaterial> materials;
+        while (!(materials = materialRepository.findFileRefsByTopicId(topicId, PageRequest.of(0, batchSize))).isEmpty()) {
+            List<String> materialIds = materials.stream().map(LearningMaterial::getId).toList();
+            // History stays behind with a deletion record, aged out by the orphan sweeper like individual deletes
+            historyService.recordDeletions(materials, job.getRequestedBy());
+            for (LearningMaterial material : materials) {
+                if (deleteUploadedFile(material.getFilePath())) {
+                    job.setDeletedFiles(job.getDeletedFiles() + 1);
+                }
+            }
+            bodyService.deleteBodies(materialIds);
+            // Materials go last so a resumed job still finds their files and bodies
+            materialRepository.deleteAllById(materialIds);
+            catalogService.recordRemovals(FacetSnapshot.MATERIALS, materials.stream().map(FacetSnapshot::of).toList());
+            invalidationBus.invalidate(CacheInvalidationBus.ANSWER_KEYS, materialIds);
+            dashboardService.invalidate(materials.stream().map(LearningMaterial::getCreatedBy).toList());
+            job.setDeletedMaterials(job.getDeletedMaterials() + materialIds.size());
+            checkpoint(job);
+        }
+        invalidationBus.invalidate(CacheInvalidationBus.PUBLISHED_MATERIALS, List.of(topicId));
+        invalidationBus.invalidate(CacheInvalidationBus.RECOMMENDATIONS, List.of(topicId));
+    }
+
+    private boolean deleteUploadedFile(String filePath) {
+        if (filePath == null || filePath.isBlank()) {
+            return false;
+        }
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path file = Paths.get(filePath).toAbsolutePath().normalize();
+        if (!file.startsWith(root)) {
+            return false;
+        }
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to delete uploaded file " + file, e);
+        }
+    }
+
+    private void checkpoint(CascadeDeleteJob job) {
+        jobRepository.renewLease(job, lease());
+        try {
+            // Throttle between batches so cleanup does not compete with live traffic
+            Thread.sleep(batchPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Cascade delete interrupted", e);
+        }
+    }
+
+    private Duration lease() {
+        return Duration.ofSeconds(leaseSeconds);
+    }
+}
@@ -0,0 +1,292 @@
+package com.its.business.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.its.business.catalog.FacetSnapshot;
+import com.its.business.interfaces.ICatalogService;
+import com.its.domain.dto.CatalogPageDto;
+import com.its.domain.entities.Course;
+import com.its.domain.entities.FacetCount;
+import com.its.domain.entities.LearningMaterial;
+import com.its.infrastructure.cache.CacheInvalidationBus;
+import com.its.persistence.routing.ReadRouting;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Catalog Service Implementation with incrementally maintained facet counts
+ * Writes apply $inc deltas to facet_summaries so browsing never groups over the catalogue;
+ * a scheduled reconcile recounts with $group to repair drift from failed or racing updates
+ */
+@Service
+public class CatalogService implements ICatalogService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogService.class);
+
+    private static final Map<String, String> MATERIAL_FIELDS = Map.of(
+            "difficulty", "difficulty", "type", "type", "format", "format", "tag", "tags");
+    private static final Map<String, String> COURSE_FIELDS = Map.of(
+            "subject", "subject", "difficulty", "difficulty");
+
+    private final MongoTemplate mongoTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final ReadRouting readRouting;
+    private final int facetValueLimit;
+    private final Cache<String, Facets> facetCache;
+
+    @Autowired
+    public CatalogService(MongoTemplate mongoTemplate,
+                          CacheInvalidationBus invalidationBus,
+                          ReadRouting readRouting,
+                          @Value("${catalog.facet-value-limit}") int facetValueLimit,
+                          @Value("${catalog.facet-cache-ttl-ms}") long facetCacheTtlMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.invalidationBus = invalidationBus;
+        this.readRouting = readRouting;
+        this.facetValueLimit = facetValueLimit;
+        this.facetCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(facetCacheTtlMs))
+                .build();
+        invalidationBus.register(CacheInvalidationBus.FACETS, facetCache::invalidateAll, facetCache::invalidateAll);
+    }
+
+    @Override
+    public CatalogPageDto<LearningMaterial> browseMaterials(String difficulty, String type, String format, String tag,
+                                                            int page, int size) {
+        Map<String, String> filters = new LinkedHashMap<>();
+        putFilter(filters, "difficulty", enumName(difficulty));
+        putFilter(filters, "type", enumName(type));
+        putFilter(filters, "format", enumName(format));
+        putFilter(filters, "tag", tag);
+
+        Query query = filteredQuery(filters, MATERIAL_FIELDS);
+        query.fields().exclude("content");
+        return page(FacetSnapshot.MATERIALS, LearningMaterial.class, query, filters, page, size);
+    }
+
+    @Override
+    public CatalogPageDto<Course> browseCourses(String subject, String difficulty, int page, int size) {
+        Map<String, String> filters = new LinkedHashMap<>();
+        putFilter(filters, "subject", subject);
+        putFilter(filters, "difficulty", enumName(difficulty));
+
+        return page(FacetSnapshot.COURSES, Course.class, filteredQuery(filters, COURSE_FIELDS), filters, page, size);
+    }
+
+    @Override
+    public void recordChange(FacetSnapshot before, FacetSnapshot after) {
+        if (!before.scope().equals(after.scope())) {
+            throw new IllegalArgumentException("Facet snapshots belong to different scopes");
+        }
+        Map<List<String>, Integer> deltas = new HashMap<>();
+        addDeltas(deltas, before, -1);
+        addDeltas(deltas, after, 1);
+        applyDeltas(after.scope(), deltas);
+    }
+
+    @Override
+    public void recordRemovals(String scope, List<FacetSnapshot> removed) {
+        Map<List<String>, Integer> deltas = new HashMap<>();
+        for (FacetSnapshot snapshot : removed) {
+            addDeltas(deltas, snapshot, -1);
+        }
+        applyDeltas(scope, deltas);
+    }
+
+    @Override
+    @Scheduled(cron = "${catalog.facet-reconcile-cron}")
+    public synchronized void reconcile() {
+        try {
+            reconcileScope(FacetSnapshot.MATERIALS, LearningMaterial.class, MATERIAL_FIELDS);
+            reconcileScope(FacetSnapshot.COURSES, Course.class, COURSE_FIELDS);
+        } catch (DataAccessException e) {
+            log.warn("Facet reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Builds the summaries on first start against an existing catalogue.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileIfMissing() {
+        if (!mongoTemplate.exists(new Query(), FacetCount.class)) {
+            reconcile();
+        }
+    }
+
+    private static void addDeltas(Map<List<String>, Integer> deltas, FacetSnapshot snapshot, int delta) {
+        snapshot.values().forEach((dimension, values) -> {
+            for (String value : values) {
+                deltas.merge(List.of(dimension, value), delta, Integer::sum);
+            }
+        });
+    }
+
+    /**
+     * One unordered bulk of upserted $inc for the non-zero deltas keyed by (dimension, value).
+     */
+    private void applyDeltas(String scope, Map<List<String>, Integer> deltas) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, FacetCount.class);
+        int changes = 0;
+        for (Map.Entry<List<String>, Integer> delta : deltas.entrySet()) {
+            if (delta.getValue() != 0) {
+                String dimension = delta.getKey().get(0);
+                String value = delta.getKey().get(1);
+                operations.upsert(facetQuery(scope, dimension, value), increment(scope, dimension, value, delta.getValue()));
+                changes++;
+            }
+        }
+        if (changes == 0) {
+            return;
+        }
+
+        try {
+            operations.execute();
+        } catch (DataAccessException e) {
+            log.warn("Facet count update for {} failed, the next reconcile will correct it: {}", scope, e.getMessage());
+        }
+        invalidationBus.invalidate(CacheInvalidationBus.FACETS, List.of(scope));
+    }
+
+    private <T> CatalogPageDto<T> page(String scope, Class<T> entity, Query query, Map<String, String> filters,
+                                       int page, int size) {
+        // One extra row tells whether a next page exists without counting the filter
+        query.with(Sort.by(Sort.Direction.DESC, "_id")).skip((long) page * size).limit(size + 1);
+        List<T> items = new ArrayList<>(mongoTemplate.find(readRouting.route(ReadRouting.CATALOG, query), entity));
+        boolean hasNext = items.size() > size;
+        if (hasNext) {
+            items.remove(size);
+        }
+
+        Facets facets = facetCache.get(scope, this::loadFacets);
+        Long total = null;
+        if (filters.isEmpty()) {
+            total = facets.count(FacetSnapshot.TOTAL, "all");
+        } else if (filters.size() == 1) {
+            Map.Entry<String, String> filter = filters.entrySet().iterator().next();
+            total = facets.count(filter.getKey(), filter.getValue());
+        }
+        return new CatalogPageDto<>(facets.visible(), items, page, size, hasNext, total);
+    }
+
+    private Facets loadFacets(String scope) {
+        Query query = new Query(where("scope").is(scope).and("count").gt(0));
+        List<FacetCount> counts = mongoTemplate.find(readRouting.route(ReadRouting.CATALOG, query), FacetCount.class);
+        counts.sort(Comparator.comparingLong(FacetCount::getCount).reversed().thenComparing(FacetCount::getValue));
+
+        Map<String, Long> exact = new HashMap<>();
+        Map<String, Map<String, Long>> visible = new TreeMap<>();
+        for (FacetCount count : counts) {
+            exact.put(count.getDimension() + ":" + count.getValue(), count.getCount());
+            if (FacetSnapshot.TOTAL.equals(count.getDimension())) {
+                continue;
+            }
+            Map<String, Long> values = visible.computeIfAbsent(count.getDimension(), dimension -> new LinkedHashMap<>());
+            if (values.size() < facetValueLimit) {
+                values.put(count.getValue(), count.getCount());
+            }
+        }
+        return new Facets(visible, exact);
+    }
+
+    private void reconcileScope(String scope, Class<?> entity, Map<String, String> fieldsByDimension) {
+        Criteria published = where("published").is(true);
+        List<FacetCount> computed = new ArrayList<>();
+        computed.add(facetCount(scope, FacetSnapshot.TOTAL, "all", mongoTemplate.count(new Query(published), entity)));
+
+        fieldsByDimension.forEach((dimension, field) -> {
+            Aggregation aggregation = "tags".equals(field)
+                    ? newAggregation(match(published), unwind(field), group(field).count().as("count"))
+                    : newAggregation(match(published), group(field).count().as("count"));
+            for (Document row : mongoTemplate.aggregate(aggregation, entity, Document.class).getMappedResults()) {
+                Object value = row.get("_id");
+                if (value != null && !value.toString().isBlank()) {
+                    computed.add(facetCount(scope, dimension, value.toString(), ((Number) row.get("count")).longValue()));
+                }
+            }
+        });
+
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, FacetCount.class);
+        for (FacetCount count : computed) {
+            operations.upsert(new Query(where("_id").is(count.getId())), new Update()
+                    .set("scope", scope)
+                    .set("dimension", count.getDimension())
+                    .set("value", count.getValue())
+                    .set("count", count.getCount()));
+        }
+        operations.execute();
+
+        List<String> ids = computed.stream().map(FacetCount::getId).toList();
+        mongoTemplate.remove(new Query(where("scope").is(scope).and("_id").nin(ids)), FacetCount.class);
+        facetCache.invalidate(scope);
+        log.info("Reconciled {} facet counts for {}", computed.size(), scope);
+    }
+
+    private static Query filteredQuery(Map<String, String> filters, Map<String, String> fieldsByDimension) {
+        Criteria criteria = where("published").is(true);
+        filters.forEach((dimension, value) -> criteria.and(fieldsByDimension.get(dimension)).is(value));
+        return new Query(criteria);
+    }
+
+    private static Query facetQuery(String scope, String dimension, String value) {
+        return new Query(where("_id").is(FacetCount.idFor(scope, dimension, value)));
+    }
+
+    private static Update increment(String scope, String dimension, String value, int delta) {
+        return new Update()
+                .inc("count", delta)
+                .setOnInsert("scope", scope)
+                .setOnInsert("dimension", dimension)
+                .setOnInsert("value", value);
+    }
+
+    private static FacetCount facetCount(String scope, String dimension, String value, long count) {
+        FacetCount facetCount = new FacetCount();
+        facetCount.setId(FacetCount.idFor(scope, dimension, value));
+        facetCount.setScope(scope);
+        facetCount.setDimension(dimension);
+        facetCount.setValue(value);
+        facetCount.setCount(count);
+        return facetCount;
+    }
+
+    private static void putFilter(Map<String, String> filters, String dimension, String value) {
+        if (value != null && !value.isBlank()) {
+            filters.put(dimension, value.trim());
+        }
+    }
+
+    private static String enumName(String value) {
+        return value == null ? null : value.trim().toUpperCase(Locale.ROOT).replace(" ", "_");
+    }
+
+    /**
+     * Facet counts of one scope: the top values per dimension for display, and all counts by "dimension:value".
+     */
+    private record Facets(Map<String, Map<String, Long>> visible, Map<String, Long> exact) {
+        Long count(String dimension, String value) {
+            return exact.getOrDefault(dimension + ":" + value, 0L);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.its.business.services;
+
+import com.its.business.grading.AnswerRedactor;
+import com.its.business.interfaces.IContentBodyService;
+import com.its.domain.entities.LearningMaterial;
+import com.its.domain.entities.LearningMaterialBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.regex.Matcher;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Content Body Service Implementation backed by the learning_material_bodies collection
+ * Listing queries no longer carry bodies; materials written before the split keep theirs inline
+ * until the background migration moves them in small batches
+ */
+@Service
+public class ContentBodyService implements IContentBodyService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentBodyService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final AnswerRedactor answerRedactor;
+    private final int compressThresholdBytes;
+    private final int migrationBatchSize;
+
+    // Set once a migration pass finds no inline bodies, so later runs skip the unindexed query
+    private volatile boolean migrationComplete;
+    private long migratedBodies;
+
+    @Autowired
+    public ContentBodyService(MongoTemplate mongoTemplate,
+                              AnswerRedactor answerRedactor,
+                              @Value("${content-body.compress-threshold-bytes}") int compressThresholdBytes,
+                              @Value("${content-body.migration.batch-size}") int migrationBatchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.answerRedactor = answerRedactor;
+        this.compressThresholdBytes = compressThresholdBytes;
+        this.migrationBatchSize = migrationBatchSize;
+    }
+
+    @Override
+    public void saveBody(String materialId, String content) {
+        if (content == null) {
+            deleteBodies(List.of(materialId));
+            return;
+        }
+        mongoTemplate.save(encode(materialId, content));
+    }
+
+    @Override
+    public String loadBody(LearningMaterial material) {
+        LearningMaterialBody body = mongoTemplate.findById(material.getId(), LearningMaterialBody.class);
+        return body != null ? body.decode() : material.getInlineContent();
+    }
+
+    @Override
+    public void deleteBodies(Collection<String> materialIds) {
+        if (!materialIds.isEmpty()) {
+            mongoTemplate.remove(new Query(where("_id").in(materialIds)), LearningMaterialBody.class);
+        }
+    }
+
+    @Override
+    public synchronized int migrateInlineBodies() {
+        Query inline = new Query(where("inlineContent").exists(true)).limit(migrationBatchSize);
+        inline.fields().include("inlineContent");
+        List<LearningMaterial> materials = mongoTemplate.find(inline, LearningMaterial.class);
+        if (materials.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations bodies = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LearningMaterialBody.class);
+        BulkOperations metadata = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LearningMaterial.class);
+        int bodyWrites = 0;
+        for (LearningMaterial material : materials) {
+            String content = material.getInlineContent();
+            if (content != null) {
+                // setOnInsert keeps a body that an update already wrote after the split
+                LearningMaterialBody body = encode(material.getId(), content);
+                Update insert = new Update()
+                        .setOnInsert("length", body.getLength())
+                        .setOnInsert("storedAt", body.getStoredAt());
+                if (body.getGzip() != null) {
+                    insert.setOnInsert("gzip", body.getGzip());
+                } else {
+                    insert.setOnInsert("text", body.getText());
+                }
+                if (body.getUploadRefs() != null) {
+                    insert.setOnInsert("uploadRefs", body.getUploadRefs());
+                }
+                bodies.upsert(new Query(where("_id").is(material.getId())), insert);
+                bodyWrites++;
+            }
+            metadata.updateOne(new Query(where("_id").is(material.getId()).and("inlineContent").exists(true)),
+                    new Update().unset("inlineContent").set("excerpt", LearningMaterial.excerptOf(answerRedactor.redact(content))));
+        }
+        // Bodies first, so an interrupted batch leaves the inline copy in place and is simply repeated
+        if (bodyWrites > 0) {
+            bodies.execute();
+        }
+        metadata.execute();
+        return materials.size();
+    }
+
+    @Scheduled(fixedDelayString = "${content-body.migration.interval-ms}")
+    public void runMigration() {
+        if (migrationComplete) {
+            return;
+        }
+        try {
+            int moved = migrateInlineBodies();
+            migratedBodies += moved;
+            if (moved == 0) {
+                migrationComplete = true;
+                if (migratedBodies > 0) {
+                    log.info("Moved {} inline material bodies to the body collection", migratedBodies);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Inline body migration batch failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private LearningMaterialBody encode(String materialId, String content) {
+        List<String> uploadRefs = new ArrayList<>();
+        Matcher matcher = OrphanCleanupService.UPLOAD_ID.matcher(content);
+        while (matcher.find()) {
+            uploadRefs.add(matcher.group());
+        }
+        return LearningMaterialBody.encode(materialId, content, compressThresholdBytes, uploadRefs);
+    }
+}
@@ -0,0 +1,228 @@
+package com.its.business.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.its.business.interfaces.IContentHistoryService;
+import com.its.domain.entities.ContentHistory;
+import com.its.domain.entities.LearningMaterial;
+import com.its.persistence.journal.ContentHistoryJournal;
+import com.its.persistence.repositories.ContentHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Content History Service Implementation using a journaled write-behind queue
+ * History records are journaled locally and bulk inserted on size or time thresholds.
+ * Callers wait only for the journal writer's group commit, never on this service's monitor.
+ */
+@Service
+public class ContentHistoryWriteBehindService implements IContentHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentHistoryWriteBehindService.class);
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final ContentHistoryRepository historyRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ContentHistoryJournal journal;
+    private final int batchSize;
+
+    // Guarded by this: latest version per material not yet persisted to MongoDB
+    private final Map<String, Integer> pendingVersions = new HashMap<>();
+
+    // Guarded by flushLock: records and segments from failed flushes, retried first
+    private final Object flushLock = new Object();
+    private final List<ContentHistory> unflushed = new ArrayList<>();
+    private final List<Path> sealedSegments = new ArrayList<>();
+
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "history-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    @Autowired
+    public ContentHistoryWriteBehindService(ContentHistoryRepository historyRepository,
+                                            MongoTemplate mongoTemplate,
+                                            ObjectMapper objectMapper,
+                                            @Value("${history.journal-dir}") String journalDir,
+                                            @Value("${history.journal-fsync}") boolean fsync,
+                                            @Value("${history.write-behind.batch-size}") int batchSize) {
+        this.historyRepository = historyRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.journal = new ContentHistoryJournal(Paths.get(journalDir), objectMapper, fsync);
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void recoverJournal() {
+        synchronized (flushLock) {
+            for (Path segment : journal.pendingSegments()) {
+                List<ContentHistory> records = journal.read(segment);
+                unflushed.addAll(records);
+                sealedSegments.add(segment);
+                synchronized (this) {
+                    records.forEach(this::trackPendingVersion);
+                }
+            }
+        }
+        if (!unflushed.isEmpty()) {
+            log.info("Replaying {} content history records from journal", unflushed.size());
+            flush();
+        }
+    }
+
+    @Override
+    public void recordChange(LearningMaterial material, String changeDescription, String changedBy, int version) {
+        ContentHistory history = new ContentHistory(material.getId(), material.getTitle(), material.getContent(),
+                changeDescription, changedBy, version);
+        // Id and timestamp are fixed up front so the record is identical on replay
+        history.setId(new ObjectId().toHexString());
+        history.setChangeDate(LocalDateTime.now());
+
+        synchronized (this) {
+            trackPendingVersion(history);
+        }
+
+        try {
+            journal.append(history).get();
+        } catch (ExecutionException e) {
+            // The material write has already committed; fall back to a direct insert rather than fail the request
+            log.warn("History journal append failed for material {}, inserting directly: {}",
+                    history.getMaterialId(), e.getCause().getMessage());
+            insertDirectly(history);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            insertDirectly(history);
+            return;
+        }
+
+        if (journal.activeRecordCount() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    @Override
+    public void recordDeletions(List<LearningMaterial> materials, String deletedBy) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ContentHistory> records = materials.stream().map(material -> {
+            ContentHistory history = new ContentHistory(material.getId(), material.getTitle(), null,
+                    "Content deleted", deletedBy, 0);
+            // One id per material, so a retried batch hits the duplicate key instead of adding a second record
+            history.setId(material.getId() + ":deleted");
+            history.setChangeDate(now);
+            return history;
+        }).toList();
+        if (!records.isEmpty()) {
+            insertBatch(records);
+        }
+    }
+
+    @Override
+    public int nextVersion(String materialId) {
+        synchronized (this) {
+            Integer latestPending = pendingVersions.get(materialId);
+            if (latestPending != null) {
+                return latestPending + 1;
+            }
+        }
+        return historyRepository.findFirstByMaterialIdOrderByVersionDesc(materialId)
+                .map(history -> history.getVersion() + 1)
+                .orElse(2);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${history.write-behind.flush-interval-ms}")
+    public void flush() {
+        synchronized (flushLock) {
+            ContentHistoryJournal.SealedSegment sealed = journal.seal();
+            if (sealed != null) {
+                unflushed.addAll(sealed.records());
+                sealedSegments.add(sealed.segment());
+            }
+            if (unflushed.isEmpty()) {
+                return;
+            }
+
+            try {
+                insertBatch(unflushed);
+            } catch (DataAccessException e) {
+                log.warn("Content history flush of {} records failed, will retry: {}", unflushed.size(), e.getMessage());
+                return;
+            }
+
+            sealedSegments.forEach(journal::delete);
+            sealedSegments.clear();
+            synchronized (this) {
+                unflushed.forEach(history -> pendingVersions.remove(history.getMaterialId(), history.getVersion()));
+            }
+            unflushed.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+        journal.close();
+    }
+
+    private void insertDirectly(ContentHistory history) {
+        try {
+            insertBatch(List.of(history));
+        } catch (DataAccessException e) {
+            log.error("Content history record for material {} version {} was lost: {}",
+                    history.getMaterialId(), history.getVersion(), e.getMessage());
+        } finally {
+            synchronized (this) {
+                pendingVersions.remove(history.getMaterialId(), history.getVersion());
+            }
+        }
+    }
+
+    private void insertBatch(List<ContentHistory> batch) {
+        try {
+            // Unordered so a replayed record that already landed does not stop the rest of the batch
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ContentHistory.class)
+                    .insert(batch)
+                    .execute();
+        } catch (BulkOperationException e) {
+            boolean onlyDuplicates = e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY);
+            if (!onlyDuplicates) {
+                throw e;
+            }
+        }
+    }
+
+    private void trackPendingVersion(ContentHistory history) {
+        if (history.getVersion() > 0) {
+            pendingVersions.merge(history.getMaterialId(), history.getVersion(), Math::max);
+        }
+    }
+}
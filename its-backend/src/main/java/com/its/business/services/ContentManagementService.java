@@ -1,13 +1,31 @@
 package com.its.business.services;
 
+import com.its.business.catalog.FacetSnapshot;
+import com.its.business.grading.AnswerRedactor;
+import com.its.business.interfaces.IAnalyticsService;
+import com.its.business.interfaces.ICatalogService;
+import com.its.business.interfaces.IContentBodyService;
+import com.its.business.interfaces.IContentHistoryService;
 import com.its.business.interfaces.IContentManagementService;
+import com.its.business.interfaces.IInstructorDashboardService;
+import com.its.business.interfaces.IPublishingService;
+import com.its.business.publishing.PublicationSchedule;
+import com.its.business.publishing.PublishedContentIndex;
 import com.its.domain.dto.LearningMaterialDto;
+import com.its.domain.entities.AnalyticsMetric;
+import com.its.domain.entities.InstructorDashboard;
 import com.its.domain.entities.LearningMaterial;
-import com.its.domain.entities.ContentHistory;
+import com.its.domain.exceptions.DomainException;
+import com.its.domain.exceptions.PermissionDeniedException;
+import com.its.domain.exceptions.ResourceNotFoundException;
+import com.its.infrastructure.cache.CacheInvalidationBus;
 import com.its.persistence.repositories.LearningMaterialRepository;
-import com.its.persistence.repositories.ContentHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -15,9 +33,14 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 /**
  * Content Management Service Implementation following Single Responsibility Principle
@@ -26,94 +49,185 @@ import java.util.UUID;
 @Service
 public class ContentManagementService implements IContentManagementService {
 
+    private static final Logger log = LoggerFactory.getLogger(ContentManagementService.class);
+
     private final LearningMaterialRepository materialRepository;
-    private final ContentHistoryRepository historyRepository;
+    private final IContentHistoryService historyService;
+    private final ICatalogService catalogService;
+    private final IContentBodyService bodyService;
+    private final CacheInvalidationBus invalidationBus;
+    private final IAnalyticsService analyticsService;
+    private final IInstructorDashboardService dashboardService;
+    private final IPublishingService publishingService;
+    private final PublishedContentIndex publishedIndex;
+    private final AnswerRedactor answerRedactor;
 
     @Value("${file.upload-dir}")
     private String uploadDir;
 
     @Autowired
     public ContentManagementService(LearningMaterialRepository materialRepository,
-                                   ContentHistoryRepository historyRepository) {
+                                   IContentHistoryService historyService,
+                                   ICatalogService catalogService,
+                                   IContentBodyService bodyService,
+                                   CacheInvalidationBus invalidationBus,
+                                   IAnalyticsService analyticsService,
+                                   IInstructorDashboardService dashboardService,
+                                   IPublishingService publishingService,
+                                   PublishedContentIndex publishedIndex,
+                                   AnswerRedactor answerRedactor) {
         this.materialRepository = materialRepository;
-        this.historyRepository = historyRepository;
+        this.historyService = historyService;
+        this.catalogService = catalogService;
+        this.bodyService = bodyService;
+        this.invalidationBus = invalidationBus;
+        this.analyticsService = analyticsService;
+        this.dashboardService = dashboardService;
+        this.publishingService = publishingService;
+        this.publishedIndex = publishedIndex;
+        this.answerRedactor = answerRedactor;
     }
 
     @Override
     public LearningMaterial createContent(LearningMaterialDto contentDto, String createdBy) {
+        PublicationSchedule schedule = PublicationSchedule.of(contentDto, Instant.now());
         LearningMaterial material = new LearningMaterial();
         material.setTitle(contentDto.getTitle());
         material.setType(contentDto.getContentType());
         material.setFormat(contentDto.getFileFormat());
         material.setContent(contentDto.getContent());
+        material.setExcerpt(excerptOf(contentDto.getContent()));
         material.setTopicId(contentDto.getTopicId());
         material.setCreatedBy(createdBy);
-        material.setPublished(contentDto.isPublished());
+        material.setPublished(schedule.published());
+        material.setPublishAt(schedule.publishAt());
+        material.setUnpublishAt(schedule.unpublishAt());
         material.setDifficulty(contentDto.getDifficultyLevel());
         material.setTags(contentDto.getTags());
+        material.setContentVersion(1);
 
         LearningMaterial savedMaterial = materialRepository.save(material);
+        try {
+            bodyService.saveBody(savedMaterial.getId(), contentDto.getContent());
+        } catch (RuntimeException e) {
+            materialRepository.deleteById(savedMaterial.getId());
+            throw e;
+        }
+        catalogService.recordChange(FacetSnapshot.none(FacetSnapshot.MATERIALS), FacetSnapshot.of(savedMaterial));
+        publishingService.scheduleTransitions(savedMaterial);
+        invalidateTopic(savedMaterial.getTopicId());
+        analyticsService.record(AnalyticsMetric.MATERIALS_CREATED, createdBy);
+        dashboardService.recordChange(createdBy, InstructorDashboard.MATERIALS, null,
+                InstructorDashboard.Item.of(savedMaterial));
         
         // Create history record
-        saveContentHistory(savedMaterial, "Content created", createdBy, 1);
+        historyService.recordChange(savedMaterial, "Content created", createdBy, 1);
         
         return savedMaterial;
     }
 
     @Override
     public LearningMaterial updateContent(String id, LearningMaterialDto contentDto, String userId) {
-        LearningMaterial material = materialRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Content not found"));
+        LocalDateTime now = LocalDateTime.now();
+        PublicationSchedule schedule = PublicationSchedule.of(contentDto, Instant.now());
+        Update update = new Update()
+                .set("title", contentDto.getTitle())
+                .set("excerpt", excerptOf(contentDto.getContent()))
+                .set("published", schedule.published())
+                .set("lastModifiedDate", now)
+                .inc("contentVersion", 1);
+        setOrUnset(update, "publishAt", schedule.publishAt());
+        setOrUnset(update, "unpublishAt", schedule.unpublishAt());
 
-        if (!canUserModifyContent(id, userId, "INSTRUCTOR")) {
-            throw new RuntimeException("Access denied");
+        // Ownership check, field update and version bump in a single round trip
+        LearningMaterial material = materialRepository.updateIfOwner(id, userId, update)
+                .orElseThrow(() -> missingOrDenied(id));
+        FacetSnapshot before = FacetSnapshot.of(material);
+        InstructorDashboard.Item dashboardBefore = InstructorDashboard.Item.of(material);
+        try {
+            bodyService.saveBody(id, contentDto.getContent());
+        } catch (RuntimeException e) {
+            restoreMetadata(material);
+            throw e;
         }
 
-        // Get current version
-        List<ContentHistory> history = historyRepository.findByMaterialIdOrderByVersionDesc(id);
-        int newVersion = history.isEmpty() ? 2 : history.get(0).getVersion() + 1;
+        // Legacy documents need a second write; everything else was fully updated by the first
+        int newVersion = material.getContentVersion() + 1;
+        if (material.isInlineContentPresent() || material.getContentVersion() == 0) {
+            // The inline copy goes only once the body is stored, so a failed save never loses it
+            Update afterBody = new Update().unset("inlineContent");
+            if (material.getContentVersion() == 0) {
+                // Documents written before contentVersion existed take their version from history
+                newVersion = historyService.nextVersion(id);
+                afterBody.max("contentVersion", newVersion);
+            }
+            materialRepository.updateIfOwner(id, userId, afterBody);
+        }
 
         material.setTitle(contentDto.getTitle());
         material.setContent(contentDto.getContent());
-        material.setPublished(contentDto.isPublished());
+        material.setExcerpt(excerptOf(contentDto.getContent()));
+        material.setInlineContent(null);
+        material.setPublished(schedule.published());
+        material.setPublishAt(schedule.publishAt());
+        material.setUnpublishAt(schedule.unpublishAt());
+        material.setLastModifiedDate(now);
+        material.setContentVersion(newVersion);
+        catalogService.recordChange(before, FacetSnapshot.of(material));
+        dashboardService.recordChange(material.getCreatedBy(), InstructorDashboard.MATERIALS, dashboardBefore,
+                InstructorDashboard.Item.of(material));
+        publishingService.scheduleTransitions(material);
+        invalidationBus.invalidate(CacheInvalidationBus.ANSWER_KEYS, List.of(id));
+        invalidateTopic(material.getTopicId());
 
-        LearningMaterial savedMaterial = materialRepository.save(material);
-        
         // Save history
-        saveContentHistory(savedMaterial, "Content updated", userId, newVersion);
+        historyService.recordChange(material, "Content updated", userId, newVersion);
         
-        return savedMaterial;
+        return material;
     }
 
     @Override
     public boolean deleteContent(String id, String userId) {
-        LearningMaterial material = materialRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Content not found"));
+        LearningMaterial material = materialRepository.deleteIfOwner(id, userId)
+                .orElseThrow(() -> missingOrDenied(id));
+        catalogService.recordChange(FacetSnapshot.of(material), FacetSnapshot.none(FacetSnapshot.MATERIALS));
+        dashboardService.recordChange(material.getCreatedBy(), InstructorDashboard.MATERIALS,
+                InstructorDashboard.Item.of(material), null);
+        publishingService.cancelTransitions(id);
+        invalidationBus.invalidate(CacheInvalidationBus.ANSWER_KEYS, List.of(id));
+        invalidateTopic(material.getTopicId());
+        material.setContent(bodyService.loadBody(material));
+        bodyService.deleteBodies(List.of(id));
 
-        if (!canUserModifyContent(id, userId, "INSTRUCTOR")) {
-            throw new RuntimeException("Access denied");
-        }
-
-        // Create history before deleting
-        saveContentHistory(material, "Content deleted", userId, 0);
-        
-        materialRepository.deleteById(id);
+        historyService.recordChange(material, "Content deleted", userId, 0);
         return true;
     }
 
     @Override
-    public Optional<LearningMaterial> getContentById(String id) {
-        return materialRepository.findById(id);
+    public Optional<LearningMaterial> getContentById(String id, String userId, String userRole) {
+        // The only read that returns the body, so it is what counts as a view
+        return materialRepository.findById(id).map(material -> {
+            String body = bodyService.loadBody(material);
+            boolean answersVisible = "ADMIN".equals(userRole) || userId.equals(material.getCreatedBy());
+            if (!answersVisible && material.getType() != null && material.getType().isGradable()) {
+                body = answerRedactor.redact(body);
+                material.setExcerpt(LearningMaterial.excerptOf(body));
+            }
+            material.setContent(body);
+            analyticsService.record(AnalyticsMetric.MATERIAL_VIEWS, id);
+            analyticsService.record(AnalyticsMetric.AUTHOR_MATERIAL_VIEWS, material.getCreatedBy());
+            return material;
+        });
     }
 
     @Override
     public List<LearningMaterial> getAllContent() {
-        return materialRepository.findAll();
+        return materialRepository.findForListing(new Criteria());
     }
 
     @Override
     public List<LearningMaterial> getContentByTopic(String topicId) {
-        return materialRepository.findPublishedByTopicId(topicId);
+        return publishedIndex.materialsOfTopic(topicId);
     }
 
     @Override
@@ -123,7 +237,7 @@ public class ContentManagementService implements IContentManagementService {
 
     @Override
     public List<LearningMaterial> searchContent(String query) {
-        return materialRepository.findByTitleContainingIgnoreCase(query);
+        return materialRepository.findForListing(where("title").regex(Pattern.quote(query), "i"));
     }
 
     @Override
@@ -160,16 +274,52 @@ public class ContentManagementService implements IContentManagementService {
         return "INSTRUCTOR".equals(userRole) && material.getCreatedBy().equals(userId);
     }
 
-    private void saveContentHistory(LearningMaterial material, String changeDescription, 
-                                   String changedBy, int version) {
-        ContentHistory history = new ContentHistory();
-        history.setMaterialId(material.getId());
-        history.setTitle(material.getTitle());
-        history.setContent(material.getContent());
-        history.setChangeDescription(changeDescription);
-        history.setChangedBy(changedBy);
-        history.setVersion(version);
-        
-        historyRepository.save(history);
+    /**
+     * Excerpts are listed to every user, so they are cut from the quiz without its answers
+     */
+    private String excerptOf(String content) {
+        return LearningMaterial.excerptOf(answerRedactor.redact(content));
+    }
+
+    private void invalidateTopic(String topicId) {
+        if (topicId != null) {
+            invalidationBus.invalidate(CacheInvalidationBus.PUBLISHED_MATERIALS, List.of(topicId));
+            invalidationBus.invalidate(CacheInvalidationBus.RECOMMENDATIONS, List.of(topicId));
+        }
+    }
+
+    /**
+     * Puts back the metadata replaced by an update whose body could not be saved, unless a later
+     * update has already moved the version on.
+     */
+    private void restoreMetadata(LearningMaterial previous) {
+        Update restore = new Update()
+                .set("title", previous.getTitle())
+                .set("published", previous.isPublished())
+                .set("contentVersion", previous.getContentVersion());
+        setOrUnset(restore, "excerpt", previous.getExcerpt());
+        setOrUnset(restore, "publishAt", previous.getPublishAt());
+        setOrUnset(restore, "unpublishAt", previous.getUnpublishAt());
+        setOrUnset(restore, "lastModifiedDate", previous.getLastModifiedDate());
+        try {
+            materialRepository.updateIfVersion(previous.getId(), previous.getContentVersion() + 1, restore);
+        } catch (RuntimeException e) {
+            log.error("Failed to restore material {} after its body could not be saved: {}", previous.getId(), e.getMessage());
+        }
+    }
+
+    private static void setOrUnset(Update update, String field, Object value) {
+        if (value != null) {
+            update.set(field, value);
+        } else {
+            update.unset(field);
+        }
+    }
+
+    private DomainException missingOrDenied(String id) {
+        // Only reached when the conditional write matched nothing
+        return materialRepository.existsById(id)
+                ? new PermissionDeniedException("Access denied")
+                : new ResourceNotFoundException("Content not found");
     }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.its.business.services;
+
+import com.its.business.interfaces.IEmailLookupService;
+import com.its.business.registration.EmailBloomFilter;
+import com.its.domain.entities.User;
+import com.its.infrastructure.cache.CacheInvalidationBus;
+import com.its.persistence.repositories.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * Email Lookup Service Implementation answering "is this email taken" from a Bloom filter of registered emails
+ * Only possible positives go to Mongo, so the registration form's per-keystroke checks for free emails cost no query.
+ * The filter is built at startup, updated on registration on every node through the invalidation bus and rebuilt
+ * periodically to drop deleted users and resize; until the first build completes every lookup goes to Mongo.
+ */
+@Service
+public class EmailLookupService implements IEmailLookupService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailLookupService.class);
+
+    private final UserRepository userRepository;
+    private final MongoTemplate mongoTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+    private final int streamBatchSize;
+
+    private volatile EmailBloomFilter filter;
+    // Set while a rebuild streams users so registrations in that window reach the new filter too
+    private volatile EmailBloomFilter building;
+
+    private final Counter filteredLookups;
+    private final Counter databaseLookups;
+
+    @Autowired
+    public EmailLookupService(UserRepository userRepository,
+                              MongoTemplate mongoTemplate,
+                              MeterRegistry meterRegistry,
+                              CacheInvalidationBus invalidationBus,
+                              @Value("${email-bloom.expected-users}") long expectedUsers,
+                              @Value("${email-bloom.false-positive-rate}") double falsePositiveRate,
+                              @Value("${email-bloom.stream-batch-size}") int streamBatchSize) {
+        this.userRepository = userRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.invalidationBus = invalidationBus;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.streamBatchSize = streamBatchSize;
+        this.filteredLookups = lookupCounter(meterRegistry, "bloom");
+        this.databaseLookups = lookupCounter(meterRegistry, "database");
+        // The filter caches "not registered" answers, which a registration on any node invalidates
+        invalidationBus.register(CacheInvalidationBus.REGISTERED_EMAILS, this::addToFilters, this::rebuild);
+    }
+
+    @Override
+    public boolean isEmailRegistered(String email) {
+        EmailBloomFilter current = filter;
+        if (current != null && !current.mightContain(email)) {
+            filteredLookups.increment();
+            return false;
+        }
+        databaseLookups.increment();
+        return userRepository.existsByEmail(email);
+    }
+
+    @Override
+    public void recordRegistered(Collection<String> emails) {
+        invalidationBus.invalidate(CacheInvalidationBus.REGISTERED_EMAILS, emails);
+    }
+
+    private void addToFilters(Collection<String> emails) {
+        // Read building first: a rebuild publishes the new filter before clearing building, so one of the two sees it
+        EmailBloomFilter next = building;
+        EmailBloomFilter current = filter;
+        for (String email : emails) {
+            if (current != null) {
+                current.add(email);
+            }
+            if (next != null) {
+                next.add(email);
+            }
+        }
+    }
+
+    /**
+     * Streams every email into a new filter sized for twice the current user count, then swaps it in.
+     * building is published before the cursor opens: a registration either lands in the collection before
+     * the stream starts or calls recordRegistered while building is set, so none is missed.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${email-bloom.rebuild-interval-ms}", initialDelayString = "${email-bloom.rebuild-interval-ms}")
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        try {
+            long userCount = mongoTemplate.estimatedCount(User.class);
+            EmailBloomFilter next = EmailBloomFilter.create(Math.max(expectedUsers, userCount * 2), falsePositiveRate);
+            building = next;
+
+            Query query = new Query().cursorBatchSize(streamBatchSize);
+            query.fields().include("email");
+            long added = 0;
+            try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+                for (User user : (Iterable<User>) users::iterator) {
+                    next.add(user.getEmail());
+                    added++;
+                }
+            }
+            filter = next;
+            log.info("Email filter rebuilt with {} emails in {} ms ({} bits, {} hashes)", added,
+                    (System.nanoTime() - started) / 1_000_000, next.bitCount(), next.hashCount());
+        } catch (DataAccessException e) {
+            log.warn("Email filter rebuild failed, keeping the previous filter: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("its.email.lookups")
+                .description("Email existence checks by where they were answered")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,138 @@
+package com.its.business.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.its.business.grading.AnswerKey;
+import com.its.business.grading.AnswerKeyCompiler;
+import com.its.business.interfaces.IContentBodyService;
+import com.its.business.interfaces.IGradingService;
+import com.its.domain.dto.BatchGradingResultDto;
+import com.its.domain.dto.GradingResultDto;
+import com.its.domain.dto.QuizSubmissionDto;
+import com.its.domain.entities.LearningMaterial;
+import com.its.domain.exceptions.GradingException;
+import com.its.domain.exceptions.PermissionDeniedException;
+import com.its.domain.exceptions.ResourceNotFoundException;
+import com.its.infrastructure.cache.CacheInvalidationBus;
+import com.its.persistence.repositories.LearningMaterialRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Grading Service Implementation with a per-version answer key cache
+ * Each request reads only the material's version fields; the quiz JSON is parsed
+ * and compiled once per version and the immutable key is shared across requests
+ */
+@Service
+public class GradingService implements IGradingService {
+
+    private final LearningMaterialRepository materialRepository;
+    private final MongoTemplate mongoTemplate;
+    private final AnswerKeyCompiler compiler;
+    private final IContentBodyService bodyService;
+    private final Cache<String, AnswerKey> answerKeys;
+
+    @Autowired
+    public GradingService(LearningMaterialRepository materialRepository,
+                          MongoTemplate mongoTemplate,
+                          AnswerKeyCompiler compiler,
+                          IContentBodyService bodyService,
+                          MeterRegistry meterRegistry,
+                          CacheInvalidationBus invalidationBus,
+                          @Value("${grading.answer-key-cache.max-size}") long maxSize,
+                          @Value("${grading.answer-key-cache.expire-after-access-minutes}") long expireMinutes) {
+        this.materialRepository = materialRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.compiler = compiler;
+        this.bodyService = bodyService;
+        this.answerKeys = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, answerKeys, "grading.answer-keys");
+        // Keys are checked against the material's version on every request; eviction only frees stale entries early
+        invalidationBus.register(CacheInvalidationBus.ANSWER_KEYS, answerKeys::invalidateAll, answerKeys::invalidateAll);
+    }
+
+    @Override
+    public GradingResultDto grade(String materialId, QuizSubmissionDto submission, String userId) {
+        LearningMaterial header = loadHeader(materialId);
+        if (!header.isPublished() && !userId.equals(header.getCreatedBy())) {
+            throw new ResourceNotFoundException("Content not found");
+        }
+        return answerKeyFor(header).grade(userId, submission.getAnswers());
+    }
+
+    @Override
+    public BatchGradingResultDto gradeBatch(String materialId, List<QuizSubmissionDto> submissions, String userId,
+                                            String userRole) {
+        LearningMaterial header = loadHeader(materialId);
+        if (!"ADMIN".equals(userRole) && !userId.equals(header.getCreatedBy())) {
+            throw new PermissionDeniedException("Only the content owner or an admin can grade submissions in batch");
+        }
+        AnswerKey answerKey = answerKeyFor(header);
+
+        List<GradingResultDto> results = new ArrayList<>(submissions.size());
+        int passed = 0;
+        double percentageTotal = 0;
+        for (QuizSubmissionDto submission : submissions) {
+            GradingResultDto result = answerKey.grade(submission.getStudentId(), submission.getAnswers());
+            results.add(result);
+            percentageTotal += result.getPercentage();
+            if (result.isPassed()) {
+                passed++;
+            }
+        }
+
+        BatchGradingResultDto batch = new BatchGradingResultDto();
+        batch.setMaterialId(materialId);
+        batch.setContentVersion(answerKey.getContentVersion());
+        batch.setSubmissionCount(results.size());
+        batch.setPassedCount(passed);
+        batch.setAveragePercentage(results.isEmpty() ? 0 : percentageTotal / results.size());
+        batch.setResults(results);
+        return batch;
+    }
+
+    /**
+     * Loads everything but the content, which is only needed when the key has to be compiled
+     */
+    private LearningMaterial loadHeader(String materialId) {
+        Query query = new Query(where("_id").is(materialId));
+        query.fields().include("type", "published", "createdBy", "contentVersion", "lastModifiedDate");
+        LearningMaterial header = mongoTemplate.findOne(query, LearningMaterial.class);
+        if (header == null) {
+            throw new ResourceNotFoundException("Content not found");
+        }
+        if (header.getType() == null || !header.getType().isGradable()) {
+            throw new GradingException("Content of type " + header.getType() + " cannot be graded");
+        }
+        return header;
+    }
+
+    private AnswerKey answerKeyFor(LearningMaterial header) {
+        AnswerKey cached = answerKeys.getIfPresent(header.getId());
+        if (cached != null && cached.isVersion(header.getContentVersion(), header.getLastModifiedDate())) {
+            return cached;
+        }
+        // Compile from the full document and body; concurrent misses for one material may compile twice, which is harmless
+        LearningMaterial material = materialRepository.findById(header.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Content not found"));
+        material.setContent(bodyService.loadBody(material));
+        AnswerKey compiled = compiler.compile(material);
+        answerKeys.put(material.getId(), compiled);
+        return compiled;
+    }
+}
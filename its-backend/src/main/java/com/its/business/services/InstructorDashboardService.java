@@ -0,0 +1,160 @@
+package com.its.business.services;
+
+import com.its.business.interfaces.IInstructorDashboardService;
+import com.its.domain.entities.Course;
+import com.its.domain.entities.InstructorDashboard;
+import com.its.domain.entities.LearningMaterial;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Instructor Dashboard Service Implementation maintaining instructor_dashboards on write
+ * A change pulls the item from its recent list, then adjusts the counts and pushes the item back to the front
+ * with $slice, in one ordered bulk. The pull and push are separate operations, so concurrent edits of one item
+ * can both push it; reads keep only its newest copy, and its next edit pulls every copy. Writes never create
+ * the document: a missing one is built from courses and learning_materials on the next read. A write landing
+ * between that build's queries and its save is lost, so documents are also rebuilt once they are older than
+ * rebuild-after-minutes.
+ */
+@Service
+public class InstructorDashboardService implements IInstructorDashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(InstructorDashboardService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final int recentItems;
+    private final Duration rebuildAfter;
+    private final Counter rebuilds;
+
+    @Autowired
+    public InstructorDashboardService(MongoTemplate mongoTemplate,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${instructor-dashboard.recent-items}") int recentItems,
+                                      @Value("${instructor-dashboard.rebuild-after-minutes}") long rebuildAfterMinutes) {
+        this.mongoTemplate = mongoTemplate;
+        this.recentItems = recentItems;
+        this.rebuildAfter = Duration.ofMinutes(rebuildAfterMinutes);
+        this.rebuilds = Counter.builder("its.instructor-dashboard.rebuilds")
+                .description("Instructor dashboards rebuilt from the source collections")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public InstructorDashboard getDashboard(String instructor) {
+        InstructorDashboard dashboard = mongoTemplate.findById(instructor, InstructorDashboard.class);
+        if (dashboard != null && dashboard.getRebuiltAt() != null
+                && dashboard.getRebuiltAt().isAfter(LocalDateTime.now().minus(rebuildAfter))) {
+            withoutDuplicates(dashboard.getCourses());
+            withoutDuplicates(dashboard.getMaterials());
+            return dashboard;
+        }
+        return rebuild(instructor);
+    }
+
+    @Override
+    public void recordChange(String instructor, String section, InstructorDashboard.Item before,
+                             InstructorDashboard.Item after) {
+        if (instructor == null || (before == null && after == null)) {
+            return;
+        }
+        String itemId = after != null ? after.getItemId() : before.getItemId();
+        Query query = new Query(where("_id").is(instructor));
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, InstructorDashboard.class);
+        operations.updateOne(query, new Update().pull(section + ".recent", new Document("itemId", itemId)));
+
+        Update update = new Update();
+        long countDelta = (after != null ? 1 : 0) - (before != null ? 1 : 0);
+        long publishedDelta = published(after) - published(before);
+        if (countDelta != 0) {
+            update.inc(section + ".count", countDelta);
+        }
+        if (publishedDelta != 0) {
+            update.inc(section + ".publishedCount", publishedDelta);
+        }
+        if (after != null) {
+            update.push(section + ".recent").atPosition(0).slice(recentItems).each(after);
+        }
+        if (!update.getUpdateObject().isEmpty()) {
+            operations.updateOne(query, update);
+        }
+
+        try {
+            operations.execute();
+        } catch (DataAccessException e) {
+            log.warn("Updating the dashboard of {} failed, rebuilding it on next read: {}", instructor, e.getMessage());
+            try {
+                invalidate(List.of(instructor));
+            } catch (DataAccessException ignored) {
+                // Corrected by the age-based rebuild
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(Collection<String> instructors) {
+        List<String> ids = instructors.stream().filter(Objects::nonNull).distinct().toList();
+        if (!ids.isEmpty()) {
+            mongoTemplate.remove(new Query(where("_id").in(ids)), InstructorDashboard.class);
+        }
+    }
+
+    private InstructorDashboard rebuild(String instructor) {
+        InstructorDashboard dashboard = new InstructorDashboard(instructor);
+        fill(dashboard.getCourses(), instructor, Course.class);
+        fill(dashboard.getMaterials(), instructor, LearningMaterial.class);
+        dashboard.setRebuiltAt(LocalDateTime.now());
+        mongoTemplate.save(dashboard);
+        rebuilds.increment();
+        return dashboard;
+    }
+
+    private void fill(InstructorDashboard.Section section, String instructor, Class<?> entity) {
+        section.setCount(mongoTemplate.count(new Query(where("createdBy").is(instructor)), entity));
+        section.setPublishedCount(mongoTemplate.count(
+                new Query(where("createdBy").is(instructor).and("published").is(true)), entity));
+
+        Query recent = new Query(where("createdBy").is(instructor))
+                .with(Sort.by(Sort.Direction.DESC, "lastModifiedDate"))
+                .limit(recentItems);
+        recent.fields().include("title", "published", "lastModifiedDate", "createdDate");
+        for (Object item : mongoTemplate.find(recent, entity)) {
+            section.getRecent().add(item instanceof Course course
+                    ? InstructorDashboard.Item.of(course)
+                    : InstructorDashboard.Item.of((LearningMaterial) item));
+        }
+    }
+
+    /**
+     * Keeps the first, most recently pushed, entry of each item.
+     */
+    private static void withoutDuplicates(InstructorDashboard.Section section) {
+        Set<String> seen = new HashSet<>();
+        section.getRecent().removeIf(item -> !seen.add(item.getItemId()));
+    }
+
+    private static int published(InstructorDashboard.Item item) {
+        return item != null && item.isPublished() ? 1 : 0;
+    }
+}
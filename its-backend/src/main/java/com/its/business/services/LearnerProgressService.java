@@ -0,0 +1,381 @@
+package com.its.business.services;
+
+import com.its.business.interfaces.ILearnerProgressService;
+import com.its.domain.dto.LearningEventDto;
+import com.its.domain.entities.LearningEvent;
+import com.its.domain.entities.LearningEventType;
+import com.its.domain.entities.LearningMaterial;
+import com.its.domain.entities.TopicProgress;
+import com.its.domain.exceptions.ServiceOverloadedException;
+import com.its.persistence.repositories.TopicProgressRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Learner Progress Service Implementation using a bounded ingestion buffer
+ * Events are appended to learning_events in unordered bulk inserts and rolled up into
+ * topic_progress with one upsert per learner and topic in each batch. Each upsert records its
+ * batch id on the progress document, so a failed roll-up can be retried without double counting
+ */
+@Service
+public class LearnerProgressService implements ILearnerProgressService {
+
+    private static final Logger log = LoggerFactory.getLogger(LearnerProgressService.class);
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final TopicProgressRepository progressRepository;
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+    private final int appliedBatchHistory;
+    private final BlockingQueue<LearningEvent> buffer;
+
+    // Guarded by flushLock: events whose insert failed, retried first on the next flush
+    private final Object flushLock = new Object();
+    private final List<LearningEvent> unflushed = new ArrayList<>();
+    private final List<List<LearningEvent>> unrolled = new ArrayList<>();
+
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "progress-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final Counter acceptedEvents;
+    private final Counter rejectedEvents;
+    private final Counter storedEvents;
+    private final Counter droppedEvents;
+
+    @Autowired
+    public LearnerProgressService(TopicProgressRepository progressRepository,
+                                  MongoTemplate mongoTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${progress.buffer-capacity}") int bufferCapacity,
+                                  @Value("${progress.batch-size}") int batchSize,
+                                  @Value("${progress.applied-batch-history}") int appliedBatchHistory) {
+        this.progressRepository = progressRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+        this.appliedBatchHistory = appliedBatchHistory;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+
+        Gauge.builder("its.progress.buffer.size", buffer, Collection::size)
+                .description("Learning events waiting to be flushed")
+                .register(meterRegistry);
+        this.acceptedEvents = eventCounter(meterRegistry, "accepted");
+        this.rejectedEvents = eventCounter(meterRegistry, "rejected");
+        this.storedEvents = eventCounter(meterRegistry, "stored");
+        this.droppedEvents = eventCounter(meterRegistry, "dropped");
+    }
+
+    @Override
+    public int recordEvents(String userId, List<LearningEventDto> events) {
+        LocalDateTime now = LocalDateTime.now();
+        List<LearningEvent> incoming = new ArrayList<>(events.size());
+        for (LearningEventDto dto : events) {
+            LearningEvent event = new LearningEvent(userId, dto.getMaterialId(), dto.getType());
+            // Id is fixed up front so a retried insert is idempotent
+            event.setId(new ObjectId().toHexString());
+            event.setOccurredAt(now);
+            incoming.add(event);
+        }
+
+        // A request is accepted whole or not at all, so a client retrying after a 503 never resends stored events.
+        // Only producers take this lock; the flusher draining concurrently can only make more room.
+        synchronized (buffer) {
+            if (buffer.remainingCapacity() < incoming.size()) {
+                rejectedEvents.increment(incoming.size());
+                throw new ServiceOverloadedException("Progress buffer is full, rejected " + incoming.size() + " events");
+            }
+            buffer.addAll(incoming);
+        }
+        acceptedEvents.increment(incoming.size());
+
+        if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+        return incoming.size();
+    }
+
+    @Override
+    public TopicProgress getTopicProgress(String userId, String topicId) {
+        return progressRepository.findById(TopicProgress.idFor(userId, topicId))
+                .orElseGet(() -> new TopicProgress(userId, topicId));
+    }
+
+    @Override
+    public List<TopicProgress> getProgress(String userId) {
+        return progressRepository.findByUserId(userId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${progress.flush-interval-ms}")
+    public void flush() {
+        synchronized (flushLock) {
+            Iterator<List<LearningEvent>> retries = unrolled.iterator();
+            while (retries.hasNext()) {
+                if (!tryRollUp(retries.next())) {
+                    return;
+                }
+                retries.remove();
+            }
+
+            if (!unflushed.isEmpty()) {
+                if (!flushBatch(unflushed)) {
+                    return;
+                }
+                unflushed.clear();
+            }
+
+            List<LearningEvent> batch = new ArrayList<>(batchSize);
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                if (!flushBatch(batch)) {
+                    unflushed.addAll(batch);
+                    return;
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Recomputes a learner's topic progress from learning_events, replacing whatever was rolled up.
+     * Batches rolled up on other nodes while the events are being read can be lost, so this is meant
+     * for repairing a learner whose progress has drifted rather than for routine use.
+     */
+    @Override
+    public int rebuildProgress(String userId) {
+        flush();
+        Map<String, ProgressDelta> deltas = new HashMap<>();
+        try (Stream<LearningEvent> events = mongoTemplate.stream(new Query(where("userId").is(userId)), LearningEvent.class)) {
+            events.filter(event -> event.getTopicId() != null)
+                    .forEach(event -> deltas.computeIfAbsent(TopicProgress.idFor(userId, event.getTopicId()),
+                            id -> new ProgressDelta(userId, event.getTopicId())).add(event));
+        }
+
+        if (!deltas.isEmpty()) {
+            BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TopicProgress.class);
+            deltas.forEach((id, delta) -> operations.replaceOne(new Query(where("_id").is(id)),
+                    delta.toProgress(appliedBatchHistory), FindAndReplaceOptions.options().upsert()));
+            operations.execute();
+        }
+        List<String> topicIds = deltas.values().stream().map(delta -> delta.topicId).toList();
+        mongoTemplate.remove(new Query(where("userId").is(userId).and("topicId").nin(topicIds)), TopicProgress.class);
+        log.info("Rebuilt progress of {} in {} topics from learning events", userId, deltas.size());
+        return deltas.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    /**
+     * Returns false when the events could not be stored and should be retried.
+     * A failed roll-up is queued and retried under the same batch id on the next flush.
+     */
+    private boolean flushBatch(List<LearningEvent> batch) {
+        // A retried batch keeps the id it was first stored with
+        String batchId = batch.get(0).getBatchId() != null ? batch.get(0).getBatchId() : new ObjectId().toHexString();
+        batch.forEach(event -> event.setBatchId(batchId));
+        try {
+            resolveTopics(batch);
+            insertEvents(batch);
+        } catch (DataAccessException e) {
+            log.warn("Learning event flush of {} events failed, will retry: {}", batch.size(), e.getMessage());
+            return false;
+        }
+        storedEvents.increment(batch.size());
+
+        List<LearningEvent> stored = new ArrayList<>(batch);
+        if (!tryRollUp(stored)) {
+            unrolled.add(stored);
+        }
+        return true;
+    }
+
+    private boolean tryRollUp(List<LearningEvent> batch) {
+        try {
+            rollUp(batch);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Progress roll-up of {} events failed, will retry: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void resolveTopics(List<LearningEvent> batch) {
+        Set<String> unresolved = new HashSet<>();
+        for (LearningEvent event : batch) {
+            if (event.getTopicId() == null) {
+                unresolved.add(event.getMaterialId());
+            }
+        }
+        if (unresolved.isEmpty()) {
+            return;
+        }
+
+        Query query = new Query(where("_id").in(unresolved));
+        query.fields().include("topicId");
+        Map<String, String> topicByMaterial = new HashMap<>();
+        for (LearningMaterial material : mongoTemplate.find(query, LearningMaterial.class)) {
+            topicByMaterial.put(material.getId(), material.getTopicId());
+        }
+
+        int before = batch.size();
+        batch.removeIf(event -> {
+            if (event.getTopicId() == null) {
+                event.setTopicId(topicByMaterial.get(event.getMaterialId()));
+            }
+            return event.getTopicId() == null;
+        });
+        if (batch.size() < before) {
+            droppedEvents.increment(before - batch.size());
+            log.debug("Dropped {} learning events for unknown materials", before - batch.size());
+        }
+    }
+
+    private void insertEvents(List<LearningEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LearningEvent.class)
+                    .insert(batch)
+                    .execute();
+        } catch (BulkOperationException e) {
+            if (!onlyDuplicates(e)) {
+                throw e;
+            }
+        }
+    }
+
+    private void rollUp(List<LearningEvent> batch) {
+        Map<String, ProgressDelta> deltas = new HashMap<>();
+        for (LearningEvent event : batch) {
+            deltas.computeIfAbsent(TopicProgress.idFor(event.getUserId(), event.getTopicId()),
+                    id -> new ProgressDelta(event.getUserId(), event.getTopicId()))
+                    .add(event);
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        String batchId = batch.get(0).getBatchId();
+
+        // A document that already holds the batch id does not match, so its upsert fails with a duplicate key.
+        // That is also what a concurrent first insert looks like; the second pass applies those, and any
+        // duplicate left after it is a batch that was already applied.
+        for (int pass = 0; pass < 2; pass++) {
+            BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TopicProgress.class);
+            deltas.forEach((id, delta) -> {
+                Update update = new Update()
+                        .setOnInsert("userId", delta.userId)
+                        .setOnInsert("topicId", delta.topicId)
+                        .inc("viewCount", delta.views)
+                        .min("firstActivityAt", delta.first)
+                        .max("lastActivityAt", delta.last);
+                update.push("appliedBatches").slice(-appliedBatchHistory).each(batchId);
+                if (!delta.completed.isEmpty()) {
+                    update.addToSet("completedMaterialIds").each(delta.completed.toArray());
+                }
+                operations.upsert(new Query(where("_id").is(id).and("appliedBatches").ne(batchId)), update);
+            });
+            try {
+                operations.execute();
+                return;
+            } catch (BulkOperationException e) {
+                if (!onlyDuplicates(e)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static boolean onlyDuplicates(BulkOperationException e) {
+        return e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY);
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("its.progress.events")
+                .description("Learning events by ingestion outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class ProgressDelta {
+        private final String userId;
+        private final String topicId;
+        private final Set<String> completed = new HashSet<>();
+        private final SortedSet<String> batchIds = new TreeSet<>();
+        private long views;
+        private LocalDateTime first;
+        private LocalDateTime last;
+
+        private ProgressDelta(String userId, String topicId) {
+            this.userId = userId;
+            this.topicId = topicId;
+        }
+
+        private void add(LearningEvent event) {
+            if (event.getType() == LearningEventType.VIEW) {
+                views++;
+            } else if (event.getType() == LearningEventType.COMPLETE) {
+                completed.add(event.getMaterialId());
+            }
+            if (first == null || event.getOccurredAt().isBefore(first)) {
+                first = event.getOccurredAt();
+            }
+            if (last == null || event.getOccurredAt().isAfter(last)) {
+                last = event.getOccurredAt();
+            }
+            if (event.getBatchId() != null) {
+                batchIds.add(event.getBatchId());
+            }
+        }
+
+        /**
+         * Batch ids are ObjectIds, so the newest ones sort last and are the ones kept.
+         */
+        private TopicProgress toProgress(int appliedBatchHistory) {
+            TopicProgress progress = new TopicProgress(userId, topicId);
+            progress.setViewCount(views);
+            progress.setCompletedMaterialIds(completed);
+            progress.setFirstActivityAt(first);
+            progress.setLastActivityAt(last);
+            List<String> newest = new ArrayList<>(batchIds);
+            progress.setAppliedBatches(newest.subList(Math.max(0, newest.size() - appliedBatchHistory), newest.size()));
+            return progress;
+        }
+    }
+}
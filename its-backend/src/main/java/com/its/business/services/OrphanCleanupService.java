@@ -0,0 +1,263 @@
+package com.its.business.services;
+
+import com.its.business.interfaces.ICascadeDeleteService;
+import com.its.domain.entities.ContentHistory;
+import com.its.domain.entities.Course;
+import com.its.domain.entities.LearningMaterial;
+import com.its.domain.entities.LearningMaterialBody;
+import com.its.domain.entities.Topic;
+import com.its.persistence.repositories.ContentHistoryRepository;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Periodic sweeper for documents and uploaded files whose parent no longer exists
+ * Orphaned topics and materials are handed to the cascade delete jobs so they get the same throttling
+ */
+@Service
+public class OrphanCleanupService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanCleanupService.class);
+    private static final String SWEEPER = "orphan-sweeper";
+    private static final int ID_CHUNK_SIZE = 500;
+    // Uploaded files are stored as "<uuid>_<original name>", see ContentManagementService.uploadFile
+    static final Pattern UPLOAD_ID = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}(?=_)");
+
+    private final MongoTemplate mongoTemplate;
+    private final ContentHistoryRepository historyRepository;
+    private final ICascadeDeleteService cascadeDeleteService;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Value("${orphan-sweeper.history-retention-days}")
+    private long historyRetentionDays;
+
+    @Value("${orphan-sweeper.file-grace-hours}")
+    private long fileGraceHours;
+
+    @Autowired
+    public OrphanCleanupService(MongoTemplate mongoTemplate,
+                                ContentHistoryRepository historyRepository,
+                                ICascadeDeleteService cascadeDeleteService) {
+        this.mongoTemplate = mongoTemplate;
+        this.historyRepository = historyRepository;
+        this.cascadeDeleteService = cascadeDeleteService;
+    }
+
+    @Scheduled(cron = "${orphan-sweeper.cron}")
+    public void sweep() {
+        try {
+            sweepTopics();
+            sweepMaterials();
+            sweepHistory();
+            sweepBodies();
+            sweepUploadedFiles();
+        } catch (RuntimeException e) {
+            log.warn("Orphan sweep aborted: {}", e.getMessage());
+        }
+    }
+
+    private void sweepTopics() {
+        Set<String> missingCourses = missingIds(Topic.class, "courseId", Course.class);
+        missingCourses.forEach(courseId -> cascadeDeleteService.scheduleCourseDeletion(courseId, SWEEPER));
+        if (!missingCourses.isEmpty()) {
+            log.info("Scheduled cleanup of topics under {} missing courses", missingCourses.size());
+        }
+    }
+
+    private void sweepMaterials() {
+        Set<String> missingTopics = missingIds(LearningMaterial.class, "topicId", Topic.class);
+        missingTopics.forEach(topicId -> cascadeDeleteService.scheduleTopicDeletion(topicId, SWEEPER));
+        if (!missingTopics.isEmpty()) {
+            log.info("Scheduled cleanup of materials under {} missing topics", missingTopics.size());
+        }
+    }
+
+    private void sweepHistory() {
+        // Deletion records are kept for the retention period as an audit trail
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(historyRetentionDays);
+        Set<String> missingMaterials = missingIds(ContentHistory.class, "materialId", LearningMaterial.class);
+        long deleted = 0;
+        for (List<String> chunk : chunks(missingMaterials)) {
+            deleted += historyRepository.deleteByMaterialIdInAndChangeDateBefore(chunk, cutoff);
+        }
+        if (deleted > 0) {
+            log.info("Removed {} orphaned content history records", deleted);
+        }
+    }
+
+    private void sweepBodies() {
+        // Bodies are written right after their material, so only old ones are considered
+        Query old = new Query(Criteria.where("storedAt").lt(LocalDateTime.now().minusHours(fileGraceHours)));
+        old.fields().include("_id");
+        List<String> orphaned = new ArrayList<>();
+        List<String> chunk = new ArrayList<>(ID_CHUNK_SIZE);
+        try (Stream<Document> bodies = mongoTemplate.stream(old, Document.class,
+                mongoTemplate.getCollectionName(LearningMaterialBody.class))) {
+            bodies.forEach(body -> {
+                chunk.add(body.get("_id").toString());
+                if (chunk.size() == ID_CHUNK_SIZE) {
+                    orphaned.addAll(withoutMaterial(chunk));
+                    chunk.clear();
+                }
+            });
+        }
+        orphaned.addAll(withoutMaterial(chunk));
+
+        for (List<String> ids : chunks(orphaned)) {
+            mongoTemplate.remove(new Query(Criteria.where("_id").in(ids)), LearningMaterialBody.class);
+        }
+        if (!orphaned.isEmpty()) {
+            log.info("Removed {} orphaned material bodies", orphaned.size());
+        }
+    }
+
+    private List<String> withoutMaterial(List<String> materialIds) {
+        if (materialIds.isEmpty()) {
+            return List.of();
+        }
+        Query existing = new Query(Criteria.where("_id").in(materialIds));
+        existing.fields().include("_id");
+        Set<String> found = new HashSet<>();
+        mongoTemplate.query(LearningMaterial.class).as(Document.class).matching(existing).all()
+                .forEach(material -> found.add(material.get("_id").toString()));
+        return materialIds.stream().filter(id -> !found.contains(id)).toList();
+    }
+
+    private void sweepUploadedFiles() {
+        Path root = Paths.get(uploadDir);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        FileTime graceCutoff = FileTime.from(Instant.now().minus(Duration.ofHours(fileGraceHours)));
+        Map<String, Path> candidates = new HashMap<>();
+        try (Stream<Path> files = Files.list(root)) {
+            files.filter(Files::isRegularFile).forEach(file -> {
+                Matcher matcher = UPLOAD_ID.matcher(file.getFileName().toString());
+                if (matcher.lookingAt() && isOlderThan(file, graceCutoff)) {
+                    candidates.put(matcher.group(), file);
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to list upload directory", e);
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // One streamed pass over materials that can reference an upload, filtered server side;
+        // content here is the inline body of materials not yet migrated to the body collection
+        Query referencing = new Query(new Criteria().orOperator(
+                Criteria.where("filePath").ne(null),
+                Criteria.where("content").regex(UPLOAD_ID.pattern())));
+        referencing.fields().include("filePath").include("content");
+        try (Stream<Document> materials = mongoTemplate.stream(referencing, Document.class,
+                mongoTemplate.getCollectionName(LearningMaterial.class))) {
+            materials.forEach(material -> {
+                removeReferenced(candidates, material.getString("filePath"));
+                removeReferenced(candidates, material.getString("content"));
+            });
+        }
+        for (List<String> uploadIds : chunks(new ArrayList<>(candidates.keySet()))) {
+            Query bodies = new Query(Criteria.where("uploadRefs").in(uploadIds));
+            bodies.fields().include("uploadRefs");
+            mongoTemplate.find(bodies, LearningMaterialBody.class)
+                    .forEach(body -> body.getUploadRefs().forEach(candidates::remove));
+        }
+
+        int deleted = 0;
+        for (Path file : candidates.values()) {
+            try {
+                if (Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.warn("Failed to delete orphaned upload {}: {}", file, e.getMessage());
+            }
+        }
+        if (deleted > 0) {
+            log.info("Removed {} orphaned uploaded files", deleted);
+        }
+    }
+
+    /**
+     * Distinct reference values in the child collection that have no matching parent document.
+     */
+    private Set<String> missingIds(Class<?> childType, String referenceField, Class<?> parentType) {
+        List<String> referenced = mongoTemplate.findDistinct(new Query(Criteria.where(referenceField).ne(null)),
+                referenceField, childType, String.class);
+        Set<String> missing = new HashSet<>();
+        for (List<String> chunk : chunks(referenced)) {
+            Query existing = new Query(Criteria.where("_id").in(chunk));
+            existing.fields().include("_id");
+            Set<String> found = new HashSet<>();
+            // Queried through the parent type so string ids are mapped to ObjectIds
+            mongoTemplate.query(parentType).as(Document.class).matching(existing).all()
+                    .forEach(parent -> found.add(parent.get("_id").toString()));
+            chunk.stream().filter(id -> !found.contains(id)).forEach(missing::add);
+        }
+        return missing;
+    }
+
+    private static void removeReferenced(Map<String, Path> candidates, String text) {
+        if (text == null) {
+            return;
+        }
+        Matcher matcher = UPLOAD_ID.matcher(text);
+        while (matcher.find()) {
+            candidates.remove(matcher.group());
+        }
+    }
+
+    private static boolean isOlderThan(Path file, FileTime cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).compareTo(cutoff) < 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static List<List<String>> chunks(Iterable<String> ids) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> current = new ArrayList<>(ID_CHUNK_SIZE);
+        for (String id : ids) {
+            current.add(id);
+            if (current.size() == ID_CHUNK_SIZE) {
+                chunks.add(current);
+                current = new ArrayList<>(ID_CHUNK_SIZE);
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,182 @@
+package com.its.business.services;
+
+import com.its.business.catalog.FacetSnapshot;
+import com.its.business.interfaces.ICatalogService;
+import com.its.business.interfaces.IInstructorDashboardService;
+import com.its.business.interfaces.IPublishingService;
+import com.its.business.publishing.PublicationSchedule;
+import com.its.business.publishing.TimerWheel;
+import com.its.domain.entities.InstructorDashboard;
+import com.its.domain.entities.LearningMaterial;
+import com.its.infrastructure.cache.CacheInvalidationBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Publishing Service Implementation driving scheduled publishing from a timer wheel
+ * Only transitions due within the horizon are held in memory: writes schedule their material directly and a
+ * periodic scan loads the rest as they come into range, including any that were missed while no instance ran.
+ * A firing timer applies the transition with a conditional findAndModify, so when several instances hold the
+ * same timer exactly one of them publishes and updates the catalogue counts, dashboard and published index.
+ */
+@Service
+public class PublishingService implements IPublishingService {
+
+    private static final Logger log = LoggerFactory.getLogger(PublishingService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final ICatalogService catalogService;
+    private final IInstructorDashboardService dashboardService;
+    private final CacheInvalidationBus invalidationBus;
+    private final long horizonMs;
+    private final TimerWheel<String> wheel;
+
+    private final Counter published;
+    private final Counter unpublished;
+
+    @Autowired
+    public PublishingService(MongoTemplate mongoTemplate,
+                             ICatalogService catalogService,
+                             IInstructorDashboardService dashboardService,
+                             CacheInvalidationBus invalidationBus,
+                             MeterRegistry meterRegistry,
+                             @Value("${publishing.horizon-ms}") long horizonMs,
+                             @Value("${publishing.tick-ms}") long tickMs,
+                             @Value("${publishing.wheel-slots}") int wheelSlots) {
+        this.mongoTemplate = mongoTemplate;
+        this.catalogService = catalogService;
+        this.dashboardService = dashboardService;
+        this.invalidationBus = invalidationBus;
+        this.horizonMs = horizonMs;
+        this.wheel = new TimerWheel<>("publishing-timer", tickMs, wheelSlots, this::applyDue);
+
+        Gauge.builder("its.publishing.pending", wheel, TimerWheel::size)
+                .description("Scheduled publish and unpublish transitions held in the timer wheel")
+                .register(meterRegistry);
+        this.published = transitionCounter(meterRegistry, "publish");
+        this.unpublished = transitionCounter(meterRegistry, "unpublish");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+    }
+
+    @Override
+    public void scheduleTransitions(LearningMaterial material) {
+        Instant next = PublicationSchedule.next(material.getPublishAt(), material.getUnpublishAt());
+        if (next == null) {
+            wheel.cancel(material.getId());
+            return;
+        }
+        long deadline = next.toEpochMilli();
+        if (deadline <= System.currentTimeMillis() + horizonMs) {
+            wheel.schedule(material.getId(), deadline);
+        } else {
+            // Loaded by a later scan, which keeps far-off schedules out of memory
+            wheel.cancel(material.getId());
+        }
+    }
+
+    @Override
+    public void cancelTransitions(String materialId) {
+        wheel.cancel(materialId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${publishing.scan-interval-ms}")
+    public void scanUpcoming() {
+        Instant until = Instant.now().plusMillis(horizonMs);
+        Query query = new Query(new Criteria().orOperator(where("publishAt").lte(until), where("unpublishAt").lte(until)));
+        query.fields().include("publishAt", "unpublishAt");
+        try {
+            List<LearningMaterial> upcoming = mongoTemplate.find(query, LearningMaterial.class);
+            upcoming.forEach(this::scheduleTransitions);
+            log.debug("Scheduled {} upcoming publishing transitions", upcoming.size());
+        } catch (DataAccessException e) {
+            log.warn("Scanning for scheduled publishing failed, retrying on next scan: {}", e.getMessage());
+        }
+    }
+
+    private void applyDue(String materialId) {
+        Instant due = Instant.now();
+        LocalDateTime now = LocalDateTime.now();
+        LearningMaterial latest = null;
+        try {
+            // Publish first: when both times have passed the material ends up unpublished
+            LearningMaterial before = mongoTemplate.findAndModify(
+                    new Query(where("_id").is(materialId).and("publishAt").lte(due)),
+                    new Update().set("published", true).unset("publishAt").set("lastModifiedDate", now),
+                    LearningMaterial.class);
+            if (before != null) {
+                latest = applied(before, true, now);
+                published.increment();
+            }
+            before = mongoTemplate.findAndModify(
+                    new Query(where("_id").is(materialId).and("unpublishAt").lte(due)),
+                    new Update().set("published", false).unset("unpublishAt").set("lastModifiedDate", now),
+                    LearningMaterial.class);
+            if (before != null) {
+                latest = applied(before, false, now);
+                unpublished.increment();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Scheduled publishing of material {} failed, retrying on next scan: {}", materialId, e.getMessage());
+            return;
+        }
+        if (latest != null) {
+            scheduleTransitions(latest);
+        }
+    }
+
+    /**
+     * Brings everything derived from the published flag in line and returns the material as it is now stored
+     */
+    private LearningMaterial applied(LearningMaterial material, boolean nowPublished, LocalDateTime now) {
+        FacetSnapshot facetsBefore = FacetSnapshot.of(material);
+        InstructorDashboard.Item dashboardBefore = InstructorDashboard.Item.of(material);
+        material.setPublished(nowPublished);
+        material.setLastModifiedDate(now);
+        if (nowPublished) {
+            material.setPublishAt(null);
+        } else {
+            material.setUnpublishAt(null);
+        }
+
+        catalogService.recordChange(facetsBefore, FacetSnapshot.of(material));
+        dashboardService.recordChange(material.getCreatedBy(), InstructorDashboard.MATERIALS, dashboardBefore,
+                InstructorDashboard.Item.of(material));
+        if (material.getTopicId() != null) {
+            invalidationBus.invalidate(CacheInvalidationBus.PUBLISHED_MATERIALS, List.of(material.getTopicId()));
+            invalidationBus.invalidate(CacheInvalidationBus.RECOMMENDATIONS, List.of(material.getTopicId()));
+        }
+        log.info("Scheduled {} of material {} applied", nowPublished ? "publish" : "unpublish", material.getId());
+        return material;
+    }
+
+    private static Counter transitionCounter(MeterRegistry meterRegistry, String action) {
+        return Counter.builder("its.publishing.transitions")
+                .description("Scheduled publishing transitions applied by this instance")
+                .tag("action", action)
+                .register(meterRegistry);
+    }
+}
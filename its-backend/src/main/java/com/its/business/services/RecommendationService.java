@@ -0,0 +1,294 @@
+package com.its.business.services;
+
+import com.its.business.interfaces.IRecommendationService;
+import com.its.business.recommendation.CandidateSet;
+import com.its.business.recommendation.LearnerProfile;
+import com.its.business.recommendation.RecommendationScorer;
+import com.its.business.recommendation.TagDictionary;
+import com.its.domain.dto.RecommendationDto;
+import com.its.domain.entities.LearningMaterial;
+import com.its.domain.entities.Topic;
+import com.its.domain.entities.TopicProgress;
+import com.its.infrastructure.cache.CacheInvalidationBus;
+import com.its.persistence.repositories.TopicProgressRepository;
+import com.its.persistence.repositories.TopicRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Recommendation Service Implementation over an in-memory candidate catalog
+ * Published materials are held per topic as CandidateSets; a background refresh reloads only
+ * topics whose materials changed since the last run (by lastModifiedDate) or that were invalidated
+ * through the bus (deletes and topic moves on any node), and periodically rebuilds everything to
+ * drop unused tags
+ */
+@Service
+public class RecommendationService implements IRecommendationService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationService.class);
+
+    // Re-reads writes whose timestamp was taken just before the previous refresh started
+    private static final Duration WATERMARK_OVERLAP = Duration.ofSeconds(5);
+    // History weight of not yet started topics in the same course as an active topic
+    private static final double SIBLING_TOPIC_WEIGHT = 0.3;
+
+    private final MongoTemplate mongoTemplate;
+    private final TopicProgressRepository progressRepository;
+    private final TopicRepository topicRepository;
+    private final RecommendationScorer scorer;
+    private final double difficultyStep;
+    private final int starterSize;
+    private final Duration fullRebuildInterval;
+    private final Timer fullRebuildTimer;
+    private final Timer incrementalRefreshTimer;
+
+    private volatile Catalog catalog = new Catalog(new TagDictionary());
+    // Filled by invalidations and drained by the next refresh
+    private final Set<String> invalidatedTopics = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuildRequested;
+    // Guarded by this: only the refresh thread advances these
+    private LocalDateTime watermark;
+    private LocalDateTime lastFullRebuild;
+
+    @Autowired
+    public RecommendationService(MongoTemplate mongoTemplate,
+                                 TopicProgressRepository progressRepository,
+                                 TopicRepository topicRepository,
+                                 MeterRegistry meterRegistry,
+                                 CacheInvalidationBus invalidationBus,
+                                 @Value("${recommendation.weight.difficulty}") double difficultyWeight,
+                                 @Value("${recommendation.weight.tags}") double tagWeight,
+                                 @Value("${recommendation.weight.history}") double historyWeight,
+                                 @Value("${recommendation.difficulty-step}") double difficultyStep,
+                                 @Value("${recommendation.starter-size}") int starterSize,
+                                 @Value("${recommendation.full-rebuild-interval-minutes}") long fullRebuildMinutes) {
+        this.mongoTemplate = mongoTemplate;
+        this.progressRepository = progressRepository;
+        this.topicRepository = topicRepository;
+        this.scorer = new RecommendationScorer(difficultyWeight, tagWeight, historyWeight);
+        this.difficultyStep = difficultyStep;
+        this.starterSize = starterSize;
+        this.fullRebuildInterval = Duration.ofMinutes(fullRebuildMinutes);
+
+        this.fullRebuildTimer = refreshTimer(meterRegistry, "full");
+        this.incrementalRefreshTimer = refreshTimer(meterRegistry, "incremental");
+        Gauge.builder("its.recommendation.candidates", this, service -> service.catalog.candidateCount())
+                .description("Published materials held as recommendation candidates")
+                .register(meterRegistry);
+        invalidationBus.register(CacheInvalidationBus.RECOMMENDATIONS, invalidatedTopics::addAll,
+                () -> rebuildRequested = true);
+    }
+
+    @Override
+    public List<RecommendationDto> recommendNext(String userId, String topicId, int limit) {
+        Catalog current = catalog;
+        List<TopicProgress> progress = progressRepository.findByUserId(userId);
+        LearnerProfile profile = LearnerProfile.build(progress, current.topics::get, current.tags.size(),
+                difficultyStep, LocalDateTime.now());
+
+        if (topicId != null) {
+            CandidateSet candidates = current.topics.getOrDefault(topicId, CandidateSet.EMPTY);
+            return scorer.topK(List.of(candidates), new double[]{1}, profile, limit);
+        }
+
+        List<RecommendationDto> recommendations = List.of();
+        if (profile.hasHistory()) {
+            List<String> topicIds = candidateTopics(current, profile);
+            List<CandidateSet> sets = new ArrayList<>(topicIds.size());
+            double[] weights = new double[topicIds.size()];
+            for (String candidateTopic : topicIds) {
+                weights[sets.size()] = profile.topicWeight(candidateTopic, SIBLING_TOPIC_WEIGHT);
+                sets.add(current.topics.getOrDefault(candidateTopic, CandidateSet.EMPTY));
+            }
+            recommendations = scorer.topK(sets, weights, profile, limit);
+        }
+        if (recommendations.isEmpty()) {
+            recommendations = scorer.topK(List.of(current.starters), new double[]{0}, profile, limit);
+        }
+        return recommendations;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${recommendation.refresh-interval-ms}")
+    public synchronized void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Set<String> invalidated = drainInvalidatedTopics();
+        try {
+            if (rebuildRequested || lastFullRebuild == null || lastFullRebuild.plus(fullRebuildInterval).isBefore(startedAt)) {
+                rebuildRequested = false;
+                fullRebuildTimer.record(this::rebuild);
+                lastFullRebuild = startedAt;
+            } else {
+                incrementalRefreshTimer.record(() -> refreshChangedTopics(invalidated));
+            }
+            watermark = startedAt.minus(WATERMARK_OVERLAP);
+        } catch (DataAccessException e) {
+            invalidatedTopics.addAll(invalidated);
+            log.warn("Recommendation catalog refresh failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        Map<String, String> courseByTopic = new HashMap<>();
+        Query topicQuery = new Query();
+        topicQuery.fields().include("courseId");
+        for (Topic topic : mongoTemplate.find(topicQuery, Topic.class)) {
+            courseByTopic.put(topic.getId(), topic.getCourseId());
+        }
+
+        Map<String, List<LearningMaterial>> byTopic = new HashMap<>();
+        try (Stream<LearningMaterial> materials = mongoTemplate.stream(candidateQuery(new Query(where("published").is(true))),
+                LearningMaterial.class)) {
+            materials.filter(material -> material.getTopicId() != null)
+                    .forEach(material -> byTopic.computeIfAbsent(material.getTopicId(), id -> new ArrayList<>()).add(material));
+        }
+
+        Catalog rebuilt = new Catalog(new TagDictionary());
+        byTopic.forEach((topicId, materials) -> rebuilt.put(topicId, courseByTopic.get(topicId),
+                CandidateSet.of(materials, rebuilt.tags)));
+        rebuilt.starters = CandidateSet.easiest(rebuilt.topics.values(), starterSize);
+        catalog = rebuilt;
+        log.info("Recommendation catalog rebuilt with {} candidates in {} topics", rebuilt.candidateCount(),
+                rebuilt.topics.size());
+    }
+
+    private void refreshChangedTopics(Set<String> invalidated) {
+        Query changed = new Query(where("lastModifiedDate").gte(watermark));
+        Set<String> topicIds = new LinkedHashSet<>(
+                mongoTemplate.findDistinct(changed, "topicId", LearningMaterial.class, String.class));
+        topicIds.addAll(invalidated);
+        if (topicIds.isEmpty()) {
+            return;
+        }
+
+        Catalog current = catalog;
+        // Invalidated topics may have been deleted or moved to another course, so their course is re-read
+        Map<String, String> invalidatedCourses = new HashMap<>();
+        if (!invalidated.isEmpty()) {
+            topicRepository.findAllById(invalidated).forEach(topic -> invalidatedCourses.put(topic.getId(), topic.getCourseId()));
+        }
+        for (String topicId : topicIds) {
+            if (invalidated.contains(topicId) && !invalidatedCourses.containsKey(topicId)) {
+                current.remove(topicId);
+                continue;
+            }
+            List<LearningMaterial> materials = mongoTemplate.find(
+                    candidateQuery(new Query(where("topicId").is(topicId).and("published").is(true))),
+                    LearningMaterial.class);
+            if (materials.isEmpty()) {
+                current.remove(topicId);
+                continue;
+            }
+            String courseId;
+            if (invalidated.contains(topicId)) {
+                courseId = invalidatedCourses.get(topicId);
+                if (!Objects.equals(courseId, current.courseByTopic.get(topicId))) {
+                    current.remove(topicId);
+                }
+            } else {
+                courseId = current.courseByTopic.containsKey(topicId)
+                        ? current.courseByTopic.get(topicId)
+                        : topicRepository.findById(topicId).map(Topic::getCourseId).orElse(null);
+            }
+            current.put(topicId, courseId, CandidateSet.of(materials, current.tags));
+        }
+        current.starters = CandidateSet.easiest(current.topics.values(), starterSize);
+        log.debug("Recommendation candidates refreshed for {} topics", topicIds.size());
+    }
+
+    private Set<String> drainInvalidatedTopics() {
+        Set<String> drained = new HashSet<>();
+        for (Iterator<String> topics = invalidatedTopics.iterator(); topics.hasNext(); ) {
+            drained.add(topics.next());
+            topics.remove();
+        }
+        return drained;
+    }
+
+    /**
+     * Active topics first, then not yet started topics of the same courses.
+     */
+    private List<String> candidateTopics(Catalog current, LearnerProfile profile) {
+        Set<String> topicIds = new LinkedHashSet<>(profile.getActiveTopicIds());
+        for (String activeTopic : profile.getActiveTopicIds()) {
+            String courseId = current.courseByTopic.get(activeTopic);
+            if (courseId != null) {
+                topicIds.addAll(current.topicsByCourse.getOrDefault(courseId, Set.of()));
+            }
+        }
+        return new ArrayList<>(topicIds);
+    }
+
+    private static Query candidateQuery(Query query) {
+        query.fields().include("title", "type", "topicId", "difficulty", "tags");
+        return query;
+    }
+
+    private static Timer refreshTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("its.recommendation.refresh")
+                .description("Recommendation catalog refresh duration")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Candidate sets by topic plus the course structure used to widen a learner's topics.
+     * Sets are immutable and replaced whole, so readers never see a partially built topic.
+     */
+    private static final class Catalog {
+        private final TagDictionary tags;
+        private final Map<String, CandidateSet> topics = new ConcurrentHashMap<>();
+        private final Map<String, String> courseByTopic = new ConcurrentHashMap<>();
+        private final Map<String, Set<String>> topicsByCourse = new ConcurrentHashMap<>();
+        private volatile CandidateSet starters = CandidateSet.EMPTY;
+
+        private Catalog(TagDictionary tags) {
+            this.tags = tags;
+        }
+
+        private void put(String topicId, String courseId, CandidateSet candidates) {
+            topics.put(topicId, candidates);
+            if (courseId != null) {
+                courseByTopic.put(topicId, courseId);
+                topicsByCourse.computeIfAbsent(courseId, id -> ConcurrentHashMap.newKeySet()).add(topicId);
+            }
+        }
+
+        private void remove(String topicId) {
+            topics.remove(topicId);
+            String courseId = courseByTopic.remove(topicId);
+            if (courseId != null) {
+                topicsByCourse.computeIfPresent(courseId, (id, courseTopics) -> {
+                    courseTopics.remove(topicId);
+                    return courseTopics;
+                });
+            }
+        }
+
+        private int candidateCount() {
+            int count = 0;
+            for (CandidateSet candidates : topics.values()) {
+                count += candidates.size();
+            }
+            return count;
+        }
+    }
+}
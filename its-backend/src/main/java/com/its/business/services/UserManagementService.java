@@ -0,0 +1,308 @@
+package com.its.business.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.its.business.interfaces.IBulkRegistrationService;
+import com.its.business.interfaces.IUserManagementService;
+import com.its.domain.dto.UserImportReportDto;
+import com.its.domain.dto.UserPageDto;
+import com.its.domain.dto.UserRegistrationDto;
+import com.its.domain.dto.UserResponseDto;
+import com.its.domain.entities.User;
+import com.its.domain.entities.UserRole;
+import com.its.domain.exceptions.InvalidRequestException;
+import com.its.domain.exceptions.ResourceNotFoundException;
+import com.its.infrastructure.cache.CacheInvalidationBus;
+import com.its.persistence.repositories.UserRepository;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * User Management Service Implementation for administering users at institution scale
+ * Listings use keyset pages over the role_id_idx index, activation changes are a single updateMulti,
+ * and imports are parsed here and handed to the bulk registration pipeline
+ */
+@Service
+public class UserManagementService implements IUserManagementService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserManagementService.class);
+    private static final List<String> CSV_COLUMNS =
+            List.of("email", "password", "role", "firstName", "lastName", "institution");
+
+    private final UserRepository userRepository;
+    private final MongoTemplate mongoTemplate;
+    private final IBulkRegistrationService bulkRegistrationService;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final int streamBatchSize;
+
+    @Autowired
+    public UserManagementService(UserRepository userRepository,
+                                 MongoTemplate mongoTemplate,
+                                 IBulkRegistrationService bulkRegistrationService,
+                                 ObjectMapper objectMapper,
+                                 CacheInvalidationBus invalidationBus,
+                                 @Value("${user-admin.stream-batch-size}") int streamBatchSize) {
+        this.userRepository = userRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.bulkRegistrationService = bulkRegistrationService;
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+        this.streamBatchSize = streamBatchSize;
+    }
+
+    @Override
+    public Optional<User> findUserById(String id) {
+        return userRepository.findById(id);
+    }
+
+    @Override
+    public Optional<User> findUserByEmail(String email) {
+        return userRepository.findByEmail(email);
+    }
+
+    @Override
+    public List<User> getAllUsers() {
+        return mongoTemplate.find(withoutPassword(new Query()), User.class);
+    }
+
+    @Override
+    public List<User> getUsersByRole(UserRole role) {
+        return mongoTemplate.find(withoutPassword(new Query(where("role").is(role))), User.class);
+    }
+
+    @Override
+    public UserPageDto getUsersPage(UserRole role, String after, int size) {
+        Criteria criteria = new Criteria();
+        if (role != null) {
+            criteria.and("role").is(role);
+        }
+        if (after != null) {
+            if (!ObjectId.isValid(after)) {
+                throw new InvalidRequestException("Invalid cursor: " + after);
+            }
+            criteria.and("_id").gt(new ObjectId(after));
+        }
+        Query query = withoutPassword(new Query(criteria))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(size + 1);
+
+        List<User> users = mongoTemplate.find(query, User.class);
+        boolean hasNext = users.size() > size;
+        List<UserResponseDto> items = users.stream()
+                .limit(size)
+                .map(UserResponseDto::fromUser)
+                .toList();
+        return new UserPageDto(items, size, hasNext ? items.get(items.size() - 1).getId() : null);
+    }
+
+    @Override
+    public void streamUsers(UserRole role, Consumer<User> consumer) {
+        Query query = withoutPassword(role == null ? new Query() : new Query(where("role").is(role)))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .cursorBatchSize(streamBatchSize);
+        try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+            users.forEach(consumer);
+        }
+    }
+
+    @Override
+    public User updateUserProfile(String userId, User user) {
+        User existing = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (user.getProfile() != null) {
+            existing.setProfile(user.getProfile());
+        }
+        return userRepository.save(existing);
+    }
+
+    @Override
+    public boolean deactivateUser(String userId) {
+        return setActive(List.of(userId), false) > 0;
+    }
+
+    @Override
+    public boolean activateUser(String userId) {
+        return setActive(List.of(userId), true) > 0;
+    }
+
+    /**
+     * Returns how many of the given users exist, all of which are now in the requested state.
+     * Cached principals are evicted on every node after the update so no request can re-cache the old state.
+     */
+    @Override
+    public long setActive(Collection<String> userIds, boolean active) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        Query byIds = new Query(where("_id").in(userIds));
+        Query emailsOnly = new Query(where("_id").in(userIds));
+        emailsOnly.fields().include("email");
+        List<String> emails = mongoTemplate.find(emailsOnly, User.class).stream()
+                .map(User::getEmail)
+                .toList();
+
+        UpdateResult result = mongoTemplate.updateMulti(byIds,
+                new Update().set("active", active).currentDate("lastModifiedDate"), User.class);
+        invalidationBus.invalidate(CacheInvalidationBus.PRINCIPALS, emails);
+        log.info("{} {} of {} requested users", active ? "Activated" : "Deactivated",
+                result.getMatchedCount(), userIds.size());
+        return result.getMatchedCount();
+    }
+
+    @Override
+    public UserImportReportDto importUsers(InputStream input, ImportFormat format, IBulkRegistrationService.Origin origin) {
+        long started = System.nanoTime();
+        int maxImportRows = bulkRegistrationService.maxRows(origin);
+        List<IBulkRegistrationService.Row> rows = new ArrayList<>();
+        List<UserImportReportDto.RowFailure> malformed = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            int[] columns = format == ImportFormat.CSV ? readCsvHeader(reader.readLine()) : null;
+            long lineNumber = format == ImportFormat.CSV ? 1 : 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (rows.size() + malformed.size() == maxImportRows) {
+                    throw new InvalidRequestException("At most " + maxImportRows + " users can be imported at once");
+                }
+                if (columns != null) {
+                    rows.add(new IBulkRegistrationService.Row(lineNumber, fromCsv(splitCsvLine(line), columns)));
+                    continue;
+                }
+                try {
+                    rows.add(new IBulkRegistrationService.Row(lineNumber,
+                            objectMapper.readValue(line, UserRegistrationDto.class)));
+                } catch (JsonProcessingException e) {
+                    malformed.add(new UserImportReportDto.RowFailure(lineNumber, null,
+                            "Malformed JSON: " + e.getOriginalMessage()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read user import", e);
+        }
+
+        UserImportReportDto report = bulkRegistrationService.register(rows, origin);
+        if (!malformed.isEmpty()) {
+            report.setReceivedCount(report.getReceivedCount() + malformed.size());
+            report.setFailedCount(report.getFailedCount() + malformed.size());
+            List<UserImportReportDto.RowFailure> failures = new ArrayList<>(report.getFailures());
+            failures.addAll(malformed);
+            failures.sort(Comparator.comparingLong(UserImportReportDto.RowFailure::getLine));
+            report.setFailures(new ArrayList<>(failures.subList(0,
+                    Math.min(failures.size(), UserImportReportDto.MAX_LISTED_FAILURES))));
+        }
+        // Parsing is part of the import, so report the end-to-end rate
+        long elapsedNanos = System.nanoTime() - started;
+        report.setDurationMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        report.setUsersPerSecond(elapsedNanos == 0 ? 0 : report.getCreatedCount() * 1e9 / elapsedNanos);
+        return report;
+    }
+
+    private Query withoutPassword(Query query) {
+        query.fields().exclude("password");
+        return query;
+    }
+
+    private int[] readCsvHeader(String header) {
+        if (header == null) {
+            throw new InvalidRequestException("CSV import is empty");
+        }
+        List<String> names = splitCsvLine(header);
+        int[] columns = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < columns.length; i++) {
+            String column = CSV_COLUMNS.get(i);
+            columns[i] = indexOfIgnoreCase(names, column);
+        }
+        if (columns[0] < 0 || columns[1] < 0 || columns[2] < 0) {
+            throw new InvalidRequestException("CSV header must contain email, password and role columns");
+        }
+        return columns;
+    }
+
+    private static UserRegistrationDto fromCsv(List<String> values, int[] columns) {
+        UserRegistrationDto dto = new UserRegistrationDto();
+        dto.setEmail(column(values, columns[0]));
+        dto.setPassword(column(values, columns[1]));
+        dto.setRole(column(values, columns[2]));
+        dto.setFirstName(column(values, columns[3]));
+        dto.setLastName(column(values, columns[4]));
+        dto.setInstitution(column(values, columns[5]));
+        return dto;
+    }
+
+    private static String column(List<String> values, int index) {
+        if (index < 0 || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static int indexOfIgnoreCase(List<String> names, String name) {
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i).trim().equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Splits one CSV record; double quotes may wrap a field and "" inside quotes is a literal quote.
+     * Quoted fields spanning several lines are not supported.
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,109 @@
+package com.its.domain.dto;
+
+import com.its.domain.entities.AnalyticsMetric;
+import com.its.domain.entities.BucketGranularity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A metric's counts over consecutive buckets, including empty ones, from the bucket containing from up to to
+ */
+public class AnalyticsSeriesDto {
+    private AnalyticsMetric metric;
+    private String scope;
+    private BucketGranularity granularity;
+    private Instant from;
+    private Instant to;
+    private long total;
+    private List<Point> points = new ArrayList<>();
+
+    public AnalyticsSeriesDto() {}
+
+    public static class Point {
+        private Instant start;
+        private long count;
+
+        public Point() {}
+
+        public Point(Instant start, long count) {
+            this.start = start;
+            this.count = count;
+        }
+
+        // Getters and setters
+        public Instant getStart() {
+            return start;
+        }
+
+        public void setStart(Instant start) {
+            this.start = start;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+    }
+
+    // Getters and setters
+    public AnalyticsMetric getMetric() {
+        return metric;
+    }
+
+    public void setMetric(AnalyticsMetric metric) {
+        this.metric = metric;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public BucketGranularity getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(BucketGranularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public Instant getFrom() {
+        return from;
+    }
+
+    public void setFrom(Instant from) {
+        this.from = from;
+    }
+
+    public Instant getTo() {
+        return to;
+    }
+
+    public void setTo(Instant to) {
+        this.to = to;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<Point> getPoints() {
+        return points;
+    }
+
+    public void setPoints(List<Point> points) {
+        this.points = points;
+    }
+}
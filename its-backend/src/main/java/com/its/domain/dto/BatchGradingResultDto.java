@@ -0,0 +1,66 @@
+package com.its.domain.dto;
+
+import java.util.List;
+
+/**
+ * Batch grading result DTO with class-level aggregates
+ */
+public class BatchGradingResultDto {
+    private String materialId;
+    private int contentVersion;
+    private int submissionCount;
+    private int passedCount;
+    private double averagePercentage;
+    private List<GradingResultDto> results;
+
+    public BatchGradingResultDto() {}
+
+    // Getters and setters
+    public String getMaterialId() {
+        return materialId;
+    }
+
+    public void setMaterialId(String materialId) {
+        this.materialId = materialId;
+    }
+
+    public int getContentVersion() {
+        return contentVersion;
+    }
+
+    public void setContentVersion(int contentVersion) {
+        this.contentVersion = contentVersion;
+    }
+
+    public int getSubmissionCount() {
+        return submissionCount;
+    }
+
+    public void setSubmissionCount(int submissionCount) {
+        this.submissionCount = submissionCount;
+    }
+
+    public int getPassedCount() {
+        return passedCount;
+    }
+
+    public void setPassedCount(int passedCount) {
+        this.passedCount = passedCount;
+    }
+
+    public double getAveragePercentage() {
+        return averagePercentage;
+    }
+
+    public void setAveragePercentage(double averagePercentage) {
+        this.averagePercentage = averagePercentage;
+    }
+
+    public List<GradingResultDto> getResults() {
+        return results;
+    }
+
+    public void setResults(List<GradingResultDto> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,78 @@
+package com.its.domain.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of catalogue results with the catalogue-wide facet counts
+ * totalElements is only set when it can be read from the facet counts
+ */
+public class CatalogPageDto<T> {
+    private Map<String, Map<String, Long>> facets;
+    private List<T> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long totalElements;
+
+    public CatalogPageDto() {}
+
+    public CatalogPageDto(Map<String, Map<String, Long>> facets, List<T> items, int page, int size,
+                          boolean hasNext, Long totalElements) {
+        this.facets = facets;
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.totalElements = totalElements;
+    }
+
+    // Getters and setters
+    public Map<String, Map<String, Long>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, Map<String, Long>> facets) {
+        this.facets = facets;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+}
@@ -0,0 +1,84 @@
+package com.its.domain.dto;
+
+import java.util.List;
+
+/**
+ * Grading result DTO for API responses
+ */
+public class GradingResultDto {
+    private String materialId;
+    private int contentVersion;
+    private String studentId;
+    private double score;
+    private double maxScore;
+    private double percentage;
+    private boolean passed;
+    private List<QuestionResultDto> questions;
+
+    public GradingResultDto() {}
+
+    // Getters and setters
+    public String getMaterialId() {
+        return materialId;
+    }
+
+    public void setMaterialId(String materialId) {
+        this.materialId = materialId;
+    }
+
+    public int getContentVersion() {
+        return contentVersion;
+    }
+
+    public void setContentVersion(int contentVersion) {
+        this.contentVersion = contentVersion;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(String studentId) {
+        this.studentId = studentId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public double getMaxScore() {
+        return maxScore;
+    }
+
+    public void setMaxScore(double maxScore) {
+        this.maxScore = maxScore;
+    }
+
+    public double getPercentage() {
+        return percentage;
+    }
+
+    public void setPercentage(double percentage) {
+        this.percentage = percentage;
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+
+    public void setPassed(boolean passed) {
+        this.passed = passed;
+    }
+
+    public List<QuestionResultDto> getQuestions() {
+        return questions;
+    }
+
+    public void setQuestions(List<QuestionResultDto> questions) {
+        this.questions = questions;
+    }
+}
@@ -0,0 +1,36 @@
+package com.its.domain.dto;
+
+import com.its.domain.entities.LearningEventType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Learning Event DTO for progress ingestion requests
+ */
+public class LearningEventDto {
+
+    @NotBlank(message = "Material ID is required")
+    private String materialId;
+
+    @NotNull(message = "Event type is required")
+    private LearningEventType type;
+
+    public LearningEventDto() {}
+
+    // Getters and setters
+    public String getMaterialId() {
+        return materialId;
+    }
+
+    public void setMaterialId(String materialId) {
+        this.materialId = materialId;
+    }
+
+    public LearningEventType getType() {
+        return type;
+    }
+
+    public void setType(LearningEventType type) {
+        this.type = type;
+    }
+}
@@ -6,6 +6,7 @@ import com.its.domain.entities.ContentType;
 import com.its.domain.entities.FileFormat;
 import com.its.domain.entities.DifficultyLevel;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -31,6 +32,8 @@ public class LearningMaterialDto {
     private List<String> tags;
     
     private boolean published;
+    private Instant publishAt; // Publish later instead of now, as an ISO-8601 instant; overrides published
+    private Instant unpublishAt;
 
     public LearningMaterialDto() {}
 
@@ -94,6 +97,22 @@ public class LearningMaterialDto {
         this.published = published;
     }
 
+    public Instant getPublishAt() {
+        return publishAt;
+    }
+
+    public void setPublishAt(Instant publishAt) {
+        this.publishAt = publishAt;
+    }
+
+    public Instant getUnpublishAt() {
+        return unpublishAt;
+    }
+
+    public void setUnpublishAt(Instant unpublishAt) {
+        this.unpublishAt = unpublishAt;
+    }
+
     public ContentType getContentType() {
         try {
             return ContentType.valueOf(type.toUpperCase().replace(" ", "_"));
@@ -0,0 +1,53 @@
+package com.its.domain.dto;
+
+/**
+ * Per-question outcome within a grading result
+ */
+public class QuestionResultDto {
+    private String questionId;
+    private double pointsAwarded;
+    private double maxPoints;
+    private boolean correct;
+
+    public QuestionResultDto() {}
+
+    public QuestionResultDto(String questionId, double pointsAwarded, double maxPoints) {
+        this.questionId = questionId;
+        this.pointsAwarded = pointsAwarded;
+        this.maxPoints = maxPoints;
+        this.correct = pointsAwarded >= maxPoints;
+    }
+
+    // Getters and setters
+    public String getQuestionId() {
+        return questionId;
+    }
+
+    public void setQuestionId(String questionId) {
+        this.questionId = questionId;
+    }
+
+    public double getPointsAwarded() {
+        return pointsAwarded;
+    }
+
+    public void setPointsAwarded(double pointsAwarded) {
+        this.pointsAwarded = pointsAwarded;
+    }
+
+    public double getMaxPoints() {
+        return maxPoints;
+    }
+
+    public void setMaxPoints(double maxPoints) {
+        this.maxPoints = maxPoints;
+    }
+
+    public boolean isCorrect() {
+        return correct;
+    }
+
+    public void setCorrect(boolean correct) {
+        this.correct = correct;
+    }
+}
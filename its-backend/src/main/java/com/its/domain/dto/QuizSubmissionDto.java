@@ -0,0 +1,37 @@
+package com.its.domain.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Map;
+
+/**
+ * Quiz submission DTO, answers keyed by question id
+ * Values are a string for choice and short answer questions, a number for numeric
+ * questions and a list of options for multiple choice questions
+ */
+public class QuizSubmissionDto {
+
+    private String studentId; // Only used in batch grading; single submissions grade the caller
+
+    @NotNull(message = "Answers are required")
+    private Map<String, Object> answers;
+
+    public QuizSubmissionDto() {}
+
+    // Getters and setters
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(String studentId) {
+        this.studentId = studentId;
+    }
+
+    public Map<String, Object> getAnswers() {
+        return answers;
+    }
+
+    public void setAnswers(Map<String, Object> answers) {
+        this.answers = answers;
+    }
+}
@@ -0,0 +1,77 @@
+package com.its.domain.dto;
+
+import com.its.domain.entities.ContentType;
+import com.its.domain.entities.DifficultyLevel;
+
+/**
+ * Recommended next learning material with its relevance score
+ */
+public class RecommendationDto {
+    private String materialId;
+    private String title;
+    private String topicId;
+    private ContentType type;
+    private DifficultyLevel difficulty;
+    private double score;
+
+    public RecommendationDto() {}
+
+    public RecommendationDto(String materialId, String title, String topicId, ContentType type,
+                             DifficultyLevel difficulty, double score) {
+        this.materialId = materialId;
+        this.title = title;
+        this.topicId = topicId;
+        this.type = type;
+        this.difficulty = difficulty;
+        this.score = score;
+    }
+
+    // Getters and setters
+    public String getMaterialId() {
+        return materialId;
+    }
+
+    public void setMaterialId(String materialId) {
+        this.materialId = materialId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getTopicId() {
+        return topicId;
+    }
+
+    public void setTopicId(String topicId) {
+        this.topicId = topicId;
+    }
+
+    public ContentType getType() {
+        return type;
+    }
+
+    public void setType(ContentType type) {
+        this.type = type;
+    }
+
+    public DifficultyLevel getDifficulty() {
+        return difficulty;
+    }
+
+    public void setDifficulty(DifficultyLevel difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,112 @@
+package com.its.domain.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a bulk user import or registration with the rows that were rejected
+ * Only the first rejected rows are listed; failedCount always covers all of them
+ */
+public class UserImportReportDto {
+    public static final int MAX_LISTED_FAILURES = 1000;
+
+    private int receivedCount;
+    private int createdCount;
+    private int failedCount;
+    private long durationMs;
+    private double usersPerSecond;
+    private List<RowFailure> failures = new ArrayList<>();
+
+    public UserImportReportDto() {}
+
+    /**
+     * A rejected input row; line is 1-based and counts the CSV header, or is the position in a JSON array
+     */
+    public static class RowFailure {
+        private long line;
+        private String email;
+        private String reason;
+
+        public RowFailure() {}
+
+        public RowFailure(long line, String email, String reason) {
+            this.line = line;
+            this.email = email;
+            this.reason = reason;
+        }
+
+        // Getters and setters
+        public long getLine() {
+            return line;
+        }
+
+        public void setLine(long line) {
+            this.line = line;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        public void setReason(String reason) {
+            this.reason = reason;
+        }
+    }
+
+    // Getters and setters
+    public int getReceivedCount() {
+        return receivedCount;
+    }
+
+    public void setReceivedCount(int receivedCount) {
+        this.receivedCount = receivedCount;
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(int createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public double getUsersPerSecond() {
+        return usersPerSecond;
+    }
+
+    public void setUsersPerSecond(double usersPerSecond) {
+        this.usersPerSecond = usersPerSecond;
+    }
+
+    public List<RowFailure> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<RowFailure> failures) {
+        this.failures = failures;
+    }
+}
@@ -0,0 +1,46 @@
+package com.its.domain.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of users for administration
+ * nextCursor is the id to pass as "after" for the following page, or null on the last page
+ */
+public class UserPageDto {
+    private List<UserResponseDto> items;
+    private int size;
+    private String nextCursor;
+
+    public UserPageDto() {}
+
+    public UserPageDto(List<UserResponseDto> items, int size, String nextCursor) {
+        this.items = items;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and setters
+    public List<UserResponseDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<UserResponseDto> items) {
+        this.items = items;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
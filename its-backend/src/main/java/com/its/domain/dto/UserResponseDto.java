@@ -1,5 +1,6 @@
 package com.its.domain.dto;
 
+import com.its.domain.entities.User;
 import com.its.domain.entities.UserRole;
 
 /**
@@ -15,9 +16,29 @@ public class UserResponseDto {
     private String avatar;
     private String expertise;
     private String bio;
+    private boolean active;
 
     public UserResponseDto() {}
 
+    public static UserResponseDto fromUser(User user) {
+        UserResponseDto response = new UserResponseDto();
+        response.setId(user.getId());
+        response.setEmail(user.getEmail());
+        response.setRole(user.getRole().name());
+        response.setActive(user.isActive());
+
+        if (user.getProfile() != null) {
+            response.setFirstName(user.getProfile().getFirstName());
+            response.setLastName(user.getProfile().getLastName());
+            response.setInstitution(user.getProfile().getInstitution());
+            response.setAvatar(user.getProfile().getAvatar());
+            response.setExpertise(user.getProfile().getExpertise());
+            response.setBio(user.getProfile().getBio());
+        }
+
+        return response;
+    }
+
     // Getters and setters
     public String getId() {
         return id;
@@ -90,4 +111,12 @@ public class UserResponseDto {
     public void setBio(String bio) {
         this.bio = bio;
     }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.its.domain.entities;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Analytics Bucket entity, the count of one metric in one scope over one time bucket
+ * The id is "metric:scope:granularity:startEpochSecond" so flushes maintain buckets with upserted $inc.
+ * Only minute buckets carry expiresAt; the TTL index removes them once they are too fine to be useful.
+ */
+@Document(collection = "analytics_buckets")
+@CompoundIndex(name = "series_idx", def = "{ 'metric': 1, 'scope': 1, 'granularity': 1, 'start': 1 }")
+public class AnalyticsBucket {
+    @Id
+    private String id;
+
+    private AnalyticsMetric metric;
+
+    private String scope;
+
+    private BucketGranularity granularity;
+
+    private Instant start;
+
+    private long count;
+
+    @Indexed(name = "expiresAt_ttl", expireAfterSeconds = 0)
+    private Instant expiresAt;
+
+    public AnalyticsBucket() {}
+
+    public static String idFor(AnalyticsMetric metric, String scope, BucketGranularity granularity, Instant start) {
+        return metric + ":" + scope + ":" + granularity + ":" + start.getEpochSecond();
+    }
+
+    // Getters and setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public AnalyticsMetric getMetric() {
+        return metric;
+    }
+
+    public void setMetric(AnalyticsMetric metric) {
+        this.metric = metric;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public BucketGranularity getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(BucketGranularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public Instant getStart() {
+        return start;
+    }
+
+    public void setStart(Instant start) {
+        this.start = start;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
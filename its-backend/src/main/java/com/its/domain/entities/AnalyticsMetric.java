@@ -0,0 +1,10 @@
+package com.its.domain.entities;
+
+/**
+ * Counters kept as time-bucketed aggregates, with what their scope identifies
+ */
+public enum AnalyticsMetric {
+    MATERIAL_VIEWS,        // scope: material id
+    AUTHOR_MATERIAL_VIEWS, // scope: instructor, views of all their materials
+    MATERIALS_CREATED      // scope: instructor
+}
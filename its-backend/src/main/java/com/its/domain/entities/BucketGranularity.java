@@ -0,0 +1,42 @@
+package com.its.domain.entities;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Width of an analytics bucket; buckets start on UTC boundaries and weeks start on Monday
+ */
+public enum BucketGranularity {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS),
+    WEEK(ChronoUnit.WEEKS);
+
+    private final ChronoUnit unit;
+
+    BucketGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public Instant bucketStart(Instant time) {
+        if (this == WEEK) {
+            return time.atOffset(ZoneOffset.UTC)
+                    .truncatedTo(ChronoUnit.DAYS)
+                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    .toInstant();
+        }
+        return time.truncatedTo(unit);
+    }
+
+    public Instant plus(Instant bucketStart, long buckets) {
+        return bucketStart.plus(unit.getDuration().multipliedBy(buckets));
+    }
+
+    public long bucketsBetween(Instant bucketStart, Instant end) {
+        long millis = unit.getDuration().toMillis();
+        return (end.toEpochMilli() - bucketStart.toEpochMilli() + millis - 1) / millis;
+    }
+}
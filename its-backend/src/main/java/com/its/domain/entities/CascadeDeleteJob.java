@@ -0,0 +1,155 @@
+package com.its.domain.entities;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.Indexed;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted cascade delete job so that cleanup survives restarts
+ */
+@Document(collection = "cascade_delete_jobs")
+public class CascadeDeleteJob {
+    @Id
+    private String id;
+    
+    private CascadeDeleteTarget targetType;
+    
+    private String targetId; // Course or topic reference
+    
+    private String requestedBy;
+    
+    @Indexed
+    private JobStatus status = JobStatus.PENDING;
+    
+    private LocalDateTime leaseExpiresAt; // Set while a node is working on the job
+    
+    private long deletedTopics;
+    private long deletedMaterials;
+    private long deletedFiles;
+    
+    private int attempts;
+    private String lastError;
+    
+    @CreatedDate
+    private LocalDateTime createdDate;
+    
+    @LastModifiedDate
+    private LocalDateTime lastModifiedDate;
+
+    public CascadeDeleteJob() {}
+
+    public CascadeDeleteJob(CascadeDeleteTarget targetType, String targetId, String requestedBy) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.requestedBy = requestedBy;
+    }
+
+    // Getters and setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public CascadeDeleteTarget getTargetType() {
+        return targetType;
+    }
+
+    public void setTargetType(CascadeDeleteTarget targetType) {
+        this.targetType = targetType;
+    }
+
+    public String getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(String targetId) {
+        this.targetId = targetId;
+    }
+
+    public String getRequestedBy() {
+        return requestedBy;
+    }
+
+    public void setRequestedBy(String requestedBy) {
+        this.requestedBy = requestedBy;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public long getDeletedTopics() {
+        return deletedTopics;
+    }
+
+    public void setDeletedTopics(long deletedTopics) {
+        this.deletedTopics = deletedTopics;
+    }
+
+    public long getDeletedMaterials() {
+        return deletedMaterials;
+    }
+
+    public void setDeletedMaterials(long deletedMaterials) {
+        this.deletedMaterials = deletedMaterials;
+    }
+
+    public long getDeletedFiles() {
+        return deletedFiles;
+    }
+
+    public void setDeletedFiles(long deletedFiles) {
+        this.deletedFiles = deletedFiles;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(LocalDateTime createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public LocalDateTime getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+
+    public void setLastModifiedDate(LocalDateTime lastModifiedDate) {
+        this.lastModifiedDate = lastModifiedDate;
+    }
+}
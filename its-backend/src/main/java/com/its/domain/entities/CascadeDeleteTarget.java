@@ -0,0 +1,9 @@
+package com.its.domain.entities;
+
+/**
+ * Root document types a cascade delete can start from
+ */
+public enum CascadeDeleteTarget {
+    COURSE,
+    TOPIC
+}
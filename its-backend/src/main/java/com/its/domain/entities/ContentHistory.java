@@ -3,6 +3,7 @@ package com.its.domain.entities;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 
 import java.time.LocalDateTime;
 
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
  * Content History entity for version tracking
  */
 @Document(collection = "content_history")
+@CompoundIndex(name = "material_version_idx", def = "{ 'materialId': 1, 'version': -1 }")
 public class ContentHistory {
     @Id
     private String id;
@@ -35,4 +35,8 @@ public enum ContentType {
     public boolean supportsInlineContent() {
         return this == LECTURE || this == QUIZ || this == EXERCISE || this == READING || this == ASSIGNMENT;
     }
-}
\ No newline at end of file
+
+    public boolean isGradable() {
+        return this == QUIZ || this == EXERCISE || this == ASSIGNMENT;
+    }
+}
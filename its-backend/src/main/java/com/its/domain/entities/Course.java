@@ -4,6 +4,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 
 import java.time.LocalDateTime;
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
  * Course entity following Single Responsibility Principle
  */
 @Document(collection = "courses")
+@CompoundIndex(name = "subject_difficulty_published_idx", def = "{ 'subject': 1, 'difficulty': 1, 'published': 1 }")
 public class Course {
     @Id
     private String id;
@@ -20,7 +22,9 @@ public class Course {
     private String title;
     
     private String description;
-    private String subject;
+    private String subject; // Leading field of subject_difficulty_published_idx
+    
+    @Indexed
     private DifficultyLevel difficulty;
     
     @Indexed
@@ -32,6 +36,7 @@ public class Course {
     @LastModifiedDate
     private LocalDateTime lastModifiedDate;
     
+    @Indexed
     private boolean published = false;
 
     public Course() {}
@@ -0,0 +1,71 @@
+package com.its.domain.entities;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Facet Count entity, the number of published items in a catalogue scope with one facet value
+ * The id is "scope:dimension:value" so writes can maintain counts with upserted $inc
+ */
+@Document(collection = "facet_summaries")
+public class FacetCount {
+    @Id
+    private String id;
+
+    @Indexed
+    private String scope; // "materials" or "courses"
+
+    private String dimension; // e.g. difficulty, type, tag
+
+    private String value;
+
+    private long count;
+
+    public FacetCount() {}
+
+    public static String idFor(String scope, String dimension, String value) {
+        return scope + ":" + dimension + ":" + value;
+    }
+
+    // Getters and setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public String getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(String dimension) {
+        this.dimension = dimension;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
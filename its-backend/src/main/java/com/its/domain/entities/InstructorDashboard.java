@@ -0,0 +1,176 @@
+package com.its.domain.entities;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Instructor Dashboard entity, a materialized summary of one instructor's courses and materials
+ * The id is the instructor so the dashboard is a single primary key lookup; sections are kept current by
+ * writes and the whole document is rebuilt from the source collections when missing or too old
+ */
+@Document(collection = "instructor_dashboards")
+public class InstructorDashboard {
+    public static final String COURSES = "courses";
+    public static final String MATERIALS = "materials";
+
+    @Id
+    private String id;
+
+    private Section courses = new Section();
+
+    private Section materials = new Section();
+
+    private LocalDateTime rebuiltAt;
+
+    public InstructorDashboard() {}
+
+    public InstructorDashboard(String instructor) {
+        this.id = instructor;
+    }
+
+    /**
+     * Counts of one kind of item plus the most recently edited ones, newest first
+     */
+    public static class Section {
+        private long count;
+        private long publishedCount;
+        private List<Item> recent = new ArrayList<>();
+
+        public Section() {}
+
+        public long getDraftCount() {
+            return count - publishedCount;
+        }
+
+        // Getters and setters
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public long getPublishedCount() {
+            return publishedCount;
+        }
+
+        public void setPublishedCount(long publishedCount) {
+            this.publishedCount = publishedCount;
+        }
+
+        public List<Item> getRecent() {
+            return recent;
+        }
+
+        public void setRecent(List<Item> recent) {
+            this.recent = recent;
+        }
+    }
+
+    /**
+     * A course or material as listed on the dashboard
+     */
+    public static class Item {
+        private String itemId;
+        private String title;
+        private boolean published;
+        private LocalDateTime modifiedAt;
+
+        public Item() {}
+
+        public Item(String itemId, String title, boolean published, LocalDateTime modifiedAt) {
+            this.itemId = itemId;
+            this.title = title;
+            this.published = published;
+            this.modifiedAt = modifiedAt;
+        }
+
+        public static Item of(Course course) {
+            return course == null ? null : new Item(course.getId(), course.getTitle(), course.isPublished(),
+                    modifiedAt(course.getLastModifiedDate(), course.getCreatedDate()));
+        }
+
+        public static Item of(LearningMaterial material) {
+            return material == null ? null : new Item(material.getId(), material.getTitle(), material.isPublished(),
+                    modifiedAt(material.getLastModifiedDate(), material.getCreatedDate()));
+        }
+
+        private static LocalDateTime modifiedAt(LocalDateTime lastModified, LocalDateTime created) {
+            if (lastModified != null) {
+                return lastModified;
+            }
+            return created != null ? created : LocalDateTime.now();
+        }
+
+        // Getters and setters
+        public String getItemId() {
+            return itemId;
+        }
+
+        public void setItemId(String itemId) {
+            this.itemId = itemId;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public boolean isPublished() {
+            return published;
+        }
+
+        public void setPublished(boolean published) {
+            this.published = published;
+        }
+
+        public LocalDateTime getModifiedAt() {
+            return modifiedAt;
+        }
+
+        public void setModifiedAt(LocalDateTime modifiedAt) {
+            this.modifiedAt = modifiedAt;
+        }
+    }
+
+    // Getters and setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Section getCourses() {
+        return courses;
+    }
+
+    public void setCourses(Section courses) {
+        this.courses = courses;
+    }
+
+    public Section getMaterials() {
+        return materials;
+    }
+
+    public void setMaterials(Section materials) {
+        this.materials = materials;
+    }
+
+    public LocalDateTime getRebuiltAt() {
+        return rebuiltAt;
+    }
+
+    public void setRebuiltAt(LocalDateTime rebuiltAt) {
+        this.rebuiltAt = rebuiltAt;
+    }
+}
@@ -0,0 +1,11 @@
+package com.its.domain.entities;
+
+/**
+ * Lifecycle states for persisted background jobs
+ */
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
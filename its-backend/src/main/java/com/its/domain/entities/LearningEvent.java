@@ -0,0 +1,95 @@
+package com.its.domain.entities;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Learning Event entity, an append-only record of one learner interaction
+ * Written in bulk by the progress buffer and rolled up into TopicProgress
+ */
+@Document(collection = "learning_events")
+@CompoundIndex(name = "user_occurred_idx", def = "{ 'userId': 1, 'occurredAt': -1 }")
+public class LearningEvent {
+    @Id
+    private String id;
+
+    private String userId; // User email, as used for createdBy elsewhere
+
+    private String materialId;
+
+    private String topicId; // Resolved from the material when the event is flushed
+
+    private LearningEventType type;
+
+    private LocalDateTime occurredAt;
+
+    private String batchId; // Flush batch the event was stored and rolled up in
+
+    public LearningEvent() {}
+
+    public LearningEvent(String userId, String materialId, LearningEventType type) {
+        this.userId = userId;
+        this.materialId = materialId;
+        this.type = type;
+    }
+
+    // Getters and setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getMaterialId() {
+        return materialId;
+    }
+
+    public void setMaterialId(String materialId) {
+        this.materialId = materialId;
+    }
+
+    public String getTopicId() {
+        return topicId;
+    }
+
+    public void setTopicId(String topicId) {
+        this.topicId = topicId;
+    }
+
+    public LearningEventType getType() {
+        return type;
+    }
+
+    public void setType(LearningEventType type) {
+        this.type = type;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public void setBatchId(String batchId) {
+        this.batchId = batchId;
+    }
+}
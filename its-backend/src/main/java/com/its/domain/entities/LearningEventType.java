@@ -0,0 +1,9 @@
+package com.its.domain.entities;
+
+/**
+ * Learner interactions with a learning material
+ */
+public enum LearningEventType {
+    VIEW,
+    COMPLETE
+}
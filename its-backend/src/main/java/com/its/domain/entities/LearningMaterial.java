@@ -1,11 +1,18 @@
 package com.its.domain.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -14,7 +21,14 @@ import java.util.List;
  * Can be extended for different content types without modification
  */
 @Document(collection = "learning_materials")
+@CompoundIndexes({
+    @CompoundIndex(name = "topic_published_idx", def = "{ 'topicId': 1, 'published': 1 }"),
+    @CompoundIndex(name = "type_published_idx", def = "{ 'type': 1, 'published': 1 }"),
+    @CompoundIndex(name = "tags_published_idx", def = "{ 'tags': 1, 'published': 1 }")
+})
 public class LearningMaterial {
+    public static final int EXCERPT_LENGTH = 200;
+
     @Id
     private String id;
     
@@ -25,10 +39,16 @@ public class LearningMaterial {
     
     private FileFormat format; // File format (PDF, DOCX, MP4, etc.)
     
-    private String content; // Can be text, URL, or file path
+    @Transient
+    private String content; // Can be text, URL, or file path; kept in learning_material_bodies and loaded only by id
+
+    @JsonIgnore
+    @Field("content")
+    private String inlineContent; // Body as stored before the split, moved out by the body migration
+
+    private String excerpt; // Start of the body for listings
     
-    @Indexed
-    private String topicId; // Topic reference
+    private String topicId; // Topic reference, leading field of topic_published_idx
     
     @Indexed
     private String createdBy; // Instructor ID
@@ -37,7 +57,8 @@ public class LearningMaterial {
     private LocalDateTime createdDate;
     
     @LastModifiedDate
-    private LocalDateTime lastModifiedDate;
+    @Indexed
+    private LocalDateTime lastModifiedDate; // Indexed for the recommendation catalog's incremental refresh
     
     private String filePath; // For video/file uploads
     private String mimeType; // For file type validation
@@ -48,12 +69,34 @@ public class LearningMaterial {
     
     private boolean published = false;
 
+    @Indexed(sparse = true)
+    private Instant publishAt; // Pending scheduled publish, cleared once applied
+
+    @Indexed(sparse = true)
+    private Instant unpublishAt; // Pending scheduled unpublish, cleared once applied
+    
+    private int contentVersion; // Latest history version, bumped atomically on update
+
+    @JsonIgnore
+    @ReadOnlyProperty
+    private boolean inlineContentPresent; // Computed by projections that leave the inline body out
+
     public LearningMaterial() {}
 
+    public static String excerptOf(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
+        }
+        // Do not cut a surrogate pair in half
+        int end = Character.isHighSurrogate(content.charAt(EXCERPT_LENGTH - 1)) ? EXCERPT_LENGTH - 1 : EXCERPT_LENGTH;
+        return content.substring(0, end);
+    }
+
     public LearningMaterial(String title, ContentType type, String content, String topicId, String createdBy) {
         this.title = title;
         this.type = type;
         this.content = content;
+        this.excerpt = excerptOf(content);
         this.topicId = topicId;
         this.createdBy = createdBy;
     }
@@ -99,6 +142,22 @@ public class LearningMaterial {
         this.content = content;
     }
 
+    public String getInlineContent() {
+        return inlineContent;
+    }
+
+    public void setInlineContent(String inlineContent) {
+        this.inlineContent = inlineContent;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
     public String getTopicId() {
         return topicId;
     }
@@ -163,6 +222,22 @@ public class LearningMaterial {
         this.published = published;
     }
 
+    public Instant getPublishAt() {
+        return publishAt;
+    }
+
+    public void setPublishAt(Instant publishAt) {
+        this.publishAt = publishAt;
+    }
+
+    public Instant getUnpublishAt() {
+        return unpublishAt;
+    }
+
+    public void setUnpublishAt(Instant unpublishAt) {
+        this.unpublishAt = unpublishAt;
+    }
+
     public DifficultyLevel getDifficulty() {
         return difficulty;
     }
@@ -178,4 +253,20 @@ public class LearningMaterial {
     public void setTags(List<String> tags) {
         this.tags = tags;
     }
-}
\ No newline at end of file
+
+    public int getContentVersion() {
+        return contentVersion;
+    }
+
+    public void setContentVersion(int contentVersion) {
+        this.contentVersion = contentVersion;
+    }
+
+    public boolean isInlineContentPresent() {
+        return inlineContentPresent;
+    }
+
+    public void setInlineContentPresent(boolean inlineContentPresent) {
+        this.inlineContentPresent = inlineContentPresent;
+    }
+}
@@ -0,0 +1,126 @@
+package com.its.domain.entities;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Learning Material Body entity, the content of a material kept apart from its listing metadata
+ * Bodies at or above the compression threshold are stored gzipped when that makes them smaller
+ */
+@Document(collection = "learning_material_bodies")
+public class LearningMaterialBody {
+    @Id
+    private String id; // Same as the material id
+
+    private String text; // Uncompressed body
+
+    private byte[] gzip; // Compressed body, set instead of text
+
+    private int length; // Body length in characters
+
+    @Indexed(sparse = true)
+    private List<String> uploadRefs; // Upload ids referenced by the body, checked by the orphan sweeper
+
+    private LocalDateTime storedAt;
+
+    public LearningMaterialBody() {}
+
+    public static LearningMaterialBody encode(String materialId, String content, int compressThresholdBytes,
+                                              List<String> uploadRefs) {
+        LearningMaterialBody body = new LearningMaterialBody();
+        body.id = materialId;
+        body.length = content.length();
+        body.uploadRefs = uploadRefs.isEmpty() ? null : uploadRefs;
+        body.storedAt = LocalDateTime.now();
+
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = raw.length >= compressThresholdBytes ? compress(raw) : null;
+        if (compressed != null && compressed.length < raw.length) {
+            body.gzip = compressed;
+        } else {
+            body.text = content;
+        }
+        return body;
+    }
+
+    public String decode() {
+        if (gzip == null) {
+            return text;
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt compressed body for material " + id, e);
+        }
+    }
+
+    private static byte[] compress(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 3 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // Getters and setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    public void setGzip(byte[] gzip) {
+        this.gzip = gzip;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public void setLength(int length) {
+        this.length = length;
+    }
+
+    public List<String> getUploadRefs() {
+        return uploadRefs;
+    }
+
+    public void setUploadRefs(List<String> uploadRefs) {
+        this.uploadRefs = uploadRefs;
+    }
+
+    public LocalDateTime getStoredAt() {
+        return storedAt;
+    }
+
+    public void setStoredAt(LocalDateTime storedAt) {
+        this.storedAt = storedAt;
+    }
+}
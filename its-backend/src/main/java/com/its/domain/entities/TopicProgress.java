@@ -0,0 +1,119 @@
+package com.its.domain.entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Topic Progress entity, the rolled-up progress of one learner in one topic
+ * The id is "userId:topicId" so a learner's topic progress is a single primary key lookup
+ */
+@Document(collection = "topic_progress")
+public class TopicProgress {
+    @Id
+    private String id;
+
+    @Indexed
+    private String userId;
+
+    private String topicId;
+
+    private long viewCount;
+
+    private Set<String> completedMaterialIds = new HashSet<>();
+
+    private LocalDateTime firstActivityAt;
+
+    private LocalDateTime lastActivityAt;
+
+    @JsonIgnore
+    private List<String> appliedBatches = new ArrayList<>(); // Most recent roll-up batches, so a retried roll-up is not counted twice
+
+    public TopicProgress() {}
+
+    public TopicProgress(String userId, String topicId) {
+        this.id = idFor(userId, topicId);
+        this.userId = userId;
+        this.topicId = topicId;
+    }
+
+    public static String idFor(String userId, String topicId) {
+        return userId + ":" + topicId;
+    }
+
+    public int getCompletedCount() {
+        return completedMaterialIds == null ? 0 : completedMaterialIds.size();
+    }
+
+    // Getters and setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getTopicId() {
+        return topicId;
+    }
+
+    public void setTopicId(String topicId) {
+        this.topicId = topicId;
+    }
+
+    public long getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(long viewCount) {
+        this.viewCount = viewCount;
+    }
+
+    public Set<String> getCompletedMaterialIds() {
+        return completedMaterialIds;
+    }
+
+    public void setCompletedMaterialIds(Set<String> completedMaterialIds) {
+        this.completedMaterialIds = completedMaterialIds;
+    }
+
+    public LocalDateTime getFirstActivityAt() {
+        return firstActivityAt;
+    }
+
+    public void setFirstActivityAt(LocalDateTime firstActivityAt) {
+        this.firstActivityAt = firstActivityAt;
+    }
+
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public void setLastActivityAt(LocalDateTime lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+
+    public List<String> getAppliedBatches() {
+        return appliedBatches;
+    }
+
+    public void setAppliedBatches(List<String> appliedBatches) {
+        this.appliedBatches = appliedBatches;
+    }
+}
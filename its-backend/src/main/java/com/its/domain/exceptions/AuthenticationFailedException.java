@@ -0,0 +1,11 @@
+package com.its.domain.exceptions;
+
+/**
+ * Thrown when supplied credentials do not identify an active user
+ */
+public class AuthenticationFailedException extends DomainException {
+
+    public AuthenticationFailedException(String message) {
+        super(message);
+    }
+}
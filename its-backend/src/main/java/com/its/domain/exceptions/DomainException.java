@@ -0,0 +1,12 @@
+package com.its.domain.exceptions;
+
+/**
+ * Base class for expected business failures
+ * These are normal outcomes (bad credentials, missing content, ...) so no stack trace is captured
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,11 @@
+package com.its.domain.exceptions;
+
+/**
+ * Thrown when a material cannot be graded, e.g. it is not a quiz or its answer key is malformed
+ */
+public class GradingException extends DomainException {
+
+    public GradingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.its.domain.exceptions;
+
+/**
+ * Thrown when request input is malformed in a way bean validation cannot express, e.g. a bad cursor or import header
+ */
+public class InvalidRequestException extends DomainException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.its.domain.exceptions;
+
+/**
+ * Thrown when an authenticated user may not act on a resource
+ */
+public class PermissionDeniedException extends DomainException {
+
+    public PermissionDeniedException(String message) {
+        super(message);
+    }
+}
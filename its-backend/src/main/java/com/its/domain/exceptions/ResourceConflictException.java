@@ -0,0 +1,11 @@
+package com.its.domain.exceptions;
+
+/**
+ * Thrown when a write conflicts with existing state, e.g. a duplicate email
+ */
+public class ResourceConflictException extends DomainException {
+
+    public ResourceConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.its.domain.exceptions;
+
+/**
+ * Thrown when a requested resource does not exist
+ */
+public class ResourceNotFoundException extends DomainException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.its.domain.exceptions;
+
+/**
+ * Thrown when a bounded buffer is full and the request should be retried later
+ */
+public class ServiceOverloadedException extends DomainException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,168 @@
+package com.its.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Cache Invalidation Bus keeping in-process caches coherent across backend nodes
+ *
+ * Each cache registers a region with handlers that drop keys or the whole region. A write evicts through
+ * invalidate, which applies the eviction on this node before returning and then broadcasts it over the
+ * transport; other nodes apply it when the message arrives. A failed broadcast is logged and counted but does
+ * not fail the write, so other nodes fall back to their cache's own expiry.
+ */
+@Component
+public class CacheInvalidationBus implements IInvalidationTransport.Listener {
+
+    public static final String PRINCIPALS = "principals";
+    public static final String ANSWER_KEYS = "answer-keys";
+    public static final String FACETS = "facets";
+    public static final String RECOMMENDATIONS = "recommendations";
+    public static final String REGISTERED_EMAILS = "registered-emails";
+    public static final String PUBLISHED_MATERIALS = "published-materials";
+    public static final String PUBLISHED_COURSES = "published-courses";
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final IInvalidationTransport transport;
+    private final MeterRegistry meterRegistry;
+    private final int maxKeysPerMessage;
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    private final Counter publishFailures;
+    private final Counter gaps;
+    private final Timer deliveryLag;
+
+    @Autowired
+    public CacheInvalidationBus(IInvalidationTransport transport,
+                                MeterRegistry meterRegistry,
+                                @Value("${cache-bus.max-keys-per-message}") int maxKeysPerMessage) {
+        this.transport = transport;
+        this.meterRegistry = meterRegistry;
+        this.maxKeysPerMessage = maxKeysPerMessage;
+        this.publishFailures = Counter.builder("its.cache.invalidation.publish-failures")
+                .description("Invalidations applied locally but not broadcast to other nodes")
+                .register(meterRegistry);
+        this.gaps = Counter.builder("its.cache.invalidation.gaps")
+                .description("Times every region was cleared because invalidations may have been missed")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("its.cache.invalidation.lag")
+                .description("Time from broadcast on another node to eviction here (includes clock skew)")
+                .register(meterRegistry);
+    }
+
+    public void register(String region, Consumer<Collection<String>> evict, Runnable evictAll) {
+        regions.put(region, new Region(evict, evictAll,
+                invalidationCounter(region, "published"), invalidationCounter(region, "received")));
+    }
+
+    public void invalidate(String region, Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            broadcast(region, List.copyOf(keys));
+        }
+    }
+
+    public void invalidateAll(String region) {
+        broadcast(region, List.of());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        transport.subscribe(this);
+    }
+
+    @PreDestroy
+    public void stop() {
+        transport.close();
+    }
+
+    @Override
+    public void onMessage(InvalidationMessage message) {
+        Region region = regions.get(message.region());
+        if (region == null || nodeId.equals(message.origin())) {
+            return;
+        }
+        region.received().increment();
+        deliveryLag.record(Duration.between(message.createdAt(), Instant.now()));
+        apply(message.region(), region, message.keys());
+    }
+
+    @Override
+    public void onGap() {
+        log.warn("Cache invalidations may have been missed, clearing every region");
+        gaps.increment();
+        regions.forEach((name, region) -> apply(name, region, List.of()));
+    }
+
+    private void broadcast(String name, List<String> keys) {
+        Region region = regions.get(name);
+        if (region == null) {
+            throw new IllegalArgumentException("Unknown cache region: " + name);
+        }
+        apply(name, region, keys);
+        try {
+            for (List<String> chunk : chunks(keys)) {
+                transport.publish(new InvalidationMessage(nodeId, name, chunk, Instant.now()));
+                region.published().increment();
+            }
+        } catch (DataAccessException e) {
+            publishFailures.increment();
+            log.warn("Broadcasting {} invalidation failed, other nodes rely on expiry: {}", name, e.getMessage());
+        }
+    }
+
+    private void apply(String name, Region region, List<String> keys) {
+        try {
+            if (keys.isEmpty()) {
+                region.evictAll().run();
+            } else {
+                region.evict().accept(keys);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Applying {} invalidation failed: {}", name, e.getMessage());
+        }
+    }
+
+    private List<List<String>> chunks(List<String> keys) {
+        if (keys.size() <= maxKeysPerMessage) {
+            return List.of(keys);
+        }
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += maxKeysPerMessage) {
+            chunks.add(keys.subList(from, Math.min(keys.size(), from + maxKeysPerMessage)));
+        }
+        return chunks;
+    }
+
+    private Counter invalidationCounter(String region, String direction) {
+        return Counter.builder("its.cache.invalidations")
+                .description("Cache invalidation messages by region and direction")
+                .tag("region", region)
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    private record Region(Consumer<Collection<String>> evict, Runnable evictAll,
+                          Counter published, Counter received) {}
+}
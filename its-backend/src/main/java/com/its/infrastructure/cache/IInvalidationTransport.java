@@ -0,0 +1,25 @@
+package com.its.infrastructure.cache;
+
+/**
+ * Invalidation Transport Interface carrying cache evictions between backend nodes
+ * Implementations deliver every published message to every subscribed node, including the publisher,
+ * at least once; the bus drops its own and duplicate messages are harmless evictions.
+ */
+public interface IInvalidationTransport {
+
+    void publish(InvalidationMessage message);
+
+    void subscribe(Listener listener);
+
+    void close();
+
+    interface Listener {
+
+        void onMessage(InvalidationMessage message);
+
+        /**
+         * Called when messages may have been lost, e.g. after an outage longer than the transport's retention
+         */
+        void onGap();
+    }
+}
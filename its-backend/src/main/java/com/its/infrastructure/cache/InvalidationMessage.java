@@ -0,0 +1,11 @@
+package com.its.infrastructure.cache;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One broadcast cache eviction: the keys of a region to drop on every other node.
+ * An empty key list drops the whole region.
+ */
+public record InvalidationMessage(String origin, String region, List<String> keys, Instant createdAt) {
+}
@@ -0,0 +1,24 @@
+package com.its.infrastructure.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Transport for a single backend instance: evictions are applied locally by the bus and go nowhere else
+ */
+@Component
+@ConditionalOnProperty(name = "cache-bus.transport", havingValue = "local")
+public class LocalInvalidationTransport implements IInvalidationTransport {
+
+    @Override
+    public void publish(InvalidationMessage message) {
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,234 @@
+package com.its.infrastructure.cache;
+
+import com.mongodb.CursorType;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Sorts;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Invalidation transport over a Mongo collection, so a cluster needs no infrastructure beyond its database
+ *
+ * By default messages go to a capped collection read with a tailable await cursor, which wakes the reader as
+ * soon as another node inserts. Servers that cannot create capped collections (or cache-bus.mongo.tailable=false)
+ * use an ordinary collection with a TTL index, polled by _id. Either way the reader starts each query a lookback
+ * window before the newest message it has seen, because ObjectIds come from each node's clock and are not
+ * inserted in order; messages re-read within the window are skipped by id.
+ */
+@Component
+@ConditionalOnProperty(name = "cache-bus.transport", havingValue = "mongo")
+public class MongoInvalidationTransport implements IInvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoInvalidationTransport.class);
+    private static final long ERROR_BACKOFF_MS = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final String collectionName;
+    private final boolean tailable;
+    private final long cappedSizeBytes;
+    private final long awaitMs;
+    private final long pollIntervalMs;
+    private final long lookbackMs;
+    private final long retentionSeconds;
+
+    private final ExecutorService reader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-bus-reader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running;
+
+    // Reader thread only: ids already delivered inside the lookback window, and the newest time read up to
+    private final NavigableSet<ObjectId> delivered = new TreeSet<>();
+    private long readUpToMillis;
+
+    @Autowired
+    public MongoInvalidationTransport(MongoTemplate mongoTemplate,
+                                      @Value("${cache-bus.mongo.collection}") String collectionName,
+                                      @Value("${cache-bus.mongo.tailable}") boolean tailable,
+                                      @Value("${cache-bus.mongo.capped-size-bytes}") long cappedSizeBytes,
+                                      @Value("${cache-bus.mongo.await-ms}") long awaitMs,
+                                      @Value("${cache-bus.mongo.poll-interval-ms}") long pollIntervalMs,
+                                      @Value("${cache-bus.mongo.lookback-ms}") long lookbackMs,
+                                      @Value("${cache-bus.mongo.retention-seconds}") long retentionSeconds) {
+        this.mongoTemplate = mongoTemplate;
+        this.collectionName = collectionName;
+        this.tailable = tailable;
+        this.cappedSizeBytes = cappedSizeBytes;
+        this.awaitMs = awaitMs;
+        this.pollIntervalMs = pollIntervalMs;
+        this.lookbackMs = lookbackMs;
+        this.retentionSeconds = retentionSeconds;
+    }
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        mongoTemplate.insert(new Document("origin", message.origin())
+                .append("region", message.region())
+                .append("keys", message.keys())
+                .append("createdAt", Date.from(message.createdAt())), collectionName);
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        boolean useTailable = tailable && prepareCappedCollection();
+        if (!useTailable) {
+            mongoTemplate.getCollection(collectionName).createIndex(Indexes.ascending("createdAt"),
+                    new IndexOptions().name("createdAt_ttl").expireAfter(retentionSeconds, TimeUnit.SECONDS));
+        }
+        log.info("Cache invalidations {} collection {}", useTailable ? "tailing capped" : "polling", collectionName);
+
+        running = true;
+        readUpToMillis = System.currentTimeMillis();
+        reader.execute(() -> read(listener, useTailable));
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        reader.shutdownNow();
+    }
+
+    private boolean prepareCappedCollection() {
+        try {
+            if (!mongoTemplate.collectionExists(collectionName)) {
+                mongoTemplate.createCollection(collectionName, CollectionOptions.empty().capped().size(cappedSizeBytes));
+                // A tailable cursor on an empty capped collection dies at once, so it never stays empty
+                publish(new InvalidationMessage("", "", List.of(), Instant.now()));
+            }
+            Document info = mongoTemplate.getDb().listCollections()
+                    .filter(Filters.eq("name", collectionName))
+                    .first();
+            Document options = info == null ? null : info.get("options", Document.class);
+            if (options != null && options.getBoolean("capped", false)) {
+                return true;
+            }
+            log.warn("Collection {} is not capped, falling back to polling", collectionName);
+        } catch (RuntimeException e) {
+            log.warn("Capped collection {} unavailable, falling back to polling: {}", collectionName, e.getMessage());
+        }
+        return false;
+    }
+
+    private void read(Listener listener, boolean useTailable) {
+        boolean failed = false;
+        while (running) {
+            try {
+                if (failed && gapSince(floor())) {
+                    listener.onGap();
+                }
+                failed = false;
+                if (useTailable) {
+                    tail(listener);
+                } else {
+                    poll(listener);
+                }
+                sleep(pollIntervalMs);
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                failed = true;
+                log.warn("Reading cache invalidations failed, retrying: {}", e.getMessage());
+                sleep(ERROR_BACKOFF_MS);
+            }
+        }
+    }
+
+    /**
+     * Returns when the cursor dies, e.g. because the capped collection wrapped past it
+     */
+    private void tail(Listener listener) {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(collectionName);
+        try (MongoCursor<Document> cursor = collection.find(Filters.gte("_id", floor()))
+                .cursorType(CursorType.TailableAwait)
+                .maxAwaitTime(awaitMs, TimeUnit.MILLISECONDS)
+                .iterator()) {
+            while (running) {
+                long readAt = System.currentTimeMillis();
+                Document message = cursor.tryNext();
+                if (message != null) {
+                    deliver(listener, message);
+                    continue;
+                }
+                advance(readAt);
+                if (cursor.getServerCursor() == null) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void poll(Listener listener) {
+        long readAt = System.currentTimeMillis();
+        List<Document> messages = mongoTemplate.getCollection(collectionName)
+                .find(Filters.gte("_id", floor()))
+                .sort(Sorts.ascending("_id"))
+                .into(new ArrayList<>());
+        for (Document message : messages) {
+            deliver(listener, message);
+        }
+        advance(readAt);
+    }
+
+    private void deliver(Listener listener, Document message) {
+        ObjectId id = message.getObjectId("_id");
+        if (!delivered.add(id)) {
+            return;
+        }
+        readUpToMillis = Math.max(readUpToMillis, id.getDate().getTime());
+        Date createdAt = message.getDate("createdAt");
+        listener.onMessage(new InvalidationMessage(message.getString("origin"), message.getString("region"),
+                message.getList("keys", String.class, List.of()),
+                createdAt == null ? Instant.now() : createdAt.toInstant()));
+    }
+
+    private void advance(long readAt) {
+        readUpToMillis = Math.max(readUpToMillis, readAt);
+        delivered.headSet(floor()).clear();
+    }
+
+    /**
+     * No message older than the floor is left when the collection wrapped or expired past it during an outage.
+     * After a quiet period this also reports a gap that did not happen, which only costs a cache clear.
+     */
+    private boolean gapSince(ObjectId floor) {
+        return mongoTemplate.getCollection(collectionName).find(Filters.lt("_id", floor)).first() == null;
+    }
+
+    private ObjectId floor() {
+        // The smallest ObjectId created at the start of the lookback window
+        long seconds = Math.max(0, (readUpToMillis - lookbackMs) / 1000);
+        return new ObjectId(String.format("%08x%016x", seconds, 0));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
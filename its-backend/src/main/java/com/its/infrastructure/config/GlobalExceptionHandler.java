@@ -1,21 +1,47 @@
 package com.its.infrastructure.config;
 
+import com.its.domain.exceptions.AuthenticationFailedException;
+import com.its.domain.exceptions.DomainException;
+import com.its.domain.exceptions.PermissionDeniedException;
+import com.its.domain.exceptions.ResourceConflictException;
+import com.its.domain.exceptions.ResourceNotFoundException;
+import com.its.domain.exceptions.ServiceOverloadedException;
+import com.mongodb.MongoTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Global Exception Handler for validation errors
+ * Global Exception Handler for validation errors, expected domain failures and unexpected errors
+ * Expected failures are counted in the its.errors metric instead of being logged with stack traces
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
@@ -24,15 +50,91 @@ public class GlobalExceptionHandler {
             String fieldName = ((FieldError) error).getField();
             String errorMessage = error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
-            System.err.println("Validation error - " + fieldName + ": " + errorMessage);
         });
+        log.debug("Validation failed: {}", errors);
+        countError(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
     }
 
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<Map<String, String>> handleMethodValidation(HandlerMethodValidationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getAllValidationResults().forEach(result -> result.getResolvableErrors().forEach(error -> {
+            String name = error instanceof FieldError fieldError
+                    ? fieldError.getField()
+                    : result.getMethodParameter().getParameterName();
+            errors.put(name, error.getDefaultMessage());
+        }));
+        log.debug("Validation failed: {}", errors);
+        countError(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
+    }
+
+    @ExceptionHandler(AuthenticationFailedException.class)
+    public ResponseEntity<String> handleAuthenticationFailed(AuthenticationFailedException ex) {
+        return expectedFailure(ex, HttpStatus.UNAUTHORIZED);
+    }
+
+    @ExceptionHandler({PermissionDeniedException.class, AccessDeniedException.class})
+    public ResponseEntity<String> handlePermissionDenied(RuntimeException ex) {
+        return expectedFailure(ex, HttpStatus.FORBIDDEN);
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<String> handleNotFound(ResourceNotFoundException ex) {
+        return expectedFailure(ex, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(ResourceConflictException.class)
+    public ResponseEntity<String> handleConflict(ResourceConflictException ex) {
+        return expectedFailure(ex, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<String> handleOverloaded(ServiceOverloadedException ex) {
+        log.debug("{}: {}", ex.getClass().getSimpleName(), ex.getMessage());
+        countError(ex, HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
+    /**
+     * Pool checkout, server selection and socket timeouts: fail fast so callers back off instead of queueing
+     */
+    @ExceptionHandler({DataAccessResourceFailureException.class, MongoTimeoutException.class})
+    public ResponseEntity<String> handleDatabaseUnavailable(RuntimeException ex) {
+        log.warn("Database unavailable: {}", ex.getMessage());
+        countError(ex, HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("Database temporarily unavailable");
+    }
+
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<String> handleDomainException(DomainException ex) {
+        return expectedFailure(ex, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<String> handleRuntimeException(RuntimeException ex) {
-        System.err.println("Runtime exception: " + ex.getMessage());
-        ex.printStackTrace();
+        log.error("Unhandled runtime exception: {}", ex.getMessage(), ex);
+        countError(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
+
+    private ResponseEntity<String> expectedFailure(RuntimeException ex, HttpStatus status) {
+        log.debug("{}: {}", ex.getClass().getSimpleName(), ex.getMessage());
+        countError(ex, status);
+        return ResponseEntity.status(status).body(ex.getMessage());
+    }
+
+    private void countError(Exception ex, HttpStatus status) {
+        Counter.builder("its.errors")
+                .description("Requests that ended in an error response")
+                .tag("exception", ex.getClass().getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry)
+                .increment();
+    }
 }
@@ -0,0 +1,41 @@
+package com.its.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Explicit Mongo connection pool and timeout settings
+ * Checkout waits at most max-wait-ms and server selection at most server-selection-timeout-ms, so a slow or
+ * unreachable Mongo fails requests with 503 instead of parking every request thread behind the pool
+ */
+@Configuration
+public class MongoPoolConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(
+            @Value("${mongo.pool.min-size}") int minSize,
+            @Value("${mongo.pool.max-size}") int maxSize,
+            @Value("${mongo.pool.max-connecting}") int maxConnecting,
+            @Value("${mongo.pool.max-wait-ms}") long maxWaitMs,
+            @Value("${mongo.pool.max-idle-ms}") long maxIdleMs,
+            @Value("${mongo.socket.connect-timeout-ms}") int connectTimeoutMs,
+            @Value("${mongo.socket.read-timeout-ms}") int readTimeoutMs,
+            @Value("${mongo.server-selection-timeout-ms}") long serverSelectionTimeoutMs) {
+        return settings -> settings
+                .applyToConnectionPoolSettings(pool -> pool
+                        .minSize(minSize)
+                        .maxSize(maxSize)
+                        .maxConnecting(maxConnecting)
+                        .maxWaitTime(maxWaitMs, TimeUnit.MILLISECONDS)
+                        .maxConnectionIdleTime(maxIdleMs, TimeUnit.MILLISECONDS))
+                .applyToSocketSettings(socket -> socket
+                        .connectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+                        .readTimeout(readTimeoutMs, TimeUnit.MILLISECONDS))
+                .applyToClusterSettings(cluster -> cluster
+                        .serverSelectionTimeout(serverSelectionTimeoutMs, TimeUnit.MILLISECONDS));
+    }
+}
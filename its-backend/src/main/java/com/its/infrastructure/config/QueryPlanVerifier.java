@@ -0,0 +1,152 @@
+package com.its.infrastructure.config;
+
+import com.its.domain.entities.AnalyticsBucket;
+import com.its.domain.entities.AnalyticsMetric;
+import com.its.domain.entities.BucketGranularity;
+import com.its.domain.entities.CascadeDeleteJob;
+import com.its.domain.entities.ContentHistory;
+import com.its.domain.entities.ContentType;
+import com.its.domain.entities.Course;
+import com.its.domain.entities.DifficultyLevel;
+import com.its.domain.entities.FacetCount;
+import com.its.domain.entities.JobStatus;
+import com.its.domain.entities.LearningMaterial;
+import com.its.domain.entities.Topic;
+import com.its.domain.entities.TopicProgress;
+import com.its.domain.entities.User;
+import com.its.domain.entities.UserRole;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Startup check that every hot repository query shape is answered from an index
+ * Runs explain for each shape and reports (or fails on) any collection scan
+ */
+@Component
+@ConditionalOnProperty(name = "mongo.query-verification.enabled", havingValue = "true")
+public class QueryPlanVerifier implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryPlanVerifier.class);
+
+    /**
+     * A repository query as sent to MongoDB, with representative parameter values.
+     */
+    record QueryShape(String name, Class<?> entity, Document filter, Document sort) {
+        QueryShape(String name, Class<?> entity, Document filter) {
+            this(name, entity, filter, new Document());
+        }
+    }
+
+    // Unanchored case-insensitive title/name regex searches cannot use an index bound and are not listed
+    static final List<QueryShape> QUERY_SHAPES = List.of(
+            new QueryShape("PublishedContentIndex.materialsOfTopic", LearningMaterial.class,
+                    new Document("topicId", "?").append("published", true)),
+            new QueryShape("LearningMaterialRepository.findByTopicId", LearningMaterial.class,
+                    new Document("topicId", "?")),
+            new QueryShape("LearningMaterialRepository.findPublishedByType", LearningMaterial.class,
+                    new Document("type", ContentType.QUIZ.name()).append("published", true)),
+            new QueryShape("LearningMaterialRepository.findByCreatedBy", LearningMaterial.class,
+                    new Document("createdBy", "?")),
+            new QueryShape("CatalogService.browseMaterials(tag)", LearningMaterial.class,
+                    new Document("published", true).append("tags", "?")),
+            new QueryShape("RecommendationService.refreshChangedTopics", LearningMaterial.class,
+                    new Document("lastModifiedDate", new Document("$gte", new Date()))),
+            new QueryShape("CourseRepository.findPublishedBySubjectAndDifficulty", Course.class,
+                    new Document("subject", "?").append("difficulty", DifficultyLevel.BEGINNER.name())
+                            .append("published", true)),
+            new QueryShape("CourseController.getCoursesBySubject", Course.class,
+                    new Document("subject", "?")),
+            new QueryShape("CourseController.getCoursesByDifficulty", Course.class,
+                    new Document("difficulty", DifficultyLevel.BEGINNER.name())),
+            new QueryShape("PublishedContentIndex.publishedCourses", Course.class,
+                    new Document("published", true)),
+            new QueryShape("CourseRepository.findByCreatedBy", Course.class,
+                    new Document("createdBy", "?")),
+            new QueryShape("TopicRepository.findByCourseId", Topic.class,
+                    new Document("courseId", "?")),
+            new QueryShape("ContentHistoryRepository.findFirstByMaterialIdOrderByVersionDesc", ContentHistory.class,
+                    new Document("materialId", "?"), new Document("version", -1)),
+            new QueryShape("ContentHistoryRepository.deleteByMaterialIdInAndChangeDateBefore", ContentHistory.class,
+                    new Document("materialId", new Document("$in", List.of("?"))).append("changeDate", new Document("$lt", "?"))),
+            new QueryShape("TopicProgressRepository.findByUserId", TopicProgress.class,
+                    new Document("userId", "?")),
+            new QueryShape("CatalogService.loadFacets", FacetCount.class,
+                    new Document("scope", "materials").append("count", new Document("$gt", 0))),
+            new QueryShape("UserRepository.findActiveUserByEmail", User.class,
+                    new Document("email", "?").append("active", true)),
+            new QueryShape("UserManagementService.getUsersPage(role)", User.class,
+                    new Document("role", UserRole.STUDENT.name()), new Document("_id", 1)),
+            new QueryShape("UserManagementService.insertBatch", User.class,
+                    new Document("email", new Document("$in", List.of("?")))),
+            new QueryShape("CascadeDeleteJobRepository.claimNext", CascadeDeleteJob.class,
+                    new Document("status", new Document("$in", List.of(JobStatus.PENDING.name(), JobStatus.RUNNING.name())))),
+            new QueryShape("AnalyticsService.getSeries", AnalyticsBucket.class,
+                    new Document("metric", AnalyticsMetric.MATERIAL_VIEWS.name()).append("scope", "?")
+                            .append("granularity", BucketGranularity.DAY.name())
+                            .append("start", new Document("$gte", new Date()).append("$lt", new Date())),
+                    new Document("start", 1)),
+            new QueryShape("PublishingService.scanUpcoming", LearningMaterial.class,
+                    new Document("$or", List.of(new Document("publishAt", new Document("$lte", new Date())),
+                            new Document("unpublishAt", new Document("$lte", new Date())))))
+    );
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${mongo.query-verification.fail-on-collection-scan}")
+    private boolean failOnCollectionScan;
+
+    @Autowired
+    public QueryPlanVerifier(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> collectionScans = new ArrayList<>();
+        for (QueryShape shape : QUERY_SHAPES) {
+            Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(shape.entity()))
+                    .find(shape.filter())
+                    .sort(shape.sort())
+                    .explain();
+            Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+            if (containsStage(winningPlan, "COLLSCAN")) {
+                collectionScans.add(shape.name() + " " + shape.filter().toJson());
+            }
+        }
+
+        if (collectionScans.isEmpty()) {
+            log.info("Verified {} repository query shapes, none require a collection scan", QUERY_SHAPES.size());
+            return;
+        }
+        String report = "Repository queries planned as collection scans: " + String.join("; ", collectionScans);
+        if (failOnCollectionScan) {
+            throw new IllegalStateException(report);
+        }
+        log.warn(report);
+    }
+
+    private static boolean containsStage(Object plan, String stage) {
+        if (plan instanceof Document document) {
+            if (stage.equals(document.getString("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (plan instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package com.its.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter that samples repeated WARN and ERROR events
+ * The first events of each kind in a window are logged, after that only one in every sampleRate
+ */
+public class RepeatedErrorSamplingFilter extends TurboFilter {
+
+    private int burst = 10;
+    private int sampleRate = 100;
+    private long windowMillis = 10_000;
+    private int maxKeys = 1_000;
+
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null || !level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (windows.size() >= maxKeys) {
+            // Bounded memory: forget all windows rather than grow without limit
+            windows.clear();
+        }
+        String key = logger.getName() + '|' + format + (t != null ? '|' + t.getClass().getName() : "");
+        Window window = windows.computeIfAbsent(key, k -> new Window());
+        return window.admit(System.currentTimeMillis()) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public void setWindowMillis(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    private final class Window {
+        private final AtomicLong start = new AtomicLong(System.currentTimeMillis());
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean admit(long now) {
+            long windowStart = start.get();
+            if (now - windowStart >= windowMillis && start.compareAndSet(windowStart, now)) {
+                count.set(0);
+            }
+            int seen = count.incrementAndGet();
+            return seen <= burst || (seen - burst) % sampleRate == 0;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.its.infrastructure.monitoring;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mongo pool listener timing connection checkouts by server and outcome
+ * Complements the Actuator pool size and wait queue gauges with how long requests wait for a connection
+ * and how often they give up, which is what queues up under load.
+ */
+public class ConnectionCheckoutListener implements ConnectionPoolListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionCheckoutListener.class);
+
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionCheckoutListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        checkoutTimer(event.getConnectionId().getServerId(), "success")
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        String reason = event.getReason().name().toLowerCase(Locale.ROOT);
+        checkoutTimer(event.getServerId(), reason)
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        log.debug("Connection checkout from {} failed after {} ms: {}", event.getServerId().getAddress(),
+                event.getElapsedTime(TimeUnit.MILLISECONDS), reason);
+    }
+
+    private Timer checkoutTimer(ServerId serverId, String outcome) {
+        return Timer.builder("its.mongo.pool.checkout")
+                .description("Time spent waiting for a pooled Mongo connection")
+                .tag("server", serverId.getAddress().toString())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
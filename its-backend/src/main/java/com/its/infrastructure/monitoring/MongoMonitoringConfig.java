@@ -0,0 +1,28 @@
+package com.its.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers Mongo driver listeners in addition to the Actuator command and pool metrics
+ */
+@Configuration
+public class MongoMonitoringConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer slowQueryLoggingCustomizer(
+            MeterRegistry meterRegistry,
+            @Value("${mongo.slow-query-threshold-ms}") long slowQueryThresholdMs) {
+        return settings -> settings.addCommandListener(
+                new SlowQueryCommandListener(meterRegistry, slowQueryThresholdMs));
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionCheckoutMetricsCustomizer(MeterRegistry meterRegistry) {
+        return settings -> settings.applyToConnectionPoolSettings(pool ->
+                pool.addConnectionPoolListener(new ConnectionCheckoutListener(meterRegistry)));
+    }
+}
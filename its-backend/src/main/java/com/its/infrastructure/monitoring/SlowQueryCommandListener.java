@@ -0,0 +1,121 @@
+package com.its.infrastructure.monitoring;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mongo command listener that logs commands slower than a threshold together with their query shape
+ * The shape keeps field names and operators but replaces every literal value with "?"
+ */
+public class SlowQueryCommandListener implements CommandListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryCommandListener.class);
+    private static final Set<String> SHAPED_COMMANDS = Set.of(
+            "find", "aggregate", "count", "distinct", "findAndModify", "update", "delete", "explain");
+    private static final Set<String> IGNORED_FIELDS = Set.of(
+            "$db", "lsid", "$clusterTime", "txnNumber", "$readPreference", "documents", "cursor");
+    private static final int MAX_SHAPE_LENGTH = 512;
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    // Command documents are only valid during the callback, so the shape is captured when the command starts
+    private final Map<Integer, String> shapes = new ConcurrentHashMap<>();
+
+    public SlowQueryCommandListener(MeterRegistry meterRegistry, long thresholdMillis) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (SHAPED_COMMANDS.contains(event.getCommandName())) {
+            shapes.put(event.getRequestId(), shapeOf(event.getCommand()));
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        report(event.getRequestId(), event.getCommandName(), event.getDatabaseName(),
+                event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        report(event.getRequestId(), event.getCommandName(), event.getDatabaseName(),
+                event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    private void report(int requestId, String commandName, String database, long elapsedNanos) {
+        String shape = shapes.remove(requestId);
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+        Counter.builder("mongodb.driver.commands.slow")
+                .description("Mongo commands slower than the slow query threshold")
+                .tag("command", commandName)
+                .register(meterRegistry)
+                .increment();
+        log.warn("Slow Mongo command {} on {} took {} ms: {}", commandName, database,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), shape != null ? shape : "{}");
+    }
+
+    static String shapeOf(BsonDocument command) {
+        StringBuilder shape = new StringBuilder();
+        appendDocument(shape, command, true);
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape.toString();
+    }
+
+    private static void appendDocument(StringBuilder shape, BsonDocument document, boolean topLevel) {
+        shape.append('{');
+        boolean first = true;
+        for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+            if (topLevel && IGNORED_FIELDS.contains(entry.getKey())) {
+                continue;
+            }
+            if (!first) {
+                shape.append(", ");
+            }
+            shape.append(entry.getKey()).append(": ");
+            if (topLevel && first && entry.getValue().isString()) {
+                // The command name comes first and its value is the collection, which is kept verbatim
+                shape.append(entry.getValue().asString().getValue());
+            } else {
+                appendValue(shape, entry.getValue());
+            }
+            first = false;
+        }
+        shape.append('}');
+    }
+
+    private static void appendValue(StringBuilder shape, BsonValue value) {
+        if (value.isDocument()) {
+            appendDocument(shape, value.asDocument(), false);
+        } else if (value.isArray()) {
+            BsonArray array = value.asArray();
+            shape.append('[');
+            if (!array.isEmpty()) {
+                appendValue(shape, array.get(0));
+                if (array.size() > 1) {
+                    shape.append(", ...");
+                }
+            }
+            shape.append(']');
+        } else {
+            shape.append('?');
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.its.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.its.domain.entities.User;
+import com.its.infrastructure.cache.CacheInvalidationBus;
 import com.its.persistence.repositories.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,24 +14,43 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 
 /**
  * Custom User Details Service following Single Responsibility Principle
+ * Principals are cached briefly since the JWT filter loads one on every request;
+ * only active users are cached and anything that deactivates a user must invalidate the principals region
  */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final Cache<String, UserDetails> principals;
 
     @Autowired
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    CacheInvalidationBus invalidationBus,
+                                    @Value("${security.principal-cache.max-size}") long maxSize,
+                                    @Value("${security.principal-cache.ttl-seconds}") long ttlSeconds) {
         this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        invalidationBus.register(CacheInvalidationBus.PRINCIPALS, principals::invalidateAll, principals::invalidateAll);
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        // Callers get a copy so erasing credentials on one cannot affect the cached principal
+        return org.springframework.security.core.userdetails.User
+                .withUserDetails(principals.get(email, this::loadActiveUser))
+                .build();
+    }
+
+    private UserDetails loadActiveUser(String email) {
         User user = userRepository.findActiveUserByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
@@ -45,4 +68,4 @@ public class CustomUserDetailsService implements UserDetailsService {
     private Collection<? extends GrantedAuthority> getAuthorities(User user) {
         return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package com.its.infrastructure.security;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limit Filter following Single Responsibility Principle
+ * Sheds requests over their endpoint group's limit with 429 before authentication touches Mongo.
+ * Requests with a valid token are limited per user, so a campus behind one NAT address is not throttled as one
+ * client; all other requests are limited per remote address (set server.forward-headers-strategy behind a proxy).
+ * IPv6 addresses are limited per /64, the smallest block a single host is usually given.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimiter rateLimiter;
+    private final JwtTokenProvider tokenProvider;
+    private final boolean enabled;
+    private final List<Map.Entry<String, String>> patterns = new ArrayList<>();
+
+    @Autowired
+    public RateLimitFilter(RateLimiter rateLimiter, JwtTokenProvider tokenProvider, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.tokenProvider = tokenProvider;
+        this.enabled = properties.isEnabled();
+        properties.getGroups().forEach((name, group) ->
+                group.getPaths().forEach(path -> patterns.add(Map.entry(path, name))));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String group = groupFor(request.getRequestURI().substring(request.getContextPath().length()));
+        if (group != null) {
+            long waitNanos = rateLimiter.tryAcquire(group, clientOf(request));
+            if (waitNanos > 0) {
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+                response.getWriter().write("Too many requests");
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String groupFor(String path) {
+        for (Map.Entry<String, String> pattern : patterns) {
+            if (PATH_MATCHER.match(pattern.getKey(), path)) {
+                return pattern.getValue();
+            }
+        }
+        return null;
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            try {
+                return "user:" + tokenProvider.getEmailFromToken(bearerToken.substring(7));
+            } catch (JwtException | IllegalArgumentException e) {
+                // Invalid tokens are limited by address like anonymous requests
+            }
+        }
+        return "ip:" + addressOf(request.getRemoteAddr());
+    }
+
+    private static String addressOf(String remoteAddr) {
+        if (remoteAddr == null || remoteAddr.indexOf(':') < 0) {
+            return remoteAddr;
+        }
+        try {
+            // A literal is parsed without a lookup; IPv4-mapped addresses come back as four bytes
+            byte[] address = InetAddress.getByName(remoteAddr).getAddress();
+            if (address.length != 16) {
+                return remoteAddr;
+            }
+            Arrays.fill(address, 8, 16, (byte) 0);
+            return InetAddress.getByAddress(address).getHostAddress() + "/64";
+        } catch (UnknownHostException e) {
+            return remoteAddr;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.its.infrastructure.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rate limit settings bound from rate-limit.* properties
+ * Each group lists Ant-style paths relative to the context path; the first group whose path matches applies
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private int maxBuckets = 100000;
+    private int overflowStripes = 1024;
+    private long idleEvictionSeconds = 600;
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    /**
+     * A token bucket per client: capacity is the allowed burst, refillPerSecond the sustained rate
+     */
+    public static class Group {
+        private List<String> paths = new ArrayList<>();
+        private int capacity;
+        private double refillPerSecond;
+
+        // Getters and setters
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerSecond() {
+            return refillPerSecond;
+        }
+
+        public void setRefillPerSecond(double refillPerSecond) {
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+
+    // Getters and setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public void setMaxBuckets(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public int getOverflowStripes() {
+        return overflowStripes;
+    }
+
+    public void setOverflowStripes(int overflowStripes) {
+        this.overflowStripes = overflowStripes;
+    }
+
+    public long getIdleEvictionSeconds() {
+        return idleEvictionSeconds;
+    }
+
+    public void setIdleEvictionSeconds(long idleEvictionSeconds) {
+        this.idleEvictionSeconds = idleEvictionSeconds;
+    }
+
+    public Map<String, Group> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(Map<String, Group> groups) {
+        this.groups = groups;
+    }
+}
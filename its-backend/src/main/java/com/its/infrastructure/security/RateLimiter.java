@@ -0,0 +1,121 @@
+package com.its.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token buckets per endpoint group and client
+ *
+ * Each bucket is one AtomicLong holding the time at which it would be full again (the GCRA form of a
+ * token bucket), so taking a token is a single compare-and-set with no lock and no refill bookkeeping.
+ * Buckets live in a ConcurrentHashMap, whose striped bins keep unrelated clients from contending.
+ * The map is bounded: once full, new clients are hashed onto a fixed set of overflow buckets per group until idle
+ * buckets are evicted, so a flood of new addresses throttles only the clients that share its stripes.
+ */
+@Component
+public class RateLimiter {
+
+    static final String OVERFLOW_CLIENT = "*";
+
+    private final Map<String, Limit> limits = new HashMap<>();
+    private final ConcurrentHashMap<BucketKey, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int maxBuckets;
+    private final int overflowStripes;
+    private final long idleNanos;
+    private final Counter overflowed;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.maxBuckets = properties.getMaxBuckets();
+        if (properties.getOverflowStripes() < 1) {
+            throw new IllegalStateException("rate-limit.overflow-stripes must be at least 1");
+        }
+        this.overflowStripes = properties.getOverflowStripes();
+        this.idleNanos = TimeUnit.SECONDS.toNanos(properties.getIdleEvictionSeconds());
+        properties.getGroups().forEach((name, group) -> {
+            if (group.getCapacity() < 1 || group.getRefillPerSecond() <= 0) {
+                throw new IllegalStateException("Rate limit group " + name + " needs capacity >= 1 and refill-per-second > 0");
+            }
+            long intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / group.getRefillPerSecond()));
+            limits.put(name, new Limit(intervalNanos, intervalNanos * group.getCapacity(),
+                    requestCounter(meterRegistry, name, "allowed"), requestCounter(meterRegistry, name, "limited")));
+        });
+        this.overflowed = Counter.builder("its.ratelimit.overflow")
+                .description("Requests from new clients that shared an overflow bucket because the bucket map was full")
+                .register(meterRegistry);
+        Gauge.builder("its.ratelimit.buckets", buckets, Map::size)
+                .description("Client buckets currently tracked")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes one token for the client in the group. Returns 0 when the request may proceed,
+     * otherwise the nanoseconds until the next token is available.
+     */
+    public long tryAcquire(String group, String client) {
+        Limit limit = limits.get(group);
+        if (limit == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        AtomicLong bucket = bucketFor(group, client, now);
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt, now) + limit.intervalNanos();
+            long wait = next - now - limit.burstNanos();
+            if (wait > 0) {
+                limit.limited().increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                limit.allowed().increment();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drops buckets that have been full for the idle period; dropping one is the same as keeping it full.
+     * A request racing with its own eviction may get one extra token, which is harmless.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms}")
+    public void evictIdle() {
+        long cutoff = System.nanoTime() - idleNanos;
+        buckets.values().removeIf(bucket -> bucket.get() - cutoff < 0);
+    }
+
+    private AtomicLong bucketFor(String group, String client, long now) {
+        BucketKey key = new BucketKey(group, client);
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            overflowed.increment();
+            key = new BucketKey(group, OVERFLOW_CLIENT + Math.floorMod(client.hashCode(), overflowStripes));
+        }
+        return buckets.computeIfAbsent(key, ignored -> new AtomicLong(now));
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String group, String outcome) {
+        return Counter.builder("its.ratelimit.requests")
+                .description("Rate limited requests by endpoint group and outcome")
+                .tag("group", group)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record BucketKey(String group, String client) {}
+
+    private record Limit(long intervalNanos, long burstNanos, Counter allowed, Counter limited) {}
+}
@@ -0,0 +1,248 @@
+package com.its.persistence.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.its.domain.entities.ContentHistory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Append-only local journal for content history records awaiting write-behind.
+ * Records are stored as JSON lines in numbered segment files; a segment is deleted
+ * only after every record in it has been persisted to MongoDB.
+ * Appends are written by a single writer thread that group-commits: everything queued
+ * while one fsync is in progress is written and forced together by the next one.
+ */
+public class ContentHistoryJournal {
+
+    private static final String SEGMENT_PREFIX = "history-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final long CLOSE_POLL_MS = 200;
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+
+    private final BlockingQueue<PendingAppend> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    // Guarded by this
+    private FileChannel activeChannel;
+    private Path activeSegment;
+    private List<ContentHistory> activeRecords = new ArrayList<>();
+    private long nextSequence;
+
+    public ContentHistoryJournal(Path directory, ObjectMapper objectMapper, boolean fsync) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create history journal directory " + directory, e);
+        }
+        this.nextSequence = pendingSegments().stream()
+                .mapToLong(ContentHistoryJournal::sequenceOf)
+                .max()
+                .orElse(0L) + 1;
+        this.writer = new Thread(this::writeLoop, "history-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues a record for the writer thread.
+     *
+     * @return a future completed once the record is durable (or written, without fsync)
+     */
+    public CompletableFuture<Void> append(ContentHistory record) {
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        if (closed) {
+            written.completeExceptionally(new IllegalStateException("History journal is closed"));
+            return written;
+        }
+        queue.add(new PendingAppend(record, written));
+        return written;
+    }
+
+    /**
+     * Closes the active segment so that subsequent appends go to a new one.
+     *
+     * @return the sealed segment with the records written to it, or null if nothing
+     *         has been appended since the last seal
+     */
+    public synchronized SealedSegment seal() {
+        if (activeChannel == null) {
+            return null;
+        }
+        SealedSegment sealed = new SealedSegment(activeSegment, activeRecords);
+        closeActive();
+        return sealed;
+    }
+
+    /**
+     * Number of records written to the active segment since the last seal.
+     */
+    public synchronized int activeRecordCount() {
+        return activeRecords.size();
+    }
+
+    /**
+     * Lists every segment on disk, oldest first, including the active one.
+     */
+    public List<Path> pendingSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(ContentHistoryJournal::isSegment)
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list history journal segments", e);
+        }
+    }
+
+    public List<ContentHistory> read(Path segment) {
+        List<ContentHistory> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    records.add(objectMapper.readValue(line, ContentHistory.class));
+                } catch (IOException e) {
+                    // A torn last line after a crash is expected; everything before it is intact
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read history journal segment " + segment, e);
+        }
+        return records;
+    }
+
+    public void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete history journal segment " + segment, e);
+        }
+    }
+
+    /**
+     * Stops the writer once every queued append has been written, then closes the active segment.
+     */
+    public void close() {
+        closed = true;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Appends that raced with close() never reach the writer; fail them rather than leave callers waiting
+        List<PendingAppend> stragglers = new ArrayList<>();
+        queue.drainTo(stragglers);
+        stragglers.forEach(pending -> pending.written().completeExceptionally(
+                new IllegalStateException("History journal is closed")));
+        synchronized (this) {
+            closeActive();
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingAppend> batch = new ArrayList<>();
+        while (!closed || !queue.isEmpty()) {
+            try {
+                // Polled rather than interrupted: an interrupt would close the FileChannel mid-write
+                PendingAppend first = queue.poll(CLOSE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch);
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                writeBatch(batch);
+                batch.forEach(pending -> pending.written().complete(null));
+            } catch (IOException | RuntimeException e) {
+                batch.forEach(pending -> pending.written().completeExceptionally(e));
+            }
+            batch.clear();
+        }
+    }
+
+    private synchronized void writeBatch(List<PendingAppend> batch) throws IOException {
+        if (activeChannel == null) {
+            activeSegment = directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, nextSequence++, SEGMENT_SUFFIX));
+            activeChannel = FileChannel.open(activeSegment,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        StringBuilder lines = new StringBuilder();
+        for (PendingAppend pending : batch) {
+            lines.append(objectMapper.writeValueAsString(pending.record())).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            activeChannel.write(buffer);
+        }
+        if (fsync) {
+            activeChannel.force(false);
+        }
+        // Only records that reached the segment are handed to the flusher with it
+        batch.forEach(pending -> activeRecords.add(pending.record()));
+    }
+
+    private void closeActive() {
+        if (activeChannel == null) {
+            return;
+        }
+        try {
+            activeChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close history journal segment " + activeSegment, e);
+        } finally {
+            activeChannel = null;
+            activeSegment = null;
+            activeRecords = new ArrayList<>();
+        }
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * A closed segment and the records written to it, ready to be persisted and deleted.
+     */
+    public record SealedSegment(Path segment, List<ContentHistory> records) {
+    }
+
+    private record PendingAppend(ContentHistory record, CompletableFuture<Void> written) {
+    }
+}
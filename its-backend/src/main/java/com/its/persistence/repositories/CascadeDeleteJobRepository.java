@@ -0,0 +1,22 @@
+package com.its.persistence.repositories;
+
+import com.its.domain.entities.CascadeDeleteJob;
+import com.its.domain.entities.CascadeDeleteTarget;
+import com.its.domain.entities.JobStatus;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Cascade Delete Job Repository for background cleanup jobs
+ */
+@Repository
+public interface CascadeDeleteJobRepository extends MongoRepository<CascadeDeleteJob, String>,
+                                                    CascadeDeleteJobRepositoryCustom {
+    
+    Optional<CascadeDeleteJob> findFirstByTargetTypeAndTargetIdAndStatusIn(CascadeDeleteTarget targetType,
+                                                                           String targetId,
+                                                                           Collection<JobStatus> statuses);
+}
@@ -0,0 +1,22 @@
+package com.its.persistence.repositories;
+
+import com.its.domain.entities.CascadeDeleteJob;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Lease-based claiming of cascade delete jobs
+ */
+public interface CascadeDeleteJobRepositoryCustom {
+
+    /**
+     * Atomically claims the oldest unfinished job whose lease is free or expired.
+     */
+    Optional<CascadeDeleteJob> claimNext(Duration lease);
+
+    /**
+     * Extends the lease and stores progress counters of a claimed job.
+     */
+    void renewLease(CascadeDeleteJob job, Duration lease);
+}
@@ -0,0 +1,57 @@
+package com.its.persistence.repositories;
+
+import com.its.domain.entities.CascadeDeleteJob;
+import com.its.domain.entities.JobStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MongoTemplate-backed implementation of cascade delete job claiming
+ */
+public class CascadeDeleteJobRepositoryCustomImpl implements CascadeDeleteJobRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public CascadeDeleteJobRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<CascadeDeleteJob> claimNext(Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        Query claimable = new Query(Criteria.where("status").in(List.of(JobStatus.PENDING, JobStatus.RUNNING))
+                .orOperator(Criteria.where("leaseExpiresAt").is(null), Criteria.where("leaseExpiresAt").lt(now)))
+                .with(Sort.by("createdDate"));
+        Update claim = new Update()
+                .set("status", JobStatus.RUNNING)
+                .set("leaseExpiresAt", now.plus(lease))
+                .set("lastModifiedDate", now)
+                .inc("attempts", 1);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(claimable, claim,
+                FindAndModifyOptions.options().returnNew(true), CascadeDeleteJob.class));
+    }
+
+    @Override
+    public void renewLease(CascadeDeleteJob job, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        Update renewal = new Update()
+                .set("leaseExpiresAt", now.plus(lease))
+                .set("lastModifiedDate", now)
+                .set("deletedTopics", job.getDeletedTopics())
+                .set("deletedMaterials", job.getDeletedMaterials())
+                .set("deletedFiles", job.getDeletedFiles());
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(job.getId())), renewal, CascadeDeleteJob.class);
+    }
+}
@@ -4,7 +4,10 @@ import com.its.domain.entities.ContentHistory;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Content History Repository for version tracking
@@ -14,5 +17,9 @@ public interface ContentHistoryRepository extends MongoRepository<ContentHistory
     
     List<ContentHistory> findByMaterialIdOrderByVersionDesc(String materialId);
     
+    Optional<ContentHistory> findFirstByMaterialIdOrderByVersionDesc(String materialId);
+    
     List<ContentHistory> findByChangedBy(String userId);
+    
+    long deleteByMaterialIdInAndChangeDateBefore(Collection<String> materialIds, LocalDateTime cutoff);
 }
\ No newline at end of file
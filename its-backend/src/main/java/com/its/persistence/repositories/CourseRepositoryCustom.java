@@ -0,0 +1,17 @@
+package com.its.persistence.repositories;
+
+import com.its.domain.entities.Course;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.List;
+
+/**
+ * Lag-tolerant listings for courses
+ */
+public interface CourseRepositoryCustom {
+
+    /**
+     * Finds courses over the courses read route, so results may lag behind recent writes.
+     */
+    List<Course> findForListing(Criteria criteria);
+}
@@ -0,0 +1,30 @@
+package com.its.persistence.repositories;
+
+import com.its.domain.entities.Course;
+import com.its.persistence.routing.ReadRouting;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+/**
+ * MongoTemplate-backed implementation of the routed course listings
+ */
+public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+    private final ReadRouting readRouting;
+
+    @Autowired
+    public CourseRepositoryCustomImpl(MongoTemplate mongoTemplate, ReadRouting readRouting) {
+        this.mongoTemplate = mongoTemplate;
+        this.readRouting = readRouting;
+    }
+
+    @Override
+    public List<Course> findForListing(Criteria criteria) {
+        return mongoTemplate.find(readRouting.route(ReadRouting.COURSES, new Query(criteria)), Course.class);
+    }
+}
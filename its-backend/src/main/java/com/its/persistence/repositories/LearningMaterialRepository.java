@@ -2,6 +2,7 @@ package com.its.persistence.repositories;
 
 import com.its.domain.entities.LearningMaterial;
 import com.its.domain.entities.ContentType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -12,7 +13,8 @@ import java.util.List;
  * Learning Material Repository following Interface Segregation Principle
  */
 @Repository
-public interface LearningMaterialRepository extends MongoRepository<LearningMaterial, String> {
+public interface LearningMaterialRepository extends MongoRepository<LearningMaterial, String>,
+                                                    LearningMaterialRepositoryCustom {
     
     List<LearningMaterial> findByTopicId(String topicId);
     
@@ -20,14 +22,10 @@ public interface LearningMaterialRepository extends MongoRepository<LearningMate
     
     List<LearningMaterial> findByType(ContentType type);
     
-    List<LearningMaterial> findByPublished(boolean published);
-    
-    @Query("{ 'title': { $regex: ?0, $options: 'i' } }")
-    List<LearningMaterial> findByTitleContainingIgnoreCase(String title);
-    
-    @Query("{ 'topicId': ?0, 'published': true }")
-    List<LearningMaterial> findPublishedByTopicId(String topicId);
-    
     @Query("{ 'type': ?0, 'published': true }")
     List<LearningMaterial> findPublishedByType(ContentType type);
+    
+    // File reference plus the title, facet fields and owner needed for deletion history, catalogue counts and dashboards on cascade delete
+    @Query(value = "{ 'topicId': ?0 }", fields = "{ 'title': 1, 'filePath': 1, 'published': 1, 'type': 1, 'format': 1, 'difficulty': 1, 'tags': 1, 'createdBy': 1 }")
+    List<LearningMaterial> findFileRefsByTopicId(String topicId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.its.persistence.repositories;
+
+import com.its.domain.entities.LearningMaterial;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Conditional single round-trip mutations and lag-tolerant listings for learning materials
+ */
+public interface LearningMaterialRepositoryCustom {
+
+    /**
+     * Applies the update only if the material is owned by the given user.
+     *
+     * @return the document as it was before the update, without its inline body but with inlineContentPresent
+     *         set, or empty if no owned material matched
+     */
+    Optional<LearningMaterial> updateIfOwner(String id, String ownerId, Update update);
+
+    /**
+     * Applies the update only if the material is still at the given content version.
+     *
+     * @return true if the material matched
+     */
+    boolean updateIfVersion(String id, int contentVersion, Update update);
+
+    /**
+     * Removes the material only if it is owned by the given user.
+     *
+     * @return the removed document, or empty if no owned material matched
+     */
+    Optional<LearningMaterial> deleteIfOwner(String id, String ownerId);
+
+    /**
+     * Finds materials over the materials read route, so results may lag behind recent writes.
+     */
+    List<LearningMaterial> findForListing(Criteria criteria);
+}
@@ -0,0 +1,68 @@
+package com.its.persistence.repositories;
+
+import com.its.domain.entities.LearningMaterial;
+import com.its.persistence.routing.ReadRouting;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MongoTemplate-backed implementation of the conditional material mutations and routed listings
+ */
+public class LearningMaterialRepositoryCustomImpl implements LearningMaterialRepositoryCustom {
+
+    // Everything callers of updateIfOwner read; the inline body of unmigrated documents is left on the server
+    private static final String[] PRE_IMAGE_FIELDS = {"title", "type", "format", "excerpt", "topicId", "createdBy",
+            "createdDate", "lastModifiedDate", "filePath", "mimeType", "fileSize", "difficulty", "tags", "published",
+            "publishAt", "unpublishAt", "contentVersion"};
+
+    private final MongoTemplate mongoTemplate;
+    private final ReadRouting readRouting;
+
+    @Autowired
+    public LearningMaterialRepositoryCustomImpl(MongoTemplate mongoTemplate, ReadRouting readRouting) {
+        this.mongoTemplate = mongoTemplate;
+        this.readRouting = readRouting;
+    }
+
+    @Override
+    public Optional<LearningMaterial> updateIfOwner(String id, String ownerId, Update update) {
+        Document fields = new Document();
+        for (String field : PRE_IMAGE_FIELDS) {
+            fields.append(field, 1);
+        }
+        fields.append("inlineContentPresent", new Document("$gt", Arrays.asList("$content", null)));
+        Query query = new BasicQuery(ownedBy(id, ownerId).getQueryObject(), fields);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(false), LearningMaterial.class));
+    }
+
+    @Override
+    public boolean updateIfVersion(String id, int contentVersion, Update update) {
+        Query query = new Query(Criteria.where("_id").is(id).and("contentVersion").is(contentVersion));
+        return mongoTemplate.updateFirst(query, update, LearningMaterial.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public Optional<LearningMaterial> deleteIfOwner(String id, String ownerId) {
+        return Optional.ofNullable(mongoTemplate.findAndRemove(ownedBy(id, ownerId), LearningMaterial.class));
+    }
+
+    @Override
+    public List<LearningMaterial> findForListing(Criteria criteria) {
+        return mongoTemplate.find(readRouting.route(ReadRouting.MATERIALS, new Query(criteria)), LearningMaterial.class);
+    }
+
+    private Query ownedBy(String id, String ownerId) {
+        return new Query(Criteria.where("_id").is(id).and("createdBy").is(ownerId));
+    }
+}
@@ -0,0 +1,16 @@
+package com.its.persistence.repositories;
+
+import com.its.domain.entities.TopicProgress;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Topic Progress Repository for rolled-up learner progress
+ */
+@Repository
+public interface TopicProgressRepository extends MongoRepository<TopicProgress, String> {
+
+    List<TopicProgress> findByUserId(String userId);
+}
@@ -1,6 +1,7 @@
 package com.its.persistence.repositories;
 
 import com.its.domain.entities.Topic;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,9 +11,8 @@ import java.util.List;
  * Topic Repository following Interface Segregation Principle
  */
 @Repository
-public interface TopicRepository extends MongoRepository<Topic, String> {
+public interface TopicRepository extends MongoRepository<Topic, String>,
+                                         TopicRepositoryCustom {
     
-    List<Topic> findByCourseId(String courseId);
-    
-    List<Topic> findByNameContainingIgnoreCase(String name);
+    List<Topic> findByCourseId(String courseId, Pageable pageable);
 }
\ No newline at end of file
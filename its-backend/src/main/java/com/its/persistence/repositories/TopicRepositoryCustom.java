@@ -0,0 +1,17 @@
+package com.its.persistence.repositories;
+
+import com.its.domain.entities.Topic;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.List;
+
+/**
+ * Lag-tolerant listings for topics
+ */
+public interface TopicRepositoryCustom {
+
+    /**
+     * Finds topics over the topics read route, so results may lag behind recent writes.
+     */
+    List<Topic> findForListing(Criteria criteria);
+}
@@ -0,0 +1,106 @@
+package com.its.persistence.routing;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadConcernLevel;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoClient;
+import com.mongodb.connection.ServerDescription;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-route read preference and read concern for reads that tolerate replication lag
+ *
+ * Catalogue listings and searches are sent with their route's settings, typically secondaryPreferred with a
+ * maxStaleness bound: the driver skips secondaries estimated to lag further than the bound and falls back to
+ * the primary when none qualifies. Authentication, ownership checks, read-your-writes paths and all writes
+ * are not routed and stay on the primary.
+ */
+@Component
+public class ReadRouting {
+
+    public static final String MATERIALS = "materials";
+    public static final String COURSES = "courses";
+    public static final String TOPICS = "topics";
+    public static final String CATALOG = "catalog";
+
+    // The driver rejects smaller bounds since staleness is only estimated from heartbeats
+    private static final long MIN_MAX_STALENESS_SECONDS = 90;
+
+    private static final Logger log = LoggerFactory.getLogger(ReadRouting.class);
+
+    private final Map<String, Target> targets = new HashMap<>();
+
+    @Autowired
+    public ReadRouting(ReadRoutingProperties properties, MongoClient mongoClient, MeterRegistry meterRegistry) {
+        if (properties.isEnabled()) {
+            properties.getRoutes().forEach((name, route) -> {
+                Target target = new Target(readPreference(name, route),
+                        new ReadConcern(ReadConcernLevel.fromString(route.getReadConcern())));
+                targets.put(name, target);
+                log.info("Read route {} uses {} with read concern {}", name, target.readPreference(),
+                        route.getReadConcern());
+            });
+        }
+        Gauge.builder("its.mongo.secondary.lag", mongoClient, ReadRouting::maxSecondaryLagSeconds)
+                .description("Largest replication lag of a secondary behind the primary as seen by the driver")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Applies the route's read preference and read concern; unknown routes leave the query on the primary
+     */
+    public Query route(String name, Query query) {
+        Target target = targets.get(name);
+        if (target == null) {
+            return query;
+        }
+        return query.withReadPreference(target.readPreference()).withReadConcern(target.readConcern());
+    }
+
+    private static ReadPreference readPreference(String name, ReadRoutingProperties.Route route) {
+        long maxStaleness = route.getMaxStalenessSeconds();
+        if (maxStaleness == 0) {
+            return ReadPreference.valueOf(route.getReadPreference());
+        }
+        if (maxStaleness < MIN_MAX_STALENESS_SECONDS || "primary".equalsIgnoreCase(route.getReadPreference())) {
+            throw new IllegalStateException("Read route " + name + " needs a non-primary read preference and"
+                    + " max-staleness-seconds of 0 or at least " + MIN_MAX_STALENESS_SECONDS);
+        }
+        return ReadPreference.valueOf(route.getReadPreference(), List.of(), maxStaleness, TimeUnit.SECONDS);
+    }
+
+    private static double maxSecondaryLagSeconds(MongoClient mongoClient) {
+        List<ServerDescription> servers = mongoClient.getClusterDescription().getServerDescriptions();
+        Date primaryWrite = servers.stream()
+                .filter(ServerDescription::isPrimary)
+                .map(ServerDescription::getLastWriteDate)
+                .filter(date -> date != null)
+                .findFirst()
+                .orElse(null);
+        if (primaryWrite == null) {
+            return 0;
+        }
+        return servers.stream()
+                .filter(ServerDescription::isSecondary)
+                .map(ServerDescription::getLastWriteDate)
+                .filter(date -> date != null)
+                .mapToLong(date -> primaryWrite.getTime() - date.getTime())
+                .max()
+                .orElse(0) / 1000.0;
+    }
+
+    private record Target(ReadPreference readPreference, ReadConcern readConcern) {}
+}
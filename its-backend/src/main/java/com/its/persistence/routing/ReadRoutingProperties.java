@@ -0,0 +1,70 @@
+package com.its.persistence.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read routing settings bound from mongo.read-routing.* properties
+ * Each route names a group of lag-tolerant reads; reads without a configured route go to the primary
+ */
+@Component
+@ConfigurationProperties(prefix = "mongo.read-routing")
+public class ReadRoutingProperties {
+
+    private boolean enabled = true;
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    /**
+     * readPreference is a driver mode name; maxStalenessSeconds 0 means unbounded, otherwise at least 90
+     */
+    public static class Route {
+        private String readPreference = "primary";
+        private long maxStalenessSeconds;
+        private String readConcern = "local";
+
+        // Getters and setters
+        public String getReadPreference() {
+            return readPreference;
+        }
+
+        public void setReadPreference(String readPreference) {
+            this.readPreference = readPreference;
+        }
+
+        public long getMaxStalenessSeconds() {
+            return maxStalenessSeconds;
+        }
+
+        public void setMaxStalenessSeconds(long maxStalenessSeconds) {
+            this.maxStalenessSeconds = maxStalenessSeconds;
+        }
+
+        public String getReadConcern() {
+            return readConcern;
+        }
+
+        public void setReadConcern(String readConcern) {
+            this.readConcern = readConcern;
+        }
+    }
+
+    // Getters and setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, Route> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, Route> routes) {
+        this.routes = routes;
+    }
+}
@@ -0,0 +1,222 @@
+package com.its.persistence.routing;
+
+import com.its.application.controllers.CourseController;
+import com.its.application.controllers.TopicController;
+import com.its.business.interfaces.ICatalogService;
+import com.its.business.interfaces.IContentManagementService;
+import com.its.domain.entities.Course;
+import com.its.domain.entities.LearningMaterial;
+import com.its.domain.entities.Topic;
+import com.its.domain.entities.User;
+import com.its.persistence.repositories.CourseRepository;
+import com.its.persistence.repositories.LearningMaterialRepository;
+import com.its.persistence.repositories.TopicRepository;
+import com.its.persistence.repositories.UserRepository;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the application against the in-process Mongo stand-in and checks, from the commands the driver
+ * actually sends, that listings carry their route's read preference and read concern while
+ * authentication, ownership checks and writes stay on the primary with the default read concern
+ */
+@SpringBootTest
+class ReadRoutingTest {
+
+    private static final String DATABASE = "its_routing_test";
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend());
+    private static final InetSocketAddress ADDRESS = MONGO.bind();
+    private static final List<SentCommand> COMMANDS = new CopyOnWriteArrayList<>();
+
+    // Schedulers query in the background, so only commands sent from the test thread are recorded
+    private static volatile Thread testThread;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private LearningMaterialRepository materialRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ICatalogService catalogService;
+
+    @Autowired
+    private IContentManagementService contentService;
+
+    @Autowired
+    private TopicController topicController;
+
+    @Autowired
+    private CourseController courseController;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        Path workDir = tempDirectory();
+        registry.add("spring.data.mongodb.uri",
+                () -> "mongodb://" + ADDRESS.getHostString() + ":" + ADDRESS.getPort() + "/" + DATABASE);
+        registry.add("spring.data.mongodb.database", () -> DATABASE);
+        // explain is not implemented by the in-process server
+        registry.add("mongo.query-verification.enabled", () -> false);
+        registry.add("history.journal-dir", () -> workDir.resolve("history-journal").toString());
+        registry.add("file.upload-dir", () -> workDir.resolve("uploads").toString());
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        MONGO.shutdownNow();
+    }
+
+    @BeforeEach
+    void recordThisThread() {
+        COMMANDS.clear();
+        testThread = Thread.currentThread();
+    }
+
+    @Test
+    void listingsUseTheirRouteReadPreferenceAndReadConcern() {
+        courseRepository.findForListing(Criteria.where("published").is(true));
+        topicRepository.findForListing(new Criteria());
+        materialRepository.findForListing(Criteria.where("published").is(true));
+        catalogService.browseMaterials(null, null, null, null, 0, 20);
+
+        List<BsonDocument> finds = commands("find");
+        assertThat(finds).extracting(command -> command.getString("find").getValue())
+                .contains("courses", "topics", "learning_materials");
+        assertThat(finds).allSatisfy(find -> {
+            assertThat(find.get("$readPreference")).as("$readPreference of %s", find)
+                    .isEqualTo(BsonDocument.parse("{ mode: 'secondaryPreferred', maxStalenessSeconds: { $numberLong: '90' } }"));
+            assertThat(find.get("readConcern")).as("readConcern of %s", find)
+                    .isEqualTo(BsonDocument.parse("{ level: 'local' }"));
+        });
+    }
+
+    @Test
+    void searchesMatchRegexMetacharactersLiterally() {
+        Topic plus = new Topic();
+        plus.setName("C++ Templates");
+        Topic letters = new Topic();
+        letters.setName("Cxx Templates");
+        topicRepository.saveAll(List.of(plus, letters));
+        Course course = new Course();
+        course.setTitle("Intro to C++");
+        courseRepository.save(course);
+        LearningMaterial material = new LearningMaterial();
+        material.setTitle("C++ pointers (part 1)");
+        materialRepository.save(material);
+        COMMANDS.clear();
+
+        assertThat(topicController.searchTopics("c++").getBody()).extracting(Topic::getName)
+                .containsExactly("C++ Templates");
+        assertThat(courseController.searchCourses("C++").getBody()).extracting(Course::getTitle)
+                .containsExactly("Intro to C++");
+        assertThat(contentService.searchContent("(part 1)")).extracting(LearningMaterial::getTitle)
+                .containsExactly("C++ pointers (part 1)");
+        assertThat(topicController.searchTopics("(a+)+$").getBody()).isEmpty();
+
+        assertThat(commands("find")).hasSize(4).allSatisfy(find ->
+                assertThat(find.containsKey("$readPreference")).as("%s carries $readPreference", find).isTrue());
+    }
+
+    @Test
+    void authenticationOwnershipAndWritesStayOnThePrimary() {
+        User user = new User();
+        user.setEmail("routing@its.edu");
+        user.setPassword("hash");
+        userRepository.save(user);
+        userRepository.findActiveUserByEmail("routing@its.edu");
+
+        LearningMaterial material = new LearningMaterial();
+        material.setTitle("Routing");
+        material.setCreatedBy("routing@its.edu");
+        material = materialRepository.save(material);
+        materialRepository.updateIfOwner(material.getId(), "routing@its.edu", new Update().set("title", "Routed"));
+        materialRepository.findById(material.getId());
+
+        Course course = new Course();
+        course.setTitle("Routing");
+        course.setCreatedBy("routing@its.edu");
+        courseRepository.save(course);
+        courseRepository.deleteById(course.getId());
+
+        assertThat(commands("find")).isNotEmpty();
+        assertThat(commands("findAndModify")).isNotEmpty().allSatisfy(findAndModify -> {
+            // The pre-image leaves the inline body behind and only reports whether there is one
+            BsonDocument fields = findAndModify.getDocument("fields");
+            assertThat(fields.containsKey("content")).as("fields of %s", findAndModify).isFalse();
+            assertThat(fields.get("inlineContentPresent"))
+                    .isEqualTo(BsonDocument.parse("{ $gt: ['$content', null] }"));
+        });
+        assertThat(COMMANDS).isNotEmpty().allSatisfy(sent -> {
+            BsonDocument command = sent.command();
+            assertThat(command.containsKey("$readPreference")).as("%s carries $readPreference", command).isFalse();
+            assertThat(command.containsKey("readConcern")).as("%s carries readConcern", command).isFalse();
+        });
+    }
+
+    private static List<BsonDocument> commands(String name) {
+        return COMMANDS.stream()
+                .filter(sent -> sent.name().equals(name))
+                .map(SentCommand::command)
+                .toList();
+    }
+
+    private static Path tempDirectory() {
+        try {
+            return Files.createTempDirectory("its-routing");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record SentCommand(String name, BsonDocument command) {}
+
+    @TestConfiguration
+    static class CommandRecording {
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer commandRecorder() {
+            CommandListener recorder = new CommandListener() {
+                @Override
+                public void commandStarted(CommandStartedEvent event) {
+                    // The sync driver reports commands on the calling thread
+                    if (Thread.currentThread() == testThread) {
+                        // The command document is only valid during the callback
+                        COMMANDS.add(new SentCommand(event.getCommandName(), event.getCommand().clone()));
+                    }
+                }
+            };
+            return settings -> settings.addCommandListener(recorder);
+        }
+    }
+}
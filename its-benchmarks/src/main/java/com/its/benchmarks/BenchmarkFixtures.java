@@ -0,0 +1,76 @@
+package com.its.benchmarks;
+
+import com.its.domain.entities.*;
+import com.its.infrastructure.security.JwtTokenProvider;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared test data for the benchmark suites.
+ * Values mirror the defaults in its-backend application.properties.
+ */
+final class BenchmarkFixtures {
+
+    static final String EMAIL = "instructor@its.edu";
+    static final String JWT_SECRET = "mySecretKey1234567890123456789012345678901234567890123456789012345";
+    static final int JWT_EXPIRATION_SECONDS = 86400;
+
+    private static final ContentType[] CONTENT_TYPES = ContentType.values();
+    private static final DifficultyLevel[] DIFFICULTIES = DifficultyLevel.values();
+
+    private BenchmarkFixtures() {}
+
+    static JwtTokenProvider jwtTokenProvider() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider();
+        setField(tokenProvider, "jwtSecret", JWT_SECRET);
+        setField(tokenProvider, "jwtExpirationInMs", JWT_EXPIRATION_SECONDS);
+        return tokenProvider;
+    }
+
+    // JwtTokenProvider is configured through @Value fields, so outside a context they are set reflectively
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    static User user() {
+        User user = new User(EMAIL, "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5HFpnTRC8Zy6Ig0Q9f3pG5e", UserRole.INSTRUCTOR);
+        user.setId("6530c1f2a4b5c6d7e8f90123");
+        UserProfile profile = new UserProfile("Ada", "Lovelace");
+        profile.setInstitution("University of London");
+        profile.setAvatar("/uploads/avatars/ada.png");
+        profile.setExpertise("Analytical engines");
+        profile.setBio("Mathematician and author of the first published algorithm.");
+        user.setProfile(profile);
+        user.setCreatedDate(LocalDateTime.of(2024, 1, 15, 9, 30));
+        user.setLastModifiedDate(LocalDateTime.of(2024, 3, 2, 17, 45));
+        return user;
+    }
+
+    static List<LearningMaterial> materials(int count, int contentLength) {
+        String content = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(contentLength / 57 + 1)
+                .substring(0, contentLength);
+        List<LearningMaterial> materials = new ArrayList<>(count);
+        LocalDateTime created = LocalDateTime.of(2024, 1, 15, 9, 30);
+        for (int i = 0; i < count; i++) {
+            LearningMaterial material = new LearningMaterial("Material " + i, CONTENT_TYPES[i % CONTENT_TYPES.length],
+                    content, "topic-" + (i % 10), "instructor-" + (i % 3));
+            material.setId(String.format("6530c1f2a4b5c6d7e8f9%04x", i));
+            material.setFormat(FileFormat.TEXT);
+            material.setDifficulty(DIFFICULTIES[i % DIFFICULTIES.length]);
+            material.setTags(List.of("java", "spring", "week-" + (i % 12)));
+            material.setPublished(i % 4 != 0);
+            material.setContentVersion(1 + i % 5);
+            material.setCreatedDate(created.plusMinutes(i));
+            material.setLastModifiedDate(created.plusMinutes(i).plusHours(2));
+            materials.add(material);
+        }
+        return materials;
+    }
+}
@@ -0,0 +1,63 @@
+package com.its.benchmarks;
+
+import com.its.business.registration.EmailBloomFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email existence pre-check against the Bloom filter, for registered emails (always a full probe)
+ * and unregistered ones (usually rejected at the first clear bit). The measured false positive rate is printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailBloomFilterBenchmark {
+
+    @Param({"200000"})
+    private int registeredEmails;
+
+    private EmailBloomFilter filter;
+    private String[] registered;
+    private String[] unregistered;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        filter = EmailBloomFilter.create(registeredEmails, 0.01);
+        registered = new String[1024];
+        unregistered = new String[1024];
+        for (int i = 0; i < registeredEmails; i++) {
+            String email = "student" + i + "@university.edu";
+            filter.add(email);
+            if (i < registered.length) {
+                registered[i] = email;
+            }
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            String email = "applicant" + i + "@university.edu";
+            if (filter.mightContain(email)) {
+                falsePositives++;
+            }
+            if (i < unregistered.length) {
+                unregistered[i] = email;
+            }
+        }
+        System.out.printf("%nBits: %d, hashes: %d, false positive rate: %.4f%n",
+                filter.bitCount(), filter.hashCount(), falsePositives / 100_000.0);
+    }
+
+    @Benchmark
+    public boolean registeredEmail() {
+        return filter.mightContain(registered[next++ & 1023]);
+    }
+
+    @Benchmark
+    public boolean unregisteredEmail() {
+        return filter.mightContain(unregistered[next++ & 1023]);
+    }
+}
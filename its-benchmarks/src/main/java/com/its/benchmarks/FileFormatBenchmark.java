@@ -0,0 +1,41 @@
+package com.its.benchmarks;
+
+import com.its.domain.entities.FileFormat;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Format detection on upload, covering early, late and unknown matches in the enum scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileFormatBenchmark {
+
+    private final String[] filenames = {
+            "notes.txt", "Lecture 01.PDF", "intro.mp4", "diagram.svg", "README.md", "archive.tar.gz", "no-extension"
+    };
+
+    private final String[] mimeTypes = {
+            "text/plain", "application/pdf", "video/mp4", "image/svg+xml", "text/markdown", "application/x-tar"
+    };
+
+    @Benchmark
+    public void fromExtension(Blackhole blackhole) {
+        for (String filename : filenames) {
+            blackhole.consume(FileFormat.fromExtension(filename));
+        }
+    }
+
+    @Benchmark
+    public void fromMimeType(Blackhole blackhole) {
+        for (String mimeType : mimeTypes) {
+            blackhole.consume(FileFormat.fromMimeType(mimeType));
+        }
+    }
+}
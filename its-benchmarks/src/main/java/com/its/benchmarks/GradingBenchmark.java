@@ -0,0 +1,108 @@
+package com.its.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.its.business.grading.AnswerKey;
+import com.its.business.grading.AnswerKeyCompiler;
+import com.its.domain.dto.GradingResultDto;
+import com.its.domain.entities.ContentType;
+import com.its.domain.entities.LearningMaterial;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grading throughput with a precompiled answer key against compiling the quiz JSON per submission,
+ * for single submissions and a whole-class batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradingBenchmark {
+
+    private static final String[] TYPES = {"SINGLE_CHOICE", "MULTIPLE_CHOICE", "SHORT_ANSWER", "NUMERIC", "TRUE_FALSE"};
+
+    @Param({"10", "50"})
+    private int questionCount;
+
+    @Param({"30"})
+    private int classSize;
+
+    private AnswerKeyCompiler compiler;
+    private LearningMaterial quiz;
+    private AnswerKey answerKey;
+    private List<Map<String, Object>> submissions;
+
+    @Setup
+    public void setUp() {
+        compiler = new AnswerKeyCompiler(new ObjectMapper());
+        quiz = new LearningMaterial("Benchmark quiz", ContentType.QUIZ, quizJson(questionCount), "topic-1", "instructor-1");
+        quiz.setId("6530c1f2a4b5c6d7e8f90001");
+        quiz.setContentVersion(1);
+        answerKey = compiler.compile(quiz);
+
+        Random random = new Random(7);
+        submissions = new ArrayList<>(classSize);
+        for (int s = 0; s < classSize; s++) {
+            Map<String, Object> answers = new HashMap<>();
+            for (int q = 0; q < questionCount; q++) {
+                boolean right = random.nextInt(4) != 0;
+                answers.put("q" + q, switch (TYPES[q % TYPES.length]) {
+                    case "SINGLE_CHOICE" -> right ? "b" : "d";
+                    case "MULTIPLE_CHOICE" -> right ? List.of("a", "c") : List.of("a", "d");
+                    case "SHORT_ANSWER" -> right ? "Photosynthesis" : "respiration";
+                    case "NUMERIC" -> right ? 9.81 : 10.5;
+                    default -> right;
+                });
+            }
+            submissions.add(answers);
+        }
+    }
+
+    @Benchmark
+    public AnswerKey compile() {
+        return compiler.compile(quiz);
+    }
+
+    @Benchmark
+    public GradingResultDto gradePrecompiled() {
+        return answerKey.grade("student", submissions.get(0));
+    }
+
+    @Benchmark
+    public GradingResultDto gradeCompilingPerRequest() {
+        return compiler.compile(quiz).grade("student", submissions.get(0));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(30)
+    public void gradeClassPrecompiled(Blackhole blackhole) {
+        for (Map<String, Object> answers : submissions) {
+            blackhole.consume(answerKey.grade("student", answers));
+        }
+    }
+
+    private static String quizJson(int questionCount) {
+        StringBuilder json = new StringBuilder("{\"passingScore\":0.6,\"questions\":[");
+        for (int q = 0; q < questionCount; q++) {
+            if (q > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"q").append(q).append("\",\"prompt\":\"Question ").append(q)
+                    .append(" with some descriptive text for the learner\",\"type\":\"").append(TYPES[q % TYPES.length]).append('"');
+            switch (TYPES[q % TYPES.length]) {
+                case "SINGLE_CHOICE" -> json.append(",\"options\":[\"a\",\"b\",\"c\",\"d\"],\"answer\":\"b\"");
+                case "MULTIPLE_CHOICE" -> json.append(",\"points\":2,\"options\":[\"a\",\"b\",\"c\",\"d\"],\"answers\":[\"a\",\"c\"],\"partialCredit\":true");
+                case "SHORT_ANSWER" -> json.append(",\"accepted\":[\"photosynthesis\"]");
+                case "NUMERIC" -> json.append(",\"answer\":9.81,\"tolerance\":0.05");
+                default -> json.append(",\"answer\":true");
+            }
+            json.append('}');
+        }
+        return json.append("]}").toString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.its.benchmarks;
+
+import com.its.infrastructure.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation and validation run on every login and every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = BenchmarkFixtures.jwtTokenProvider();
+        token = tokenProvider.generateToken(BenchmarkFixtures.EMAIL);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(BenchmarkFixtures.EMAIL);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getEmailFromToken() {
+        return tokenProvider.getEmailFromToken(token);
+    }
+}
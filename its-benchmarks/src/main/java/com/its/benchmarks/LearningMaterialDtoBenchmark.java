@@ -0,0 +1,53 @@
+package com.its.benchmarks;
+
+import com.its.domain.dto.LearningMaterialDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enum parsing in LearningMaterialDto for well-formed and unknown values.
+ * Unknown values take the IllegalArgumentException fallback path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LearningMaterialDtoBenchmark {
+
+    @Param({"valid", "unknown"})
+    private String input;
+
+    private LearningMaterialDto dto;
+
+    @Setup
+    public void setUp() {
+        dto = new LearningMaterialDto();
+        if ("valid".equals(input)) {
+            dto.setType("Quiz");
+            dto.setFormat("Image png");
+            dto.setDifficulty("intermediate");
+        } else {
+            dto.setType("Podcast");
+            dto.setFormat("Epub");
+            dto.setDifficulty("Trivial");
+        }
+    }
+
+    @Benchmark
+    public Object contentType() {
+        return dto.getContentType();
+    }
+
+    @Benchmark
+    public Object fileFormat() {
+        return dto.getFileFormat();
+    }
+
+    @Benchmark
+    public Object difficultyLevel() {
+        return dto.getDifficultyLevel();
+    }
+}
@@ -0,0 +1,43 @@
+package com.its.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.its.domain.entities.LearningMaterial;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the material lists returned by the content endpoints.
+ * The mapper is built with the same builder Spring Boot uses for its message converters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaterialSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int materialCount;
+
+    @Param({"256", "4096"})
+    private int contentLength;
+
+    private ObjectMapper objectMapper;
+    private List<LearningMaterial> materials;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        materials = BenchmarkFixtures.materials(materialCount, contentLength);
+    }
+
+    @Benchmark
+    public byte[] serializeMaterials() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(materials);
+    }
+}
@@ -0,0 +1,61 @@
+package com.its.benchmarks;
+
+import com.its.infrastructure.security.RateLimitProperties;
+import com.its.infrastructure.security.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the per-request rate limit check under contention: every thread on one client bucket
+ * against threads spread over many clients. Limits are high enough that every request is allowed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    @Param({"10000"})
+    private int clientCount;
+
+    private RateLimiter rateLimiter;
+    private String[] clients;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties.Group group = new RateLimitProperties.Group();
+        group.setPaths(List.of("/content"));
+        group.setCapacity(1_000_000);
+        group.setRefillPerSecond(1e9);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getGroups().put("public-content", group);
+        rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+
+        clients = new String[clientCount];
+        for (int i = 0; i < clientCount; i++) {
+            clients[i] = "ip:10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public long singleHotClient() {
+        return rateLimiter.tryAcquire("public-content", clients[0]);
+    }
+
+    @Benchmark
+    public long spreadClients() {
+        return rateLimiter.tryAcquire("public-content", clients[ThreadLocalRandom.current().nextInt(clientCount)]);
+    }
+
+    @Benchmark
+    public long unlimitedPath() {
+        return rateLimiter.tryAcquire("none", clients[0]);
+    }
+}
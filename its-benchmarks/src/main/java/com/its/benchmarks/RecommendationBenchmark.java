@@ -0,0 +1,80 @@
+package com.its.benchmarks;
+
+import com.its.business.recommendation.CandidateSet;
+import com.its.business.recommendation.LearnerProfile;
+import com.its.business.recommendation.RecommendationScorer;
+import com.its.business.recommendation.TagDictionary;
+import com.its.domain.dto.RecommendationDto;
+import com.its.domain.entities.LearningMaterial;
+import com.its.domain.entities.TopicProgress;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Request-path cost of GET /recommendations/next without the progress lookup:
+ * building the learner profile and scoring every candidate of the learner's topics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecommendationBenchmark {
+
+    @Param({"1000", "10000"})
+    private int materialCount;
+
+    private Map<String, CandidateSet> topics;
+    private TagDictionary tags;
+    private List<TopicProgress> progress;
+    private List<CandidateSet> sets;
+    private double[] weights;
+    private LearnerProfile profile;
+    private RecommendationScorer scorer;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        tags = new TagDictionary();
+        topics = new HashMap<>();
+        Map<String, List<LearningMaterial>> byTopic = BenchmarkFixtures.materials(materialCount, 16).stream()
+                .filter(LearningMaterial::isPublished)
+                .collect(Collectors.groupingBy(LearningMaterial::getTopicId));
+        byTopic.forEach((topicId, materials) -> topics.put(topicId, CandidateSet.of(materials, tags)));
+
+        now = LocalDateTime.of(2024, 6, 1, 12, 0);
+        progress = new ArrayList<>();
+        for (String topicId : List.of("topic-0", "topic-1", "topic-2")) {
+            TopicProgress topicProgress = new TopicProgress("student@its.edu", topicId);
+            byTopic.get(topicId).stream().limit(20).forEach(m -> topicProgress.getCompletedMaterialIds().add(m.getId()));
+            topicProgress.setLastActivityAt(now.minusDays(topicProgress.getCompletedCount() % 5));
+            progress.add(topicProgress);
+        }
+
+        sets = new ArrayList<>(topics.values());
+        weights = new double[sets.size()];
+        Arrays.fill(weights, 0.3);
+        scorer = new RecommendationScorer(0.4, 0.35, 0.25);
+        profile = buildProfile();
+    }
+
+    @Benchmark
+    public LearnerProfile buildProfile() {
+        return LearnerProfile.build(progress, topics::get, tags.size(), 0.5, now);
+    }
+
+    @Benchmark
+    public List<RecommendationDto> scoreTop5() {
+        return scorer.topK(sets, weights, profile, 5);
+    }
+
+    @Benchmark
+    public List<RecommendationDto> recommendNext() {
+        return scorer.topK(sets, weights, buildProfile(), 5);
+    }
+}
@@ -0,0 +1,31 @@
+package com.its.benchmarks;
+
+import com.its.domain.dto.UserResponseDto;
+import com.its.domain.entities.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User to response DTO conversion performed on register, login and profile reads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserResponseBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user();
+    }
+
+    @Benchmark
+    public UserResponseDto fromUser() {
+        return UserResponseDto.fromUser(user);
+    }
+}
@@ -0,0 +1,105 @@
+package com.its.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Thin HTTP client for the backend API that times every call into a LatencyRecorder.
+ * Non-2xx responses and I/O failures count as errors for the endpoint.
+ */
+class ApiClient {
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    ApiClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    String login(LatencyRecorder recorder, String email, String password) {
+        byte[] body = post(recorder, "POST /auth/login", "/auth/login", null,
+                Map.of("email", email, "password", password));
+        if (body == null) {
+            return null;
+        }
+        try {
+            JsonNode response = objectMapper.readTree(body);
+            return response.path("accessToken").asText(null);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    byte[] get(LatencyRecorder recorder, String endpoint, String path, String token) {
+        return send(recorder, endpoint, request(path, token).GET());
+    }
+
+    byte[] put(LatencyRecorder recorder, String endpoint, String path, String token, Object payload) {
+        return send(recorder, endpoint, request(path, token)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(toJson(payload))));
+    }
+
+    byte[] post(LatencyRecorder recorder, String endpoint, String path, String token, Object payload) {
+        return send(recorder, endpoint, request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(payload))));
+    }
+
+    static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private byte[] send(LatencyRecorder recorder, String endpoint, HttpRequest.Builder request) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - started;
+            if (response.statusCode() / 100 != 2) {
+                recorder.recordError(endpoint);
+                return null;
+            }
+            recorder.recordSuccess(endpoint, elapsed);
+            return response.body();
+        } catch (IOException e) {
+            recorder.recordError(endpoint);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private byte[] toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize request body", e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.its.benchmarks.load;
+
+import com.its.domain.entities.*;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Seeds users, courses, topics and materials straight through MongoTemplate.
+ * All users share one password hash so seeding does not pay BCrypt per row.
+ */
+class DataSeeder {
+
+    static final String PASSWORD = "LoadTest123!";
+    static final List<String> VOCABULARY = List.of(
+            "algebra", "calculus", "java", "spring", "mongodb", "history",
+            "biology", "chemistry", "physics", "statistics", "databases", "networks");
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int BODY_COMPRESS_THRESHOLD = 1024; // Matches content-body.compress-threshold-bytes
+    private static final ContentType[] CONTENT_TYPES = ContentType.values();
+    private static final DifficultyLevel[] DIFFICULTIES = DifficultyLevel.values();
+
+    private final MongoTemplate mongoTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    DataSeeder(MongoTemplate mongoTemplate, PasswordEncoder passwordEncoder) {
+        this.mongoTemplate = mongoTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    SeededData seed(LoadTestConfig config) {
+        for (Class<?> type : List.of(User.class, Course.class, Topic.class, LearningMaterial.class,
+                LearningMaterialBody.class, ContentHistory.class)) {
+            mongoTemplate.remove(new Query(), type);
+        }
+
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<String> studentEmails = new ArrayList<>(config.students());
+        List<String> instructorEmails = new ArrayList<>(config.instructors());
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < config.students(); i++) {
+            String email = "student" + i + "@load.its.edu";
+            studentEmails.add(email);
+            users.add(user(email, passwordHash, UserRole.STUDENT, "Student", i, now));
+        }
+        for (int i = 0; i < Math.max(1, config.instructors()); i++) {
+            String email = "instructor" + i + "@load.its.edu";
+            instructorEmails.add(email);
+            users.add(user(email, passwordHash, UserRole.INSTRUCTOR, "Instructor", i, now));
+        }
+        insertInBatches(users, User.class);
+
+        Random random = new Random(42);
+        String body = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor. ".repeat(20);
+        List<String> courseIds = new ArrayList<>(config.courses());
+        List<String> topicIds = new ArrayList<>();
+        List<String> materialIds = new ArrayList<>();
+        Map<String, List<String>> topicIdsByCourse = new HashMap<>();
+        Map<String, List<SeededData.SeededMaterial>> materialsByInstructor = new HashMap<>();
+        List<Course> courses = new ArrayList<>();
+        List<Topic> topics = new ArrayList<>();
+        List<LearningMaterial> materials = new ArrayList<>();
+        List<LearningMaterialBody> bodies = new ArrayList<>();
+
+        for (int c = 0; c < config.courses(); c++) {
+            String instructor = instructorEmails.get(c % instructorEmails.size());
+            String word = VOCABULARY.get(c % VOCABULARY.size());
+            Course course = new Course("Introduction to " + word + " " + c, "Synthetic course " + c, word,
+                    DIFFICULTIES[c % DIFFICULTIES.length], instructor);
+            course.setId(new ObjectId().toHexString());
+            course.setPublished(c % 5 != 0);
+            course.setCreatedDate(now);
+            course.setLastModifiedDate(now);
+            courses.add(course);
+            courseIds.add(course.getId());
+
+            for (int t = 0; t < config.topicsPerCourse(); t++) {
+                Topic topic = new Topic(word + " topic " + t, "Synthetic topic " + t, course.getId());
+                topic.setId(new ObjectId().toHexString());
+                topic.setCreatedDate(now);
+                topic.setLastModifiedDate(now);
+                topics.add(topic);
+                topicIds.add(topic.getId());
+                topicIdsByCourse.computeIfAbsent(course.getId(), k -> new ArrayList<>()).add(topic.getId());
+
+                for (int m = 0; m < config.materialsPerTopic(); m++) {
+                    ContentType type = CONTENT_TYPES[random.nextInt(CONTENT_TYPES.length)];
+                    String secondWord = VOCABULARY.get(random.nextInt(VOCABULARY.size()));
+                    LearningMaterial material = new LearningMaterial(
+                            word + " and " + secondWord + " " + type.getDisplayName().toLowerCase() + " " + m,
+                            type, body.substring(0, 200 + random.nextInt(body.length() - 200)), topic.getId(), instructor);
+                    material.setId(new ObjectId().toHexString());
+                    material.setFormat(FileFormat.TEXT);
+                    material.setDifficulty(DIFFICULTIES[random.nextInt(DIFFICULTIES.length)]);
+                    material.setTags(List.of(word, secondWord));
+                    material.setPublished(random.nextInt(10) != 0);
+                    material.setContentVersion(1);
+                    material.setCreatedDate(now);
+                    material.setLastModifiedDate(now);
+                    materials.add(material);
+                    bodies.add(LearningMaterialBody.encode(material.getId(), material.getContent(), BODY_COMPRESS_THRESHOLD, List.of()));
+                    materialIds.add(material.getId());
+                    materialsByInstructor.computeIfAbsent(instructor, k -> new ArrayList<>())
+                            .add(new SeededData.SeededMaterial(material.getId(), topic.getId(), type.name()));
+                }
+            }
+        }
+        insertInBatches(courses, Course.class);
+        insertInBatches(topics, Topic.class);
+        insertInBatches(materials, LearningMaterial.class);
+        insertInBatches(bodies, LearningMaterialBody.class);
+
+        return new SeededData(studentEmails, instructorEmails, courseIds, topicIdsByCourse, topicIds,
+                materialIds, materialsByInstructor);
+    }
+
+    private User user(String email, String passwordHash, UserRole role, String firstName, int index, LocalDateTime now) {
+        User user = new User(email, passwordHash, role);
+        user.setProfile(new UserProfile(firstName, String.valueOf(index)));
+        user.setCreatedDate(now);
+        user.setLastModifiedDate(now);
+        return user;
+    }
+
+    private <T> void insertInBatches(List<T> documents, Class<T> type) {
+        for (int from = 0; from < documents.size(); from += BATCH_SIZE) {
+            mongoTemplate.insert(documents.subList(from, Math.min(from + BATCH_SIZE, documents.size())), type);
+        }
+    }
+}
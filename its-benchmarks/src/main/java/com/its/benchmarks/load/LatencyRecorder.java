@@ -0,0 +1,65 @@
+package com.its.benchmarks.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and error counts for one measured phase.
+ * Endpoints are keyed by method and path template, not the concrete URI.
+ */
+class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    void recordSuccess(String endpoint, long elapsedNanos) {
+        stats(endpoint).histogram.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS,
+                TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+    }
+
+    void recordError(String endpoint) {
+        stats(endpoint).errors.increment();
+    }
+
+    Map<String, EndpointSummary> summarize(Duration elapsed) {
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        Map<String, EndpointSummary> summaries = new TreeMap<>();
+        endpoints.forEach((endpoint, stats) -> {
+            Histogram histogram = stats.histogram;
+            long count = histogram.getTotalCount();
+            summaries.put(endpoint, new EndpointSummary(
+                    count,
+                    stats.errors.sum(),
+                    count / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMaxValue())));
+        });
+        return summaries;
+    }
+
+    private EndpointStats stats(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, k -> new EndpointStats());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class EndpointStats {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    record EndpointSummary(long requests, long errors, double throughputPerSecond,
+                           double p50Millis, double p95Millis, double p99Millis, double maxMillis) {}
+}
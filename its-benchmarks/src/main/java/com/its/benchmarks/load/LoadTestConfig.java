@@ -0,0 +1,71 @@
+package com.its.benchmarks.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Load test settings parsed from --key=value arguments.
+ * Without --mongo-uri the harness starts an in-process Mongo stand-in.
+ */
+record LoadTestConfig(
+        int students,
+        int instructors,
+        int courses,
+        int topicsPerCourse,
+        int materialsPerTopic,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        List<Scenario> scenarios,
+        String mongoUri,
+        Path report) {
+
+    static LoadTestConfig fromArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : options.getOrDefault("scenarios", "login,browse,search,edit,progress").split(",")) {
+            scenarios.add(Scenario.fromName(name.trim()));
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+                intOption(options, "students", 2000),
+                intOption(options, "instructors", 20),
+                intOption(options, "courses", 50),
+                intOption(options, "topics-per-course", 8),
+                intOption(options, "materials-per-topic", 15),
+                intOption(options, "concurrency", 32),
+                Duration.ofSeconds(intOption(options, "warmup-seconds", 5)),
+                Duration.ofSeconds(intOption(options, "duration-seconds", 30)),
+                List.copyOf(scenarios),
+                options.get("mongo-uri"),
+                Path.of(options.getOrDefault("report", "target/load-report.json")));
+        options.keySet().removeAll(Set.of("students", "instructors", "courses", "topics-per-course",
+                "materials-per-topic", "concurrency", "warmup-seconds", "duration-seconds", "scenarios",
+                "mongo-uri", "report"));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        return config;
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        int parsed = Integer.parseInt(value);
+        if (parsed < 0) {
+            throw new IllegalArgumentException("--" + name + " must not be negative");
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,143 @@
+package com.its.benchmarks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.its.ItsBackendApplication;
+import com.mongodb.ConnectionString;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test: boots the backend on a random port against an in-process Mongo
+ * (or --mongo-uri), seeds synthetic data and drives each scenario over HTTP.
+ * Prints throughput and p50/p95/p99 per endpoint and writes the same report as JSON.
+ *
+ * java -cp its-benchmarks/target/benchmarks.jar com.its.benchmarks.load.LoadTestHarness --students=5000 --concurrency=64
+ */
+public class LoadTestHarness {
+
+    private static final String DEFAULT_DATABASE = "its_loadtest";
+    private static final String PRODUCTION_DATABASE = "its_database";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+        if (config.students() == 0 || config.courses() == 0 || config.topicsPerCourse() == 0
+                || config.materialsPerTopic() == 0 || config.concurrency() == 0) {
+            throw new IllegalArgumentException("students, courses, topics, materials and concurrency must be positive");
+        }
+
+        MongoServer mongoServer = null;
+        String mongoUri = config.mongoUri();
+        if (mongoUri == null) {
+            mongoServer = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = mongoServer.bind();
+            mongoUri = "mongodb://" + address.getHostString() + ":" + address.getPort() + "/" + DEFAULT_DATABASE;
+        }
+        String database = new ConnectionString(mongoUri).getDatabase();
+        if (database == null) {
+            database = DEFAULT_DATABASE;
+        }
+        if (PRODUCTION_DATABASE.equals(database)) {
+            throw new IllegalArgumentException("Refusing to seed " + PRODUCTION_DATABASE + "; the harness wipes its collections");
+        }
+
+        Path workDir = Files.createTempDirectory("its-load");
+        try (ConfigurableApplicationContext context = startApplication(mongoUri, database, workDir)) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+
+            long seedStarted = System.nanoTime();
+            SeededData data = new DataSeeder(context.getBean(MongoTemplate.class), context.getBean(PasswordEncoder.class))
+                    .seed(config);
+            System.out.printf("Seeded %d students, %d instructors, %d courses, %d topics, %d materials in %d ms%n",
+                    data.studentEmails().size(), data.instructorEmails().size(), data.courseIds().size(),
+                    data.topicIds().size(), data.materialIds().size(), (System.nanoTime() - seedStarted) / 1_000_000);
+
+            ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+            ApiClient apiClient = new ApiClient("http://localhost:" + port + contextPath, objectMapper);
+            ScenarioDriver driver = new ScenarioDriver(apiClient, data, config);
+
+            List<ScenarioDriver.ScenarioResult> results = new ArrayList<>();
+            for (Scenario scenario : config.scenarios()) {
+                System.out.printf("Running %s with %d virtual users (%ds warmup, %ds measured)%n",
+                        scenario.getShortName(), config.concurrency(), config.warmup().toSeconds(),
+                        config.duration().toSeconds());
+                ScenarioDriver.ScenarioResult result = driver.run(scenario);
+                printResult(result);
+                results.add(result);
+            }
+            writeReport(objectMapper, config, mongoServer != null, results);
+        } finally {
+            if (mongoServer != null) {
+                mongoServer.shutdownNow();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(String mongoUri, String database, Path workDir) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.data.mongodb.uri", mongoUri);
+        properties.put("spring.data.mongodb.database", database);
+        // explain is not implemented by the in-process server and is irrelevant for load numbers
+        properties.put("mongo.query-verification.enabled", false);
+        // every virtual user connects from the same address
+        properties.put("rate-limit.enabled", false);
+        properties.put("history.journal-dir", workDir.resolve("history-journal").toString());
+        properties.put("file.upload-dir", workDir.resolve("uploads").toString());
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.its", "WARN");
+        properties.put("logging.level.de.bwaldvogel.mongo", "ERROR");
+        // passed as command line arguments so they take precedence over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(ItsBackendApplication.class).run(args);
+    }
+
+    private static void printResult(ScenarioDriver.ScenarioResult result) {
+        System.out.printf("%n%-32s %10s %8s %10s %9s %9s %9s %9s%n",
+                result.scenario(), "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        result.endpoints().forEach((endpoint, summary) -> System.out.printf(
+                "%-32s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, summary.requests(), summary.errors(), summary.throughputPerSecond(),
+                summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.maxMillis()));
+        System.out.println();
+    }
+
+    private static void writeReport(ObjectMapper objectMapper, LoadTestConfig config, boolean embeddedMongo,
+                                    List<ScenarioDriver.ScenarioResult> results) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", LocalDateTime.now().toString());
+        report.put("embeddedMongo", embeddedMongo);
+        report.put("students", config.students());
+        report.put("instructors", config.instructors());
+        report.put("courses", config.courses());
+        report.put("topicsPerCourse", config.topicsPerCourse());
+        report.put("materialsPerTopic", config.materialsPerTopic());
+        report.put("concurrency", config.concurrency());
+        report.put("durationSeconds", config.duration().toSeconds());
+        report.put("scenarios", results);
+
+        Path reportFile = config.report().toAbsolutePath();
+        Files.createDirectories(reportFile.getParent());
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println("Load report written to " + reportFile);
+    }
+}
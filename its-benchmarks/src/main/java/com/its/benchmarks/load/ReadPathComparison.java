@@ -0,0 +1,222 @@
+package com.its.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Drives the same high-concurrency read mix against the MVC backend and the reactive variant,
+ * one after the other, and compares tail latency with live threads and heap scraped from
+ * each server's /actuator/prometheus while under load.
+ *
+ * Both servers must be running against the same database; the MVC backend issues the token.
+ * java -cp its-benchmarks/target/benchmarks.jar com.its.benchmarks.load.ReadPathComparison \
+ *     --email=student@its.edu --password=secret --concurrency=512
+ */
+public class ReadPathComparison {
+
+    private static final Duration SAMPLE_INTERVAL = Duration.ofMillis(500);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String mvcUrl = options.getOrDefault("mvc-url", "http://localhost:8080/api");
+        String reactiveUrl = options.getOrDefault("reactive-url", "http://localhost:8081/api");
+        String email = required(options, "email");
+        String password = required(options, "password");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "256"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup-seconds", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration-seconds", "30")));
+        String searchTerm = options.getOrDefault("search-term", "java");
+        Path reportFile = Path.of(options.getOrDefault("report", "target/read-path-comparison.json")).toAbsolutePath();
+
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ApiClient mvc = new ApiClient(mvcUrl, objectMapper);
+        LatencyRecorder setup = new LatencyRecorder();
+        String token = mvc.login(setup, email, password);
+        if (token == null) {
+            throw new IllegalStateException("Login failed for " + email + " at " + mvcUrl);
+        }
+        List<String> topicIds = discoverTopicIds(mvc, objectMapper, token);
+
+        Map<String, String> baseUrls = new LinkedHashMap<>();
+        baseUrls.put("mvc", mvcUrl);
+        baseUrls.put("reactive", reactiveUrl);
+        Map<String, Object> targets = new LinkedHashMap<>();
+        for (Map.Entry<String, String> target : baseUrls.entrySet()) {
+            System.out.printf("Driving %s (%s) with %d virtual users%n", target.getKey(), target.getValue(), concurrency);
+            ApiClient client = new ApiClient(target.getValue(), objectMapper);
+            List<VirtualUser> users = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                users.add(readMix(client, token, topicIds, searchTerm));
+            }
+
+            ScenarioDriver.drive(users, new LatencyRecorder(), warmup);
+            ResourceSampler sampler = new ResourceSampler(client);
+            sampler.start();
+            LatencyRecorder recorder = new LatencyRecorder();
+            long started = System.nanoTime();
+            ScenarioDriver.drive(users, recorder, duration);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+            sampler.stop();
+
+            Map<String, LatencyRecorder.EndpointSummary> endpoints = recorder.summarize(elapsed);
+            print(target.getKey(), endpoints, sampler);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("baseUrl", target.getValue());
+            result.put("peakLiveThreads", sampler.peakThreads);
+            result.put("peakHeapUsedBytes", sampler.peakHeapBytes);
+            result.put("averageHeapUsedBytes", sampler.averageHeapBytes());
+            result.put("endpoints", endpoints);
+            targets.put(target.getKey(), result);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", LocalDateTime.now().toString());
+        report.put("concurrency", concurrency);
+        report.put("durationSeconds", duration.toSeconds());
+        report.put("targets", targets);
+        Files.createDirectories(reportFile.getParent());
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println("Comparison report written to " + reportFile);
+    }
+
+    private static VirtualUser readMix(ApiClient client, String token, List<String> topicIds, String searchTerm) {
+        return recorder -> {
+            String topicId = SeededData.pick(topicIds);
+            client.get(recorder, "GET /content/topic/{topicId}", "/content/topic/" + topicId, token);
+            client.get(recorder, "GET /courses/published", "/courses/published", token);
+            client.get(recorder, "GET /content/search", "/content/search?query=" + ApiClient.encode(searchTerm), token);
+        };
+    }
+
+    private static List<String> discoverTopicIds(ApiClient mvc, ObjectMapper objectMapper, String token) throws Exception {
+        LatencyRecorder setup = new LatencyRecorder();
+        byte[] courses = mvc.get(setup, "GET /courses/published", "/courses/published", token);
+        List<String> topicIds = new ArrayList<>();
+        if (courses != null) {
+            for (JsonNode course : objectMapper.readTree(courses)) {
+                byte[] topics = mvc.get(setup, "GET /topics/course/{courseId}",
+                        "/topics/course/" + course.path("id").asText(), token);
+                if (topics != null) {
+                    objectMapper.readTree(topics).forEach(topic -> topicIds.add(topic.path("id").asText()));
+                }
+                if (topicIds.size() >= 100) {
+                    break;
+                }
+            }
+        }
+        if (topicIds.isEmpty()) {
+            throw new IllegalStateException("No topics under published courses; seed data first (see LoadTestHarness)");
+        }
+        return topicIds;
+    }
+
+    private static void print(String target, Map<String, LatencyRecorder.EndpointSummary> endpoints,
+                              ResourceSampler sampler) {
+        System.out.printf("%n%-32s %10s %8s %10s %9s %9s %9s %9s%n",
+                target, "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        endpoints.forEach((endpoint, summary) -> System.out.printf(
+                "%-32s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, summary.requests(), summary.errors(), summary.throughputPerSecond(),
+                summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.maxMillis()));
+        System.out.printf("peak live threads %d, peak heap used %.1f MB, average heap used %.1f MB%n%n",
+                sampler.peakThreads, sampler.peakHeapBytes / 1048576.0, sampler.averageHeapBytes() / 1048576.0);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("--" + name + " is required");
+        }
+        return value;
+    }
+
+    /**
+     * Polls the target's Prometheus endpoint on a daemon thread while it is under load.
+     */
+    private static final class ResourceSampler {
+
+        private final ApiClient client;
+        private final LatencyRecorder ignored = new LatencyRecorder();
+        private volatile boolean running;
+        private Thread thread;
+        private long peakThreads;
+        private long peakHeapBytes;
+        private long heapSamples;
+        private double heapTotal;
+
+        ResourceSampler(ApiClient client) {
+            this.client = client;
+        }
+
+        void start() {
+            running = true;
+            thread = new Thread(() -> {
+                while (running) {
+                    sample();
+                    try {
+                        Thread.sleep(SAMPLE_INTERVAL.toMillis());
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "resource-sampler");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void stop() throws InterruptedException {
+            running = false;
+            thread.interrupt();
+            thread.join();
+        }
+
+        double averageHeapBytes() {
+            return heapSamples == 0 ? 0 : heapTotal / heapSamples;
+        }
+
+        private void sample() {
+            byte[] body = client.get(ignored, "GET /actuator/prometheus", "/actuator/prometheus", null);
+            if (body == null) {
+                return;
+            }
+            long threads = 0;
+            long heap = 0;
+            for (String line : new String(body, StandardCharsets.UTF_8).split("\n")) {
+                if (line.startsWith("jvm_threads_live_threads")) {
+                    threads = (long) value(line);
+                } else if (line.startsWith("jvm_memory_used_bytes") && line.contains("area=\"heap\"")) {
+                    heap += (long) value(line);
+                }
+            }
+            peakThreads = Math.max(peakThreads, threads);
+            peakHeapBytes = Math.max(peakHeapBytes, heap);
+            heapTotal += heap;
+            heapSamples++;
+        }
+
+        private static double value(String line) {
+            return Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+        }
+    }
+}
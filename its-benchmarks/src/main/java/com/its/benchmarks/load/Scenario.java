@@ -0,0 +1,31 @@
+package com.its.benchmarks.load;
+
+/**
+ * Workloads driven by the harness, each measured in its own phase.
+ */
+enum Scenario {
+    LOGIN_STORM("login"),
+    BROWSING("browse"),
+    SEARCH("search"),
+    BULK_EDIT("edit"),
+    PROGRESS_EVENTS("progress");
+
+    private final String shortName;
+
+    Scenario(String shortName) {
+        this.shortName = shortName;
+    }
+
+    public String getShortName() {
+        return shortName;
+    }
+
+    public static Scenario fromName(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.shortName.equalsIgnoreCase(name) || scenario.name().equalsIgnoreCase(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + name);
+    }
+}
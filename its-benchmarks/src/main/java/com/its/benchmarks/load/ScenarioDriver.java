@@ -0,0 +1,150 @@
+package com.its.benchmarks.load;
+
+import com.its.benchmarks.load.SeededData.SeededMaterial;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Runs one scenario with a fixed number of virtual users for a warmup and a measured window.
+ * Each virtual user logs in once up front (not measured) unless the scenario is the login storm.
+ */
+class ScenarioDriver {
+
+    private static final int EDITS_PER_BATCH = 10;
+    private static final int EVENTS_PER_BATCH = 20;
+
+    private final ApiClient apiClient;
+    private final SeededData data;
+    private final LoadTestConfig config;
+
+    ScenarioDriver(ApiClient apiClient, SeededData data, LoadTestConfig config) {
+        this.apiClient = apiClient;
+        this.data = data;
+        this.config = config;
+    }
+
+    ScenarioResult run(Scenario scenario) throws InterruptedException {
+        List<VirtualUser> users = new ArrayList<>(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            users.add(virtualUser(scenario, i));
+        }
+
+        drive(users, new LatencyRecorder(), config.warmup());
+        LatencyRecorder recorder = new LatencyRecorder();
+        long started = System.nanoTime();
+        drive(users, recorder, config.duration());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        return new ScenarioResult(scenario.getShortName(), config.concurrency(), elapsed.toMillis() / 1000.0,
+                recorder.summarize(elapsed));
+    }
+
+    static void drive(List<VirtualUser> users, LatencyRecorder recorder, Duration window) throws InterruptedException {
+        if (window.isZero()) {
+            return;
+        }
+        long deadline = System.nanoTime() + window.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(users.size());
+        try {
+            for (VirtualUser user : users) {
+                executor.execute(() -> {
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        user.iterate(recorder);
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            if (!executor.awaitTermination(window.toSeconds() + 60, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private VirtualUser virtualUser(Scenario scenario, int index) {
+        LatencyRecorder setup = new LatencyRecorder();
+        return switch (scenario) {
+            case LOGIN_STORM -> recorder ->
+                    apiClient.login(recorder, SeededData.pick(data.studentEmails()), DataSeeder.PASSWORD);
+            case BROWSING -> browsing(login(setup, data.studentEmails().get(index % data.studentEmails().size())));
+            case SEARCH -> search(login(setup, data.studentEmails().get(index % data.studentEmails().size())));
+            case BULK_EDIT -> {
+                String instructor = data.instructorEmails().get(index % data.instructorEmails().size());
+                yield bulkEdit(login(setup, instructor), data.materialsByInstructor().getOrDefault(instructor, List.of()));
+            }
+            case PROGRESS_EVENTS -> progressEvents(login(setup, data.studentEmails().get(index % data.studentEmails().size())));
+        };
+    }
+
+    private String login(LatencyRecorder recorder, String email) {
+        String token = apiClient.login(recorder, email, DataSeeder.PASSWORD);
+        if (token == null) {
+            throw new IllegalStateException("Login failed for seeded user " + email);
+        }
+        return token;
+    }
+
+    private VirtualUser browsing(String token) {
+        return recorder -> {
+            apiClient.get(recorder, "GET /courses/published", "/courses/published", token);
+            String courseId = SeededData.pick(data.courseIds());
+            apiClient.get(recorder, "GET /courses/{id}", "/courses/" + courseId, token);
+            apiClient.get(recorder, "GET /topics/course/{courseId}", "/topics/course/" + courseId, token);
+            List<String> topicIds = data.topicIdsByCourse().get(courseId);
+            if (topicIds != null && !topicIds.isEmpty()) {
+                String topicId = SeededData.pick(topicIds);
+                apiClient.get(recorder, "GET /content/topic/{topicId}", "/content/topic/" + topicId, token);
+            }
+            if (!data.materialIds().isEmpty()) {
+                apiClient.get(recorder, "GET /content/{id}", "/content/" + SeededData.pick(data.materialIds()), token);
+            }
+        };
+    }
+
+    private VirtualUser search(String token) {
+        return recorder -> {
+            String term = SeededData.pick(DataSeeder.VOCABULARY);
+            apiClient.get(recorder, "GET /content/search", "/content/search?query=" + ApiClient.encode(term), token);
+            apiClient.get(recorder, "GET /courses/search", "/courses/search?query=" + ApiClient.encode(term), token);
+            apiClient.get(recorder, "GET /topics/search", "/topics/search?query=" + ApiClient.encode(term), token);
+        };
+    }
+
+    private VirtualUser bulkEdit(String token, List<SeededMaterial> materials) {
+        if (materials.isEmpty()) {
+            throw new IllegalStateException("Bulk edit scenario needs seeded materials for every instructor");
+        }
+        return recorder -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < EDITS_PER_BATCH; i++) {
+                SeededMaterial material = SeededData.pick(materials);
+                Map<String, Object> update = new HashMap<>();
+                update.put("title", "Edited material " + random.nextInt(1_000_000));
+                update.put("type", material.type());
+                update.put("format", "TEXT");
+                update.put("content", "Revised body " + random.nextLong());
+                update.put("topicId", material.topicId());
+                update.put("difficulty", "INTERMEDIATE");
+                update.put("tags", List.of("edited"));
+                update.put("published", true);
+                apiClient.put(recorder, "PUT /content/{id}", "/content/" + material.id(), token, update);
+            }
+        };
+    }
+
+    private VirtualUser progressEvents(String token) {
+        return recorder -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<Map<String, String>> events = new ArrayList<>(EVENTS_PER_BATCH);
+            for (int i = 0; i < EVENTS_PER_BATCH; i++) {
+                events.add(Map.of("materialId", SeededData.pick(data.materialIds()),
+                        "type", random.nextInt(4) == 0 ? "COMPLETE" : "VIEW"));
+            }
+            apiClient.post(recorder, "POST /progress/events/batch", "/progress/events/batch", token, events);
+        };
+    }
+
+    record ScenarioResult(String scenario, int concurrency, double elapsedSeconds,
+                          Map<String, LatencyRecorder.EndpointSummary> endpoints) {}
+}
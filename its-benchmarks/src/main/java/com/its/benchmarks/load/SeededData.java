@@ -0,0 +1,24 @@
+package com.its.benchmarks.load;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Identifiers of the synthetic data set, used by the scenarios to build requests.
+ */
+record SeededData(
+        List<String> studentEmails,
+        List<String> instructorEmails,
+        List<String> courseIds,
+        Map<String, List<String>> topicIdsByCourse,
+        List<String> topicIds,
+        List<String> materialIds,
+        Map<String, List<SeededMaterial>> materialsByInstructor) {
+
+    record SeededMaterial(String id, String topicId, String type) {}
+
+    static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
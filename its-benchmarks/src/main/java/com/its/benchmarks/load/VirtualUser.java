@@ -0,0 +1,9 @@
+package com.its.benchmarks.load;
+
+/**
+ * One simulated client; each call performs a single iteration of its workload.
+ */
+@FunctionalInterface
+interface VirtualUser {
+    void iterate(LatencyRecorder recorder);
+}
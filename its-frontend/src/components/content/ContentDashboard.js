@@ -4,6 +4,7 @@ import { useAuth } from '../../context/AuthContext';
 import ContentForm from './ContentForm';
 import courseService from '../../services/courseService';
 import topicService from '../../services/topicService';
+import contentService from '../../services/contentService';
 import './content.css';
 
 /**
@@ -70,6 +71,16 @@ const ContentDashboard = () => {
     }
   };
 
+  const handleEdit = async (content) => {
+    // Listings carry only an excerpt, so load the full body before editing
+    try {
+      const response = await contentService.getContentById(content.id);
+      setEditingContent(response.data);
+    } catch (error) {
+      alert('Failed to load content for editing');
+    }
+  };
+
   const handleDelete = async (id) => {
     if (window.confirm('Are you sure you want to delete this content?')) {
       const result = await deleteContent(id);
@@ -196,7 +207,7 @@ const ContentDashboard = () => {
                 
                 {(content.type === 'LECTURE' || content.type === 'READING') && (
                   <p className="content-preview">
-                    {content.content?.substring(0, 150)}...
+                    {content.excerpt?.substring(0, 150)}...
                   </p>
                 )}
                 {content.type === 'VIDEO' && (
@@ -251,7 +262,7 @@ const ContentDashboard = () => {
                   <div className="content-actions">
                     <button
                       className="btn btn-sm btn-secondary"
-                      onClick={() => setEditingContent(content)}
+                      onClick={() => handleEdit(content)}
                     >
                       Edit
                     </button>
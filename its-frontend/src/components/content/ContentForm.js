@@ -4,6 +4,17 @@ import contentService from '../../services/contentService';
 import topicService from '../../services/topicService';
 import courseService from '../../services/courseService';
 
+// datetime-local inputs hold the browser's wall-clock time; the API takes and returns UTC instants
+const toInstant = (localValue) => (localValue ? new Date(localValue).toISOString() : null);
+
+const toLocalInput = (instant) => {
+  if (!instant) {
+    return '';
+  }
+  const date = new Date(instant);
+  return new Date(date.getTime() - date.getTimezoneOffset() * 60000).toISOString().substring(0, 16);
+};
+
 /**
  * Content Form Component following Single Responsibility Principle
  * Handles content creation and editing
@@ -18,7 +29,9 @@ const ContentForm = ({ content, onClose, onSuccess }) => {
     topicId: '',
     difficulty: 'BEGINNER',
     tags: [],
-    published: false
+    published: false,
+    publishAt: '',
+    unpublishAt: ''
   });
   const [errors, setErrors] = useState({});
   const [isLoading, setIsLoading] = useState(false);
@@ -48,7 +61,9 @@ const ContentForm = ({ content, onClose, onSuccess }) => {
         topicId: content.topicId || '',
         difficulty: content.difficulty || 'BEGINNER',
         tags: content.tags || [],
-        published: content.published || false
+        published: content.published || false,
+        publishAt: toLocalInput(content.publishAt),
+        unpublishAt: toLocalInput(content.unpublishAt)
       });
       
       // If editing, load the course and topics for the selected topic
@@ -219,11 +234,17 @@ const ContentForm = ({ content, onClose, onSuccess }) => {
 
     setIsLoading(true);
     try {
+      // Empty schedule fields mean no scheduled transition
+      const payload = {
+        ...formData,
+        publishAt: toInstant(formData.publishAt),
+        unpublishAt: toInstant(formData.unpublishAt)
+      };
       let result;
       if (isEditing) {
-        result = await updateContent(content.id, formData);
+        result = await updateContent(content.id, payload);
       } else {
-        result = await createContent(formData);
+        result = await createContent(payload);
       }
       
       if (result.success) {
@@ -521,6 +542,30 @@ const ContentForm = ({ content, onClose, onSuccess }) => {
           </label>
         </div>
 
+        <div className="form-group">
+          <label htmlFor="publishAt" className="form-label">Publish at (optional, overrides the checkbox)</label>
+          <input
+            type="datetime-local"
+            id="publishAt"
+            name="publishAt"
+            value={formData.publishAt}
+            onChange={handleChange}
+            className="form-control"
+          />
+        </div>
+
+        <div className="form-group">
+          <label htmlFor="unpublishAt" className="form-label">Unpublish at (optional)</label>
+          <input
+            type="datetime-local"
+            id="unpublishAt"
+            name="unpublishAt"
+            value={formData.unpublishAt}
+            onChange={handleChange}
+            className="form-control"
+          />
+        </div>
+
         <div className="form-actions">
           <button
             type="button"
@@ -9,6 +9,7 @@ const ManageContent = () => {
   const [activeTab, setActiveTab] = useState('courses');
   const [courses, setCourses] = useState([]);
   const [topics, setTopics] = useState([]);
+  const [dashboard, setDashboard] = useState(null);
   const [selectedCourse, setSelectedCourse] = useState(null);
   const [showCourseForm, setShowCourseForm] = useState(false);
   const [showTopicForm, setShowTopicForm] = useState(false);
@@ -39,8 +40,12 @@ const ManageContent = () => {
     try {
       const token = localStorage.getItem('token');
       // Always fetch courses since they're needed for topic form
-      const coursesResponse = await courseService.getMyCourses(token);
+      const [coursesResponse, dashboardResponse] = await Promise.all([
+        courseService.getMyCourses(token),
+        courseService.getMyDashboard(token)
+      ]);
       setCourses(coursesResponse.data);
+      setDashboard(dashboardResponse.data);
       
       if (activeTab === 'topics') {
         const topicsResponse = await topicService.getAllTopics();
@@ -171,6 +176,25 @@ const ManageContent = () => {
         <p>Organize your courses, topics, and learning materials</p>
       </div>
 
+      {dashboard && (
+        <div className="dashboard-summary">
+          <div className="summary-card">
+            <strong>{dashboard.courses.count}</strong> courses
+            <span>{dashboard.courses.publishedCount} published · {dashboard.courses.draftCount} drafts</span>
+          </div>
+          <div className="summary-card">
+            <strong>{dashboard.materials.count}</strong> materials
+            <span>{dashboard.materials.publishedCount} published · {dashboard.materials.draftCount} drafts</span>
+          </div>
+          {dashboard.materials.recent.length > 0 && (
+            <div className="summary-card">
+              Recently edited
+              <span>{dashboard.materials.recent.slice(0, 3).map(item => item.title).join(', ')}</span>
+            </div>
+          )}
+        </div>
+      )}
+
       <div className="tabs">
         <button
           className={`tab ${activeTab === 'courses' ? 'active' : ''}`}
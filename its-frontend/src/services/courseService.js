@@ -50,6 +50,12 @@ const courseService = {
       headers: { Authorization: `Bearer ${token}` }
     }),
   
+  // Counts, draft/published split and recently edited items in one read
+  getMyDashboard: (token) =>
+    axios.get(`${API_URL}/dashboard/me`, {
+      headers: { Authorization: `Bearer ${token}` }
+    }),
+  
   getDifficultyLevels: () => axios.get(`${API_URL}/courses/difficulty-levels`)
 };
 
@@ -31,7 +31,8 @@ httpClient.interceptors.request.use(
 httpClient.interceptors.response.use(
   (response) => response,
   (error) => {
-    if (error.response?.status === 401) {
+    // Failed logins also answer 401; only redirect when an existing session is rejected
+    if (error.response?.status === 401 && !error.config?.url?.startsWith('/auth/login')) {
       // Token expired or invalid
       localStorage.removeItem('token');
       window.location.href = '/login';
@@ -0,0 +1,24 @@
+package com.its.reactive;
+
+import com.its.infrastructure.security.JwtTokenProvider;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+import java.util.Map;
+
+/**
+ * Non-blocking deployment of the high fan-out read endpoints.
+ * Shares entities and JWT validation with its-backend; configuration lives in reactive.properties
+ * so it cannot be shadowed by the backend's application.properties on the classpath.
+ */
+@SpringBootApplication
+@Import(JwtTokenProvider.class)
+public class ItsReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ItsReactiveApplication.class);
+        application.setDefaultProperties(Map.of("spring.config.name", "reactive"));
+        application.run(args);
+    }
+}
@@ -0,0 +1,37 @@
+package com.its.reactive.application.controllers;
+
+import com.its.domain.entities.LearningMaterial;
+import com.its.reactive.persistence.repositories.ReactiveLearningMaterialRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streamed content reads mirroring ContentController's GET endpoints.
+ * Accept: application/x-ndjson streams one material per line as it arrives from Mongo;
+ * cursor demand follows the client through limitRate.
+ */
+@RestController
+@RequestMapping("/content")
+public class ReactiveContentController {
+
+    private final ReactiveLearningMaterialRepository materialRepository;
+    private final int prefetch;
+
+    public ReactiveContentController(ReactiveLearningMaterialRepository materialRepository,
+                                     @Value("${reactive.stream.prefetch}") int prefetch) {
+        this.materialRepository = materialRepository;
+        this.prefetch = prefetch;
+    }
+
+    @GetMapping(value = "/topic/{topicId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<LearningMaterial> getContentByTopic(@PathVariable String topicId) {
+        return materialRepository.findPublishedByTopicId(topicId).limitRate(prefetch);
+    }
+
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<LearningMaterial> searchContent(@RequestParam String query) {
+        return materialRepository.findByTitleContainingIgnoreCase(query).limitRate(prefetch);
+    }
+}
@@ -0,0 +1,35 @@
+package com.its.reactive.application.controllers;
+
+import com.its.domain.entities.Course;
+import com.its.reactive.persistence.repositories.ReactiveCourseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streamed course reads mirroring CourseController's published and search endpoints
+ */
+@RestController
+@RequestMapping("/courses")
+public class ReactiveCourseController {
+
+    private final ReactiveCourseRepository courseRepository;
+    private final int prefetch;
+
+    public ReactiveCourseController(ReactiveCourseRepository courseRepository,
+                                    @Value("${reactive.stream.prefetch}") int prefetch) {
+        this.courseRepository = courseRepository;
+        this.prefetch = prefetch;
+    }
+
+    @GetMapping(value = "/published", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Course> getPublishedCourses() {
+        return courseRepository.findByPublished(true).limitRate(prefetch);
+    }
+
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Course> searchCourses(@RequestParam String query) {
+        return courseRepository.findByTitleContainingIgnoreCase(query).limitRate(prefetch);
+    }
+}
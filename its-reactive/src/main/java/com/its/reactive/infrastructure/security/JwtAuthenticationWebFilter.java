@@ -0,0 +1,81 @@
+package com.its.reactive.infrastructure.security;
+
+import com.its.domain.entities.User;
+import com.its.domain.entities.UserRole;
+import com.its.infrastructure.security.JwtTokenProvider;
+import com.its.reactive.persistence.repositories.ReactiveUserRepository;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Bearer token check for the reactive variant, matching the backend's access rules:
+ * the token must be valid and belong to an active user, public paths are open
+ * and the remaining actuator endpoints need ADMIN.
+ */
+@Component
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    public static final String PRINCIPAL_ATTRIBUTE = JwtAuthenticationWebFilter.class.getName() + ".principal";
+
+    private static final Set<String> PUBLIC_PATHS = Set.of("/content/search", "/actuator/health", "/actuator/prometheus");
+
+    private final JwtTokenProvider tokenProvider;
+    private final ReactiveUserRepository userRepository;
+
+    public JwtAuthenticationWebFilter(JwtTokenProvider tokenProvider, ReactiveUserRepository userRepository) {
+        this.tokenProvider = tokenProvider;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        if (PUBLIC_PATHS.contains(path)) {
+            return chain.filter(exchange);
+        }
+
+        String jwt = getJwtFromRequest(exchange);
+        if (!StringUtils.hasText(jwt) || !tokenProvider.validateToken(jwt)) {
+            return reject(exchange, HttpStatus.UNAUTHORIZED);
+        }
+
+        // chain.filter completes empty, so a missing user is carried as Optional rather than via switchIfEmpty
+        return userRepository.findActiveUserByEmail(tokenProvider.getEmailFromToken(jwt))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(user -> authorize(exchange, chain, path, user));
+    }
+
+    private Mono<Void> authorize(ServerWebExchange exchange, WebFilterChain chain, String path, Optional<User> user) {
+        if (user.isEmpty()) {
+            return reject(exchange, HttpStatus.UNAUTHORIZED);
+        }
+        if (path.startsWith("/actuator/") && user.get().getRole() != UserRole.ADMIN) {
+            return reject(exchange, HttpStatus.FORBIDDEN);
+        }
+        exchange.getAttributes().put(PRINCIPAL_ATTRIBUTE, user.get());
+        return chain.filter(exchange);
+    }
+
+    private String getJwtFromRequest(ServerWebExchange exchange) {
+        String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, HttpStatus status) {
+        exchange.getResponse().setStatusCode(status);
+        return exchange.getResponse().setComplete();
+    }
+}
@@ -0,0 +1,19 @@
+package com.its.reactive.persistence.repositories;
+
+import com.its.domain.entities.Course;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive counterpart of CourseRepository for the streamed read paths
+ */
+@Repository
+public interface ReactiveCourseRepository extends ReactiveMongoRepository<Course, String> {
+
+    Flux<Course> findByPublished(boolean published);
+
+    @Query("{ 'title': { $regex: ?0, $options: 'i' } }")
+    Flux<Course> findByTitleContainingIgnoreCase(String title);
+}
@@ -0,0 +1,20 @@
+package com.its.reactive.persistence.repositories;
+
+import com.its.domain.entities.LearningMaterial;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive counterpart of LearningMaterialRepository for the streamed read paths
+ */
+@Repository
+public interface ReactiveLearningMaterialRepository extends ReactiveMongoRepository<LearningMaterial, String> {
+
+    @Query("{ 'title': { $regex: ?0, $options: 'i' } }")
+    Flux<LearningMaterial> findByTitleContainingIgnoreCase(String title);
+
+    @Query("{ 'topicId': ?0, 'published': true }")
+    Flux<LearningMaterial> findPublishedByTopicId(String topicId);
+}
@@ -0,0 +1,17 @@
+package com.its.reactive.persistence.repositories;
+
+import com.its.domain.entities.User;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive user lookup used to resolve the principal of a bearer token
+ */
+@Repository
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String> {
+
+    @Query("{ 'email': ?0, 'active': true }")
+    Mono<User> findActiveUserByEmail(String email);
+}